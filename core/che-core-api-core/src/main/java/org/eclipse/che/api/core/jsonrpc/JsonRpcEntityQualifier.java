@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.jsonrpc;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
@@ -19,8 +20,6 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -31,6 +30,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * {@link JsonRpcEntityType#RESPONSE}, {@link JsonRpcEntityType#UNDEFINED}.
  * This implementations uses {@link JsonParser} to parse and analyze incoming
  * entities and expects that message that is to be qualified is a valid json.
+ * Already parsed entities can be qualified with {@link #qualify(JsonElement)}.
  */
 @Singleton
 public class JsonRpcEntityQualifier {
@@ -46,11 +46,21 @@ public class JsonRpcEntityQualifier {
     public JsonRpcEntityType qualify(String message) {
         checkNotNull(message, "Message must not be null");
         checkArgument(!message.isEmpty(), "Message must not be empty");
-        LOG.debug("Qualifying message: " + message);
+        LOG.debug("Qualifying message: {}", message);
 
-        JsonObject jsonObject = jsonParser.parse(message).getAsJsonObject();
-        LOG.debug("Json keys: " + jsonObject.entrySet().stream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+        return qualify(jsonParser.parse(message));
+    }
+
+    public JsonRpcEntityType qualify(JsonElement jsonElement) {
+        checkNotNull(jsonElement, "Json element must not be null");
+
+        if (!jsonElement.isJsonObject()) {
+            LOG.debug("Qualified to undefined");
+
+            return JsonRpcEntityType.UNDEFINED;
+        }
 
+        JsonObject jsonObject = jsonElement.getAsJsonObject();
         if (jsonObject.has("method")) {
             LOG.debug("Qualified to request");
 
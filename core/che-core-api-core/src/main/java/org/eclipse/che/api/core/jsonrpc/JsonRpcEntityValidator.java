@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.jsonrpc;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 
@@ -26,7 +27,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 /**
  * Simple class to validate if we're dealing with a properly constructed
  * json represented by a string. We use {@link JsonParser} to parse string
- * message and to rise exception if json is incorrect.
+ * message and to rise exception if json is incorrect. Parsed json is returned
+ * to be passed further, so the message is not parsed again.
  */
 @Singleton
 public class JsonRpcEntityValidator {
@@ -39,16 +41,18 @@ public class JsonRpcEntityValidator {
         this.jsonParser = jsonParser;
     }
 
-    public void validate(String message) throws JsonRpcException {
+    public JsonElement validate(String message) throws JsonRpcException {
         checkNotNull(message, "Message must not be null");
         checkArgument(!message.isEmpty(), "Message must not be empty");
 
         LOG.debug("Validating message: {}", message);
 
         try {
-            jsonParser.parse(message);
+            JsonElement jsonElement = jsonParser.parse(message);
 
             LOG.debug("Validation successful");
+
+            return jsonElement;
         } catch (JsonParseException e) {
             LOG.debug("Validation failed: {}", e.getMessage(), e);
 
@@ -39,16 +39,16 @@ public class JsonRpcError {
         checkNotNull(message, "Message must not be null");
         checkArgument(!message.isEmpty(), "Message must not be empty");
 
-        this.code = getCode(message, jsonParser);
-        this.message = getMessage(message, jsonParser);
+        JsonObject error = jsonParser.parse(message).getAsJsonObject();
+        this.code = error.get("code").getAsInt();
+        this.message = error.get("message").getAsString();
     }
 
-    private static String getMessage(String message, JsonParser jsonParser) {
-        return jsonParser.parse(message).getAsJsonObject().get("message").getAsString();
-    }
+    JsonRpcError(JsonObject error) {
+        checkNotNull(error, "Error must not be null");
 
-    private static int getCode(String message, JsonParser jsonParser) {
-        return jsonParser.parse(message).getAsJsonObject().get("code").getAsInt();
+        this.code = error.get("code").getAsInt();
+        this.message = error.get("message").getAsString();
     }
 
     public JsonObject toJsonObject() {
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.jsonrpc;
 
+import com.google.gson.JsonElement;
+
 import org.eclipse.che.api.core.jsonrpc.JsonRpcEntityQualifier.JsonRpcEntityType;
 import org.eclipse.che.api.core.websocket.WebSocketMessageReceiver;
 import org.slf4j.Logger;
@@ -17,16 +19,16 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.List;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static org.eclipse.che.api.core.jsonrpc.JsonRpcList.isArray;
 
 /**
  * Receives and process messages coming from web socket service. Basically
  * it validates, qualifies and transforms a raw web socket message to a JSON
- * RPC known structure and pass it further to appropriate dispatchers. In case
+ * RPC known structure and pass it further to appropriate dispatchers. Message
+ * is parsed only once during validation, the parsed json is used for
+ * qualification and creation of JSON RPC entities. In case
  * of any {@link JsonRpcException} happens during request/response processing
  * this class is also responsible for an error transmission.
  */
@@ -63,40 +65,38 @@ public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
         checkNotNull(message, "Message must not be null");
         checkArgument(!message.isEmpty(), "Message must not be empty");
 
-        LOG.debug("Receiving message: " + message + ", from endpoint: " + endpointId);
+        LOG.debug("Receiving message: {}, from endpoint: {}", message, endpointId);
         try {
-            entityValidator.validate(message);
+            JsonElement jsonElement = entityValidator.validate(message);
 
-            if (isArray(message)) {
+            if (jsonElement.isJsonArray()) {
                 LOG.debug("Message is an array, processing an array");
 
-                JsonRpcList list = jsonRpcFactory.createList(message);
-                List<String> messages = list.toStringifiedList();
-                for (String listMessage : messages) {
-                    processObject(endpointId, listMessage);
+                for (JsonElement listElement : jsonElement.getAsJsonArray()) {
+                    processObject(endpointId, listElement);
                 }
             } else {
                 LOG.debug("Message is not an array");
 
-                processObject(endpointId, message);
+                processObject(endpointId, jsonElement);
             }
         } catch (JsonRpcException e) {
             errorTransmitter.transmit(endpointId, e);
         }
     }
 
-    private void processObject(String endpointId, String message) throws JsonRpcException {
-        LOG.debug("Processing end object: " + message);
+    private void processObject(String endpointId, JsonElement jsonElement) throws JsonRpcException {
+        LOG.debug("Processing end object: {}", jsonElement);
 
-        JsonRpcEntityType type = entityQualifier.qualify(message);
+        JsonRpcEntityType type = entityQualifier.qualify(jsonElement);
 
         switch (type) {
             case REQUEST:
-                JsonRpcRequest request = jsonRpcFactory.createRequest(message);
+                JsonRpcRequest request = jsonRpcFactory.createRequest(jsonElement.getAsJsonObject());
                 requestDispatcher.dispatch(endpointId, request);
                 break;
             case RESPONSE:
-                JsonRpcResponse response = jsonRpcFactory.createResponse(message);
+                JsonRpcResponse response = jsonRpcFactory.createResponse(jsonElement.getAsJsonObject());
                 responseDispatcher.dispatch(endpointId, response);
                 break;
             case UNDEFINED:
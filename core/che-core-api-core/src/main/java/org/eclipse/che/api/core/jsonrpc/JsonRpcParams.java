@@ -29,10 +29,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * Represents JSON RPC params object. Can be constructed out of
- * stringified json object or by passing specific parameters.
+ * stringified or parsed json object or by passing specific parameters.
  * Use {@link JsonRpcFactory#createParams(Object)},
- * {@link JsonRpcFactory#createParamsList(List)} or
- * {@link JsonRpcFactory#createParams(String)} to get an instance.
+ * {@link JsonRpcFactory#createParamsList(List)},
+ * {@link JsonRpcFactory#createParams(String)} or
+ * {@link JsonRpcFactory#createParams(JsonElement)} to get an instance.
  */
 public class JsonRpcParams {
     private final static JsonObject EMPTY_OBJECT = new JsonObject();
@@ -45,14 +46,14 @@ public class JsonRpcParams {
         checkNotNull(message, "Message must not be null");
         checkArgument(!message.isEmpty(), "Message must not be empty");
 
-        JsonElement jsonElement = jsonParser.parse(message);
-        if (jsonElement.isJsonArray()) {
-            JsonArray jsonArray = jsonParser.parse(message).getAsJsonArray();
-            paramsList = new ArrayList<>(jsonArray.size());
-            jsonArray.forEach(it -> paramsList.add(it));
-        } else {
-            params = jsonParser.parse(message);
-        }
+        init(jsonParser.parse(message));
+    }
+
+    @AssistedInject
+    public JsonRpcParams(@Assisted("message") JsonElement message) {
+        checkNotNull(message, "Message must not be null");
+
+        init(message);
     }
 
     @AssistedInject
@@ -69,6 +70,16 @@ public class JsonRpcParams {
         }
     }
 
+    private void init(JsonElement jsonElement) {
+        if (jsonElement.isJsonArray()) {
+            JsonArray jsonArray = jsonElement.getAsJsonArray();
+            paramsList = new ArrayList<>(jsonArray.size());
+            jsonArray.forEach(it -> paramsList.add(it));
+        } else {
+            params = jsonElement;
+        }
+    }
+
     public boolean emptyOrAbsent() {
         return (paramsList == null || paramsList.isEmpty()) && (params == null || EMPTY_OBJECT.equals(params));
     }
@@ -20,9 +20,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * Represents JSON RPC request object. Can be constructed out of
- * stringified json object or by passing specific parameters.
+ * stringified or parsed json object or by passing specific parameters.
  * Use {@link JsonRpcFactory#createRequest(String, String, JsonRpcParams)}
- * {@link JsonRpcFactory#createRequest(String)} or
+ * {@link JsonRpcFactory#createRequest(String)},
+ * {@link JsonRpcFactory#createRequest(JsonObject)} or
  * {@link JsonRpcFactory#createRequest(String, JsonRpcParams)} to get an instance.
  */
 public class JsonRpcRequest {
@@ -32,10 +33,12 @@ public class JsonRpcRequest {
 
     @AssistedInject
     public JsonRpcRequest(@Assisted("message") String message, JsonParser jsonParser, JsonRpcFactory jsonRpcFactory) {
-        checkNotNull(message, "Message must not be null");
-        checkArgument(!message.isEmpty(), "Message must not be empty");
+        this(parse(message, jsonParser), jsonRpcFactory);
+    }
 
-        JsonObject jsonObject = jsonParser.parse(message).getAsJsonObject();
+    @AssistedInject
+    public JsonRpcRequest(@Assisted("message") JsonObject jsonObject, JsonRpcFactory jsonRpcFactory) {
+        checkNotNull(jsonObject, "Message must not be null");
 
         method = jsonObject.get("method").getAsString();
 
@@ -46,7 +49,7 @@ public class JsonRpcRequest {
         }
 
         if (jsonObject.has("params")) {
-            params = jsonRpcFactory.createParams(jsonObject.get("params").toString());
+            params = jsonRpcFactory.createParams(jsonObject.get("params"));
         } else {
             params = null;
         }
@@ -69,6 +72,13 @@ public class JsonRpcRequest {
         this(null, method, params, jsonParser);
     }
 
+    private static JsonObject parse(String message, JsonParser jsonParser) {
+        checkNotNull(message, "Message must not be null");
+        checkArgument(!message.isEmpty(), "Message must not be empty");
+
+        return jsonParser.parse(message).getAsJsonObject();
+    }
+
     public boolean hasParams() {
         return params != null && !params.emptyOrAbsent();
     }
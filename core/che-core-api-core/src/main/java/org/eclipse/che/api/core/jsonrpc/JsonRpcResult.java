@@ -46,14 +46,13 @@ public class JsonRpcResult {
         checkNotNull(message, "Message must not be null");
         checkArgument(!message.isEmpty(), "Message must not be empty");
 
-        JsonElement result = jsonParser.parse(message);
-        if (result.isJsonArray()) {
-            JsonArray jsonArray = result.getAsJsonArray();
-            this.resultList = new ArrayList<>(jsonArray.size());
-            jsonArray.forEach(it -> this.resultList.add(it));
-        } else {
-            this.result = jsonParser.parse(message);
-        }
+        init(jsonParser.parse(message));
+    }
+
+    JsonRpcResult(JsonElement result) {
+        checkNotNull(result, "Result must not be null");
+
+        init(result);
     }
 
     @AssistedInject
@@ -70,6 +69,16 @@ public class JsonRpcResult {
         }
     }
 
+    private void init(JsonElement result) {
+        if (result.isJsonArray()) {
+            JsonArray jsonArray = result.getAsJsonArray();
+            this.resultList = new ArrayList<>(jsonArray.size());
+            jsonArray.forEach(it -> this.resultList.add(it));
+        } else {
+            this.result = result;
+        }
+    }
+
     public boolean isEmptyOrAbsent() {
         return (result == null || EMPTY_OBJECT.equals(result)) && (resultList == null || resultList.isEmpty());
     }
@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -23,7 +24,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
 /**
  * Dispatches incoming JSON RPC requests and notifications. If during
  * dispatching happens any kind of error related to JSON RPC it throws
- * appropriate exception {@link JsonRpcException}.
+ * appropriate exception {@link JsonRpcException}. Handlers are executed
+ * asynchronously by {@link RequestProcessor}, errors that happen during
+ * handling are transmitted with {@link JsonRpcErrorTransmitter}, unexpected
+ * failure of request handler is answered with JSON RPC internal error.
  */
 @Singleton
 public class RequestDispatcher {
@@ -32,12 +36,20 @@ public class RequestDispatcher {
     private final RequestHandlerRegistry      registry;
     private final JsonRpcFactory              factory;
     private final WebSocketMessageTransmitter transmitter;
+    private final JsonRpcErrorTransmitter     errorTransmitter;
+    private final RequestProcessor            processor;
 
     @Inject
-    public RequestDispatcher(RequestHandlerRegistry registry, WebSocketMessageTransmitter transmitter, JsonRpcFactory factory) {
+    public RequestDispatcher(RequestHandlerRegistry registry,
+                             WebSocketMessageTransmitter transmitter,
+                             JsonRpcFactory factory,
+                             JsonRpcErrorTransmitter errorTransmitter,
+                             RequestProcessor processor) {
         this.registry = registry;
         this.transmitter = transmitter;
         this.factory = factory;
+        this.errorTransmitter = errorTransmitter;
+        this.processor = processor;
     }
 
     public void dispatch(String endpointId, JsonRpcRequest request) throws JsonRpcException {
@@ -56,17 +68,40 @@ public class RequestDispatcher {
             String id = request.getId();
             RequestHandler handler = registry.getRequestHandler(method);
             checkHandler(method, handler, id);
-            JsonRpcResult result = handler.handle(endpointId, params);
-            JsonRpcResponse response = factory.createResponse(id, result, null);
+            execute(endpointId, id, () -> {
+                JsonRpcResult result = handler.handle(endpointId, params);
+                JsonRpcResponse response = factory.createResponse(id, result, null);
 
-            LOG.debug("Transmitting back a response: {}", response);
-            transmitter.transmit(endpointId, response.toString());
+                LOG.debug("Transmitting back a response: {}", response);
+                transmitter.transmit(endpointId, response.toString());
+            });
         } else {
             LOG.debug("Request has no ID -> it is a notification");
 
             NotificationHandler handler = registry.getNotificationHandler(method);
             checkHandler(method, handler, null);
-            handler.handle(endpointId, params);
+            execute(endpointId, null, () -> handler.handle(endpointId, params));
+        }
+    }
+
+    private void execute(String endpointId, String id, Handling handling) throws JsonRpcException {
+        try {
+            processor.execute(endpointId, () -> {
+                try {
+                    handling.handle();
+                } catch (JsonRpcException e) {
+                    errorTransmitter.transmit(endpointId, e);
+                } catch (RuntimeException e) {
+                    if (id == null) {
+                        throw e;
+                    }
+                    LOG.error("Error occurred while handling JSON RPC request {} from endpoint {}", id, endpointId, e);
+                    errorTransmitter.transmit(endpointId, new JsonRpcException(-32603, "Internal error: " + e.getMessage(), id));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.warn(e.getMessage());
+            throw new JsonRpcException(-32000, "Server is busy: " + e.getMessage(), id);
         }
     }
 
@@ -76,4 +111,8 @@ public class RequestDispatcher {
             throw new JsonRpcException(-32601, "Method '" + method + "' not registered", id);
         }
     }
+
+    private interface Handling {
+        void handle() throws JsonRpcException;
+    }
 }
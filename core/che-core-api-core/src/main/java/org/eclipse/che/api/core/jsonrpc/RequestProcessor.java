@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.jsonrpc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes JSON RPC request and notification handlers outside of web socket
+ * container threads, so a slow handler doesn't block reading of the socket.
+ * Tasks of a single endpoint are executed one by one in order of their arrival,
+ * while tasks of different endpoints are executed in parallel in a shared pool.
+ * Number of tasks waiting for execution is limited per endpoint, a task that
+ * exceeds the limit is rejected with {@link RejectedExecutionException}.
+ *
+ * <p>Pool size and queue limit are configured with {@code che.core.jsonrpc.processor_max_pool_size}
+ * and {@code che.core.jsonrpc.processor_queue_capacity} properties.
+ */
+@Singleton
+public class RequestProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(RequestProcessor.class);
+
+    private static final int DEFAULT_MAX_POOL_SIZE  = 50;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /** Tasks of endpoints, endpoint has a queue only while its tasks are being executed. */
+    private final Map<String, Queue<Runnable>> queues = new HashMap<>();
+
+    @Inject(optional = true)
+    @Named("che.core.jsonrpc.processor_max_pool_size")
+    private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+
+    @Inject(optional = true)
+    @Named("che.core.jsonrpc.processor_queue_capacity")
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    private ThreadPoolExecutor executor;
+
+    public RequestProcessor() {
+    }
+
+    @VisibleForTesting
+    RequestProcessor(int maxPoolSize, int queueCapacity) {
+        this.maxPoolSize = maxPoolSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = new ThreadPoolExecutor(maxPoolSize,
+                                          maxPoolSize,
+                                          60L,
+                                          TimeUnit.SECONDS,
+                                          new LinkedBlockingQueue<>(),
+                                          new ThreadFactoryBuilder().setNameFormat("JsonRpcRequestProcessor-%d")
+                                                                    .setUncaughtExceptionHandler(
+                                                                            LoggingUncaughtExceptionHandler.getInstance())
+                                                                    .setDaemon(true)
+                                                                    .build());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Schedules execution of the task after all previously scheduled tasks of the same endpoint.
+     *
+     * @throws RejectedExecutionException
+     *         when endpoint has too many tasks waiting for execution
+     */
+    public void execute(String endpointId, Runnable task) {
+        boolean start = false;
+        synchronized (queues) {
+            Queue<Runnable> queue = queues.get(endpointId);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(endpointId, queue);
+                start = true;
+            } else if (queue.size() >= queueCapacity) {
+                throw new RejectedExecutionException("Too many requests from endpoint " + endpointId + " are waiting for processing");
+            }
+            queue.add(task);
+        }
+        if (start) {
+            executor.execute(() -> runNext(endpointId));
+        }
+    }
+
+    private void runNext(String endpointId) {
+        final Runnable task;
+        synchronized (queues) {
+            task = queues.get(endpointId).poll();
+            if (task == null) {
+                queues.remove(endpointId);
+                return;
+            }
+        }
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LOG.error("Error occurred while processing JSON RPC request from endpoint {}", endpointId, e);
+        }
+        // the next task is resubmitted rather than run in place, so busy endpoints take turns with others
+        executor.execute(() -> runNext(endpointId));
+    }
+}
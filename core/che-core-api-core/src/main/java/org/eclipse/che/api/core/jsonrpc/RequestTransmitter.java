@@ -110,6 +110,35 @@ public class RequestTransmitter {
 
     }
 
+    /**
+     * Transmit an idempotent notification with params as a single object, such
+     * notification may be coalesced with an equal one or dropped if endpoint
+     * can't keep up with transmissions
+     *
+     * @param endpointId
+     *         endpoint to address a transmission
+     * @param method
+     *         method name to address a transmission
+     * @param pValue
+     *         params value
+     * @param <P>
+     *         params class
+     */
+    public <P> void transmitIdempotentOneToNone(String endpointId, String method, P pValue) {
+        checkEndpointId(endpointId);
+        checkMethodName(method);
+        checkParamsValue(pValue);
+
+        LOG.debug("Initiating a transmission of an idempotent notification: endpoint ID: {}, method: {}, params: {}",
+                  endpointId, method, pValue);
+
+        transmitter.newRequest()
+                   .endpointId(endpointId)
+                   .methodName(method)
+                   .paramsAsDto(pValue)
+                   .sendIdempotentAndSkipResult();
+    }
+
     /**
      * Transmit a notification with params as a list of objects
      *
@@ -10,28 +10,83 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.jsonrpc;
 
-import org.eclipse.che.api.core.jsonrpc.transmission.MethodNameConfigurator;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
 import javax.inject.Singleton;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Dispatches JSON RPC responses
+ * Dispatches JSON RPC responses.
+ *
+ * <p>Each registered promise is kept in a table of pending requests until
+ * the response with the corresponding ID is dispatched or until request
+ * times out. Timed out requests are removed from the table and their
+ * failure consumers are called with {@link #TIMEOUT_ERROR_CODE} error.
+ * Request timeout is configured with {@code che.core.jsonrpc.response_timeout_sec}
+ * property, non-positive value disables timeouts.
  */
 @Singleton
 public class ResponseDispatcher {
-    private static final Logger LOG = LoggerFactory.getLogger(MethodNameConfigurator.class);
+    public static final int TIMEOUT_ERROR_CODE = -32000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseDispatcher.class);
+
+    private static final long DEFAULT_TIMEOUT_SEC     = 60;
+    private static final long EXPIRATION_PERIOD_MILLIS = 1000;
 
-    private final Map<String, JsonRpcPromise> promises = new HashMap<>();
-    private final Map<String, Class<?>>       rClasses = new HashMap<>();
+    private final Map<String, PendingResponse> pending = new ConcurrentHashMap<>();
+    private final AtomicLong                   expired = new AtomicLong();
+
+    private ScheduledExecutorService expirationExecutor;
+
+    @Inject(optional = true)
+    @Named("che.core.jsonrpc.response_timeout_sec")
+    private long timeoutSec = DEFAULT_TIMEOUT_SEC;
+
+    public ResponseDispatcher() {
+    }
+
+    @VisibleForTesting
+    ResponseDispatcher(long timeoutSec) {
+        this.timeoutSec = timeoutSec;
+    }
+
+    @PostConstruct
+    public void start() {
+        expirationExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("ResponseDispatcherExpiration-%d")
+                                          .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                                          .setDaemon(true)
+                                          .build());
+        expirationExecutor.scheduleWithFixedDelay(() -> expire(System.currentTimeMillis()),
+                                                  EXPIRATION_PERIOD_MILLIS,
+                                                  EXPIRATION_PERIOD_MILLIS,
+                                                  TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        expirationExecutor.shutdownNow();
+    }
 
     private static void checkArguments(String endpointId, String requestId, Class<?> rClass, JsonRpcPromise success) {
         checkNotNull(endpointId, "Endpoint ID must not be null");
@@ -59,7 +114,9 @@ public class ResponseDispatcher {
 
         JsonRpcResult jsonRpcResult = response.getResult();
         R result = jsonRpcResult.getAs(resultClass);
-        consumer.accept(endpointId, result);
+        if (consumer != null) {
+            consumer.accept(endpointId, result);
+        }
     }
 
     private <R> void processMany(String endpointId, JsonRpcResponse response, Class<R> resultClass, BiConsumer<String, List> consumer) {
@@ -67,7 +124,9 @@ public class ResponseDispatcher {
 
         JsonRpcResult jsonRpcResult = response.getResult();
         List<R> result = jsonRpcResult.getAsListOf(resultClass);
-        consumer.accept(endpointId, result);
+        if (consumer != null) {
+            consumer.accept(endpointId, result);
+        }
     }
 
     public void dispatch(String endpointId, JsonRpcResponse response) {
@@ -83,23 +142,26 @@ public class ResponseDispatcher {
         String key = combine(endpointId, responseId);
         LOG.debug("Generating key: {}", key);
 
-        Class<?> rClass = rClasses.get(key);
-        LOG.debug("Fetching result class: {}", rClass);
+        PendingResponse pendingResponse = pending.remove(key);
+        if (pendingResponse == null) {
+            LOG.warn("Received response with unknown or expired ID: {}, from endpoint: {}", responseId, endpointId);
+            return;
+        }
+        LOG.debug("Fetching result class: {}", pendingResponse.rClass);
 
         if (response.hasResult()) {
-            processResult(endpointId, response, key, rClass);
+            processResult(endpointId, response, pendingResponse);
         } else if (response.hasError()) {
-            processError(endpointId, response, key);
+            processError(endpointId, response.getError(), pendingResponse);
         } else {
             LOG.error("Received incorrect response: no error, no result");
         }
     }
 
-    private void processError(String endpointId, JsonRpcResponse response, String key) {
+    private void processError(String endpointId, JsonRpcError error, PendingResponse pendingResponse) {
         LOG.debug("Response has error. Proceeding...");
 
-        JsonRpcError error = response.getError();
-        BiConsumer<String, JsonRpcError> consumer = cast(promises.get(key).getFailureConsumer());
+        BiConsumer<String, JsonRpcError> consumer = cast(pendingResponse.promise.getFailureConsumer());
         if (consumer != null) {
             LOG.debug("Failure consumer is found, accepting...");
             consumer.accept(endpointId, error);
@@ -108,14 +170,14 @@ public class ResponseDispatcher {
         }
     }
 
-    private void processResult(String endpointId, JsonRpcResponse response, String key, Class<?> rClass) {
+    private void processResult(String endpointId, JsonRpcResponse response, PendingResponse pendingResponse) {
         LOG.debug("Response has result. Proceeding...");
 
         JsonRpcResult result = response.getResult();
         if (result.isArray()) {
-            processMany(endpointId, response, rClass, cast(promises.get(key).getSuccessConsumer()));
+            processMany(endpointId, response, pendingResponse.rClass, cast(pendingResponse.promise.getSuccessConsumer()));
         } else {
-            processOne(endpointId, response, rClass, cast(promises.get(key).getSuccessConsumer()));
+            processOne(endpointId, response, pendingResponse.rClass, cast(pendingResponse.promise.getSuccessConsumer()));
         }
     }
 
@@ -128,14 +190,58 @@ public class ResponseDispatcher {
         return cast(registerInternal(endpointId, requestId, rClass, promise));
     }
 
+    /** Returns number of requests that are still waiting for a response. */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /** Returns number of requests that have not got a response in time since dispatcher is started. */
+    public long getExpiredCount() {
+        return expired.get();
+    }
+
+    /** Removes requests which deadlines are before {@code now} and notifies their promises with timeout error. */
+    @VisibleForTesting
+    void expire(long now) {
+        pending.forEach((key, pendingResponse) -> {
+            if (pendingResponse.deadline < now && pending.remove(key, pendingResponse)) {
+                expired.incrementAndGet();
+                LOG.warn("Response timed out, request: {}", key);
+
+                JsonRpcError error = new JsonRpcError(TIMEOUT_ERROR_CODE, "Response timed out after " + timeoutSec + " seconds");
+                try {
+                    processError(pendingResponse.endpointId, error, pendingResponse);
+                } catch (RuntimeException e) {
+                    LOG.error("Failure consumer of timed out request {} failed", key, e);
+                }
+            }
+        });
+    }
+
     private <R> JsonRpcPromise registerInternal(String endpointId, String requestId, Class<R> rClass, JsonRpcPromise promise) {
         checkArguments(endpointId, requestId, rClass, promise);
 
         String key = combine(endpointId, requestId);
+        long deadline = timeoutSec > 0 ? System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSec) : Long.MAX_VALUE;
 
-        promises.put(key, promise);
-        rClasses.put(key, rClass);
+        if (pending.put(key, new PendingResponse(endpointId, promise, rClass, deadline)) != null) {
+            LOG.warn("Request with ID {} is already waiting for a response, replacing it", key);
+        }
 
         return promise;
     }
+
+    private static class PendingResponse {
+        final String         endpointId;
+        final JsonRpcPromise promise;
+        final Class<?>       rClass;
+        final long           deadline;
+
+        PendingResponse(String endpointId, JsonRpcPromise promise, Class<?> rClass, long deadline) {
+            this.endpointId = endpointId;
+            this.promise = promise;
+            this.rClass = rClass;
+            this.deadline = deadline;
+        }
+    }
 }
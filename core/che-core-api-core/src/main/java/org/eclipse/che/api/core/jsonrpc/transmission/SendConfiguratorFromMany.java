@@ -66,7 +66,7 @@ public class SendConfiguratorFromMany<P> {
     public <R> JsonRpcPromise<R> sendAndReceiveResultAsDto(final Class<R> rClass) {
         checkNotNull(rClass, "Result class value must not be null");
 
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -76,11 +76,11 @@ public class SendConfiguratorFromMany<P> {
                   "params list value" + pListValue + ", " +
                   "result object class: " + rClass);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, rClass, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, rClass, new JsonRpcPromise<>()));
     }
 
     public JsonRpcPromise<String> sendAndReceiveResultAsString() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -90,11 +90,11 @@ public class SendConfiguratorFromMany<P> {
                   "params list value" + pListValue + ", " +
                   "result object class: " + String.class);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, String.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, String.class, new JsonRpcPromise<>()));
     }
 
     public JsonRpcPromise<Boolean> sendAndReceiveResultAsBoolean() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -104,13 +104,13 @@ public class SendConfiguratorFromMany<P> {
                   "params list value" + pListValue + ", " +
                   "result object class: " + Boolean.class);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, Boolean.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, Boolean.class, new JsonRpcPromise<>()));
     }
 
     public <R> JsonRpcPromise<List<R>> sendAndReceiveResultAsListOfDto(Class<R> rClass) {
         checkNotNull(rClass, "Result class value must not be null");
 
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -120,12 +120,12 @@ public class SendConfiguratorFromMany<P> {
                   "params list value" + pListValue + ", " +
                   "result list items class: " + rClass);
 
-        return dispatcher.registerPromiseOfMany(endpointId, requestId, rClass, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfMany(endpointId, requestId, rClass, new JsonRpcPromise<>()));
 
     }
 
     public JsonRpcPromise<List<String>> sendAndReceiveResultAsListOfString() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -135,11 +135,11 @@ public class SendConfiguratorFromMany<P> {
                   "params list value" + pListValue + ", " +
                   "result list items class: " + String.class);
 
-        return dispatcher.registerPromiseOfMany(endpointId, requestId, String.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfMany(endpointId, requestId, String.class, new JsonRpcPromise<>()));
     }
 
     public JsonRpcPromise<List<Boolean>> sendAndReceiveResultAsListOfBoolean() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -149,11 +149,11 @@ public class SendConfiguratorFromMany<P> {
                   "params list value" + pListValue + ", " +
                   "result list items class: " + Boolean.class);
 
-        return dispatcher.registerPromiseOfMany(endpointId, requestId, Boolean.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfMany(endpointId, requestId, Boolean.class, new JsonRpcPromise<>()));
     }
 
     public JsonRpcPromise<Void> sendAndReceiveResultAsEmpty() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -163,7 +163,7 @@ public class SendConfiguratorFromMany<P> {
                   "params list value" + pListValue + ", " +
                   "result object class: " + Void.class);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, Void.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, Void.class, new JsonRpcPromise<>()));
     }
 
     private void transmitNotification() {
@@ -172,13 +172,19 @@ public class SendConfiguratorFromMany<P> {
         transmitter.transmit(endpointId, request.toString());
     }
 
-    private String transmitRequest() {
+    private String nextRequestId() {
         Integer id = MethodNameConfigurator.id.incrementAndGet();
-        String requestId = id.toString();
+        return id.toString();
+    }
 
+    /**
+     * Transmits request when its promise is already registered,
+     * so a response can't come before dispatcher knows about it.
+     */
+    private <R> JsonRpcPromise<R> transmitRequest(String requestId, JsonRpcPromise<R> promise) {
         JsonRpcParams params = factory.createParamsList(pListValue);
         JsonRpcRequest request = factory.createRequest(requestId, method, params);
         transmitter.transmit(endpointId, request.toString());
-        return requestId;
+        return promise;
     }
 }
@@ -62,10 +62,31 @@ public class SendConfiguratorFromOne<P> {
         transmitNotification();
     }
 
+    /**
+     * Sends notification that may be coalesced with an equal one that is not sent yet or
+     * dropped when endpoint can't keep up, e.g. a notification about the current state of
+     * something that is superseded by the next one.
+     *
+     * @see WebSocketMessageTransmitter#transmitIdempotent(String, String)
+     */
+    public void sendIdempotentAndSkipResult() {
+        LOG.debug("Transmitting idempotent request: " +
+                  "endpoint ID: " + endpointId + ", " +
+                  "method: " + method + ", " +
+                  (pValue != null ? "params object class: " + pValue.getClass() + ", " : "") +
+                  "params list value" + pValue);
+
+        JsonRpcParams params = factory.createParams(pValue);
+        JsonRpcRequest request = factory.createRequest(method, params);
+        if (endpointId != null) {
+            transmitter.transmitIdempotent(endpointId, request.toString());
+        }
+    }
+
     public <R> JsonRpcPromise<R> sendAndReceiveResultAsDto(final Class<R> rClass) {
         checkNotNull(rClass, "Result class value must not be null");
 
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -75,12 +96,12 @@ public class SendConfiguratorFromOne<P> {
                   "params list value" + pValue + ", " +
                   "result object class: " + rClass);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, rClass, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, rClass, new JsonRpcPromise<>()));
     }
 
 
     public JsonRpcPromise<String> sendAndReceiveResultAsString() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -90,12 +111,12 @@ public class SendConfiguratorFromOne<P> {
                   "params list value" + pValue + ", " +
                   "result object class: " + String.class);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, String.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, String.class, new JsonRpcPromise<>()));
 
     }
 
     public JsonRpcPromise<Double> sendAndReceiveResultAsDouble() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -105,12 +126,12 @@ public class SendConfiguratorFromOne<P> {
                   "params list value" + pValue + ", " +
                   "result object class: " + Double.class);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, Double.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, Double.class, new JsonRpcPromise<>()));
 
     }
 
     public JsonRpcPromise<Boolean> sendAndReceiveResultAsBoolean() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -120,13 +141,13 @@ public class SendConfiguratorFromOne<P> {
                   "params list value" + pValue + ", " +
                   "result object class: " + Boolean.class);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, Boolean.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, Boolean.class, new JsonRpcPromise<>()));
     }
 
     public <R> JsonRpcPromise<List<R>> sendAndReceiveResultAsListOfDto(final Class<R> rClass) {
         checkNotNull(rClass, "Result class value must not be null");
 
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -136,12 +157,12 @@ public class SendConfiguratorFromOne<P> {
                   "params list value" + pValue + ", " +
                   "result list items class: " + rClass);
 
-        return dispatcher.registerPromiseOfMany(endpointId, requestId, rClass, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfMany(endpointId, requestId, rClass, new JsonRpcPromise<>()));
 
     }
 
     public JsonRpcPromise<List<String>> sendAndReceiveResultAsListOfString() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -151,11 +172,11 @@ public class SendConfiguratorFromOne<P> {
                   "params list value" + pValue + ", " +
                   "result list items class: " + String.class);
 
-        return dispatcher.registerPromiseOfMany(endpointId, requestId, String.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfMany(endpointId, requestId, String.class, new JsonRpcPromise<>()));
     }
 
     public JsonRpcPromise<List<Boolean>> sendAndReceiveResultAsListOfBoolean() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -165,11 +186,11 @@ public class SendConfiguratorFromOne<P> {
                   "params list value" + pValue + ", " +
                   "result list items class: " + Boolean.class);
 
-        return dispatcher.registerPromiseOfMany(endpointId, requestId, Boolean.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfMany(endpointId, requestId, Boolean.class, new JsonRpcPromise<>()));
     }
 
     public JsonRpcPromise<Void> sendAndReceiveResultAsEmpty() {
-        final String requestId = transmitRequest();
+        final String requestId = nextRequestId();
 
         LOG.debug("Transmitting request: " +
                   "endpoint ID: " + endpointId + ", " +
@@ -179,17 +200,23 @@ public class SendConfiguratorFromOne<P> {
                   "params list value" + pValue + ", " +
                   "result list items class: " + Void.class);
 
-        return dispatcher.registerPromiseOfOne(endpointId, requestId, Void.class, new JsonRpcPromise<>());
+        return transmitRequest(requestId, dispatcher.registerPromiseOfOne(endpointId, requestId, Void.class, new JsonRpcPromise<>()));
     }
 
-    private String transmitRequest() {
+    private String nextRequestId() {
         Integer id = MethodNameConfigurator.id.incrementAndGet();
-        String requestId = id.toString();
+        return id.toString();
+    }
 
+    /**
+     * Transmits request when its promise is already registered,
+     * so a response can't come before dispatcher knows about it.
+     */
+    private <R> JsonRpcPromise<R> transmitRequest(String requestId, JsonRpcPromise<R> promise) {
         JsonRpcParams params = factory.createParams(pValue);
         JsonRpcRequest request = factory.createRequest(requestId, method, params);
         transmitter.transmit(endpointId, request.toString());
-        return requestId;
+        return promise;
     }
 
     private void transmitNotification() {
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers events to the wrapped subscriber asynchronously. Published events are put into bounded queue
+ * and handed to the subscriber by tasks executed with shared executor. At most one task is run per
+ * subscriber at a time, so events are delivered in the order they were published.
+ *
+ * @see EventService#subscribeAsync(EventSubscriber, Class, int, EventService.OverflowPolicy)
+ */
+class AsyncEventSubscriber implements EventSubscriber<Object> {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncEventSubscriber.class);
+
+    /** Max number of events delivered by one task, after that the task yields to tasks of other subscribers. */
+    private static final int BATCH_SIZE = 64;
+
+    private final EventSubscriber<Object>     delegate;
+    private final Executor                    executor;
+    private final int                         capacity;
+    private final EventService.OverflowPolicy overflowPolicy;
+    private final ArrayDeque<Object>          queue;
+    private final AtomicLong                  dropped;
+
+    private boolean scheduled;
+    private boolean closed;
+
+    @SuppressWarnings("unchecked")
+    AsyncEventSubscriber(EventSubscriber<?> delegate,
+                         Executor executor,
+                         int capacity,
+                         EventService.OverflowPolicy overflowPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.delegate = (EventSubscriber<Object>)delegate;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayDeque<>();
+        this.dropped = new AtomicLong();
+    }
+
+    @Override
+    public void onEvent(Object event) {
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            while (queue.size() >= capacity) {
+                switch (overflowPolicy) {
+                    case DROP_NEWEST:
+                        dropped.incrementAndGet();
+                        LOG.debug("Queue of {} is full, event {} is dropped", delegate, event);
+                        return;
+                    case DROP_OLDEST:
+                        dropped.incrementAndGet();
+                        LOG.debug("Queue of {} is full, event {} is dropped", delegate, queue.poll());
+                        break;
+                    case BLOCK:
+                        try {
+                            queue.wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            dropped.incrementAndGet();
+                            return;
+                        }
+                        if (closed) {
+                            return;
+                        }
+                        break;
+                }
+            }
+            queue.add(event);
+            if (!scheduled) {
+                scheduled = true;
+                schedule();
+            }
+        }
+    }
+
+    /** Returns number of events waiting for delivery. */
+    int getQueueSize() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /** Returns number of events which were dropped because the queue was full. */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** Drops all pending events and stops accepting new ones. */
+    void close() {
+        synchronized (queue) {
+            closed = true;
+            queue.clear();
+            queue.notifyAll();
+        }
+    }
+
+    EventSubscriber<?> getDelegate() {
+        return delegate;
+    }
+
+    /** Must be called while holding lock on the queue. */
+    private void schedule() {
+        try {
+            executor.execute(this::deliver);
+        } catch (RejectedExecutionException e) {
+            LOG.error("Unable to deliver events to {}, executor rejected delivery", delegate);
+            dropped.addAndGet(queue.size());
+            queue.clear();
+            queue.notifyAll();
+            scheduled = false;
+        }
+    }
+
+    private void deliver() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final Object event;
+            synchronized (queue) {
+                event = queue.poll();
+                if (event == null) {
+                    scheduled = false;
+                    return;
+                }
+                if (overflowPolicy == EventService.OverflowPolicy.BLOCK) {
+                    queue.notifyAll();
+                }
+            }
+            try {
+                delegate.onEvent(event);
+            } catch (RuntimeException e) {
+                LOG.error(e.getMessage(), e);
+            }
+        }
+        synchronized (queue) {
+            if (queue.isEmpty()) {
+                scheduled = false;
+            } else {
+                schedule();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncEventSubscriber{" +
+               "delegate=" + delegate +
+               ", capacity=" + capacity +
+               ", overflowPolicy=" + overflowPolicy +
+               '}';
+    }
+}
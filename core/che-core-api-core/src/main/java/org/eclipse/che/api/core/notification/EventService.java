@@ -13,10 +13,14 @@ package org.eclipse.che.api.core.notification;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -27,6 +31,10 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Dispatchers events to listeners. Usage example:
@@ -40,6 +48,9 @@ import java.util.concurrent.CopyOnWriteArraySet;
  *     });
  *     bus.publish(new MyEvent());
  * </pre>
+ * Subscribers are called in the thread which publishes event. Subscribers which are slow, or don't need
+ * to complete handling of event before publisher continues, may be subscribed with {@link #subscribeAsync}.
+ * Events are delivered to such subscribers in a pool of threads shared by all of them.
  *
  * @author andrew00x
  */
@@ -51,12 +62,28 @@ public class EventService {
     private static final int CACHE_MASK = CACHE_NUM - 1;
     private static final int SEG_SIZE   = 32;
 
-    private final LoadingCache<Class<?>, Set<Class<?>>>[]       typeCache;
-    private final ConcurrentMap<Class<?>, Set<EventSubscriber>> subscribersByEventType;
+    private static final int ASYNC_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /** What to do with published event when queue of asynchronous subscriber is full. */
+    public enum OverflowPolicy {
+        /** Block publisher until there is space in the queue. */
+        BLOCK,
+        /** Drop the oldest event from the queue and add published one. */
+        DROP_OLDEST,
+        /** Drop published event. */
+        DROP_NEWEST
+    }
+
+    private final LoadingCache<Class<?>, Set<Class<?>>>[]                  typeCache;
+    private final ConcurrentMap<Class<?>, Set<EventSubscriber>>            subscribersByEventType;
+    private final ConcurrentMap<EventSubscriber<?>, AsyncEventSubscriber> asyncSubscribers;
+
+    private ExecutorService asyncExecutor;
 
     @SuppressWarnings("unchecked")
     public EventService() {
         subscribersByEventType = new ConcurrentHashMap<>();
+        asyncSubscribers = new ConcurrentHashMap<>();
         typeCache = new LoadingCache[CACHE_NUM];
         for (int i = 0; i < CACHE_NUM; i++) {
             typeCache[i] = CacheBuilder.newBuilder().concurrencyLevel(SEG_SIZE).build(
@@ -136,6 +163,97 @@ public class EventService {
         doSubscribe(subscriber, eventType);
     }
 
+    /**
+     * Subscribe event listener which receives events asynchronously. The event to subscribe to is inferred
+     * by checking the generic type arguments of the given subscriber.
+     *
+     * @see #subscribeAsync(EventSubscriber, Class, int, OverflowPolicy)
+     */
+    public void subscribeAsync(EventSubscriber<?> subscriber, int queueCapacity, OverflowPolicy overflowPolicy) {
+        final Class<?> eventType = getEventType(subscriber);
+        doSubscribeAsync(subscriber, eventType, queueCapacity, overflowPolicy);
+    }
+
+    /**
+     * Subscribe to an event asynchronously. Published events are put into the queue of the subscriber and publisher
+     * doesn't wait until subscriber handles them. Subscriber receives events in the order they were published, one
+     * at a time, but not necessarily in the same thread.
+     *
+     * @param subscriber
+     *         the subscriber to call when an event is published
+     * @param eventType
+     *         the event to subscribe to
+     * @param queueCapacity
+     *         max number of events which may wait for delivery to the subscriber
+     * @param overflowPolicy
+     *         what to do with published event when there are already {@code queueCapacity} events waiting for delivery
+     */
+    public <T> void subscribeAsync(EventSubscriber<? extends T> subscriber,
+                                   Class<T> eventType,
+                                   int queueCapacity,
+                                   OverflowPolicy overflowPolicy) {
+        doSubscribeAsync(subscriber, eventType, queueCapacity, overflowPolicy);
+    }
+
+    /**
+     * Returns number of events waiting for delivery to the asynchronous subscriber,
+     * for subscribers which aren't subscribed asynchronously it is always 0.
+     */
+    public int getQueueSize(EventSubscriber<?> subscriber) {
+        final AsyncEventSubscriber async = asyncSubscribers.get(subscriber);
+        return async == null ? 0 : async.getQueueSize();
+    }
+
+    /**
+     * Returns number of events which were not delivered to the asynchronous subscriber because
+     * its queue was full, for subscribers which aren't subscribed asynchronously it is always 0.
+     */
+    public long getDroppedEventsCount(EventSubscriber<?> subscriber) {
+        final AsyncEventSubscriber async = asyncSubscribers.get(subscriber);
+        return async == null ? 0 : async.getDroppedCount();
+    }
+
+    /** Stops delivery of events to asynchronous subscribers, pending events are dropped. */
+    @PreDestroy
+    public void stop() {
+        for (AsyncEventSubscriber async : asyncSubscribers.values()) {
+            async.close();
+        }
+        synchronized (this) {
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private void doSubscribeAsync(EventSubscriber<?> subscriber,
+                                  Class<?> eventType,
+                                  int queueCapacity,
+                                  OverflowPolicy overflowPolicy) {
+        final AsyncEventSubscriber async = new AsyncEventSubscriber(subscriber, getAsyncExecutor(), queueCapacity, overflowPolicy);
+        if (asyncSubscribers.putIfAbsent(subscriber, async) != null) {
+            throw new IllegalStateException(String.format("%s is already subscribed asynchronously", subscriber));
+        }
+        doSubscribe(async, eventType);
+    }
+
+    private synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = new ThreadPoolExecutor(ASYNC_POOL_SIZE,
+                                                   ASYNC_POOL_SIZE,
+                                                   60,
+                                                   TimeUnit.SECONDS,
+                                                   new LinkedBlockingQueue<>(),
+                                                   new ThreadFactoryBuilder().setNameFormat("EventService-AsyncDelivery-%d")
+                                                                             .setUncaughtExceptionHandler(
+                                                                                     LoggingUncaughtExceptionHandler.getInstance())
+                                                                             .setDaemon(true)
+                                                                             .build());
+            ((ThreadPoolExecutor)asyncExecutor).allowCoreThreadTimeOut(true);
+        }
+        return asyncExecutor;
+    }
+
     private void doSubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
         Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
         if (entries == null) {
@@ -164,6 +282,11 @@ public class EventService {
     }
 
     private void doUnsubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
+        final AsyncEventSubscriber async = asyncSubscribers.remove(subscriber);
+        if (async != null) {
+            async.close();
+            subscriber = async;
+        }
         final Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
         if (entries != null && !entries.isEmpty()) {
             boolean changed = entries.remove(subscriber);
@@ -207,19 +207,7 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                                                                               ConflictException,
                                                                               BadRequestException {
         final String authToken = EnvironmentContext.getCurrent().getSubject().getToken();
-        final boolean hasQueryParams = parameters != null && !parameters.isEmpty();
-        if (hasQueryParams || authToken != null) {
-            final UriBuilder ub = UriBuilder.fromUri(url);
-            //remove sensitive information from url.
-            ub.replaceQueryParam("token", EMPTY_ARRAY);
-
-            if (hasQueryParams) {
-                for (Pair<String, ?> parameter : parameters) {
-                    ub.queryParam(parameter.first, parameter.second);
-                }
-            }
-            url = ub.build().toString();
-        }
+        url = buildUrl(url, parameters, authToken);
         final HttpURLConnection conn = (HttpURLConnection)new URL(url).openConnection();
         conn.setConnectTimeout(timeout > 0 ? timeout : 60000);
         conn.setReadTimeout(timeout > 0 ? timeout : 60000);
@@ -256,29 +244,7 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                 try (Reader reader = new InputStreamReader(in)) {
                     str = CharStreams.toString(reader);
                 }
-                final String contentType = conn.getContentType();
-                if (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON)) {
-                    final ServiceError serviceError = DtoFactory.getInstance().createDtoFromJson(str, ServiceError.class);
-                    if (serviceError.getMessage() != null) {
-                        if (responseCode == Response.Status.FORBIDDEN.getStatusCode()) {
-                            throw new ForbiddenException(serviceError);
-                        } else if (responseCode == Response.Status.NOT_FOUND.getStatusCode()) {
-                            throw new NotFoundException(serviceError);
-                        } else if (responseCode == Response.Status.UNAUTHORIZED.getStatusCode()) {
-                            throw new UnauthorizedException(serviceError);
-                        } else if (responseCode == Response.Status.CONFLICT.getStatusCode()) {
-                            throw new ConflictException(serviceError);
-                        } else if (responseCode == Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()) {
-                            throw new ServerException(serviceError);
-                        } else if (responseCode == Response.Status.BAD_REQUEST.getStatusCode()) {
-                            throw new BadRequestException(serviceError);
-                        }
-                        throw new ServerException(serviceError);
-                    }
-                }
-                // Can't parse content as json or content has format other we expect for error.
-                throw new IOException(String.format("Failed access: %s, method: %s, response code: %d, message: %s",
-                                                    UriBuilder.fromUri(url).replaceQuery("token").build(), method, responseCode, str));
+                throw handleFailure(url, method, responseCode, conn.getContentType(), str);
             }
             final String contentType = conn.getContentType();
             if (contentType != null && !contentType.startsWith(MediaType.APPLICATION_JSON)) {
@@ -293,6 +259,65 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
         }
     }
 
+    /**
+     * Adds query parameters to the url, removes "token" query parameter from it
+     * if authorization token is sent within {@link HttpHeaders#AUTHORIZATION} header.
+     */
+    static String buildUrl(String url, List<Pair<String, ?>> parameters, String authToken) {
+        final boolean hasQueryParams = parameters != null && !parameters.isEmpty();
+        if (hasQueryParams || authToken != null) {
+            final UriBuilder ub = UriBuilder.fromUri(url);
+            //remove sensitive information from url.
+            ub.replaceQueryParam("token", EMPTY_ARRAY);
+
+            if (hasQueryParams) {
+                for (Pair<String, ?> parameter : parameters) {
+                    ub.queryParam(parameter.first, parameter.second);
+                }
+            }
+            url = ub.build().toString();
+        }
+        return url;
+    }
+
+    /**
+     * Throws the exception which corresponds to the code of unsuccessful response if the response
+     * contains {@link ServiceError}, otherwise returns {@link IOException} that describes the failure.
+     */
+    static IOException handleFailure(String url,
+                                     String method,
+                                     int responseCode,
+                                     String contentType,
+                                     String responseBody) throws ServerException,
+                                                                 ForbiddenException,
+                                                                 NotFoundException,
+                                                                 UnauthorizedException,
+                                                                 ConflictException,
+                                                                 BadRequestException {
+        if (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON)) {
+            final ServiceError serviceError = DtoFactory.getInstance().createDtoFromJson(responseBody, ServiceError.class);
+            if (serviceError.getMessage() != null) {
+                if (responseCode == Response.Status.FORBIDDEN.getStatusCode()) {
+                    throw new ForbiddenException(serviceError);
+                } else if (responseCode == Response.Status.NOT_FOUND.getStatusCode()) {
+                    throw new NotFoundException(serviceError);
+                } else if (responseCode == Response.Status.UNAUTHORIZED.getStatusCode()) {
+                    throw new UnauthorizedException(serviceError);
+                } else if (responseCode == Response.Status.CONFLICT.getStatusCode()) {
+                    throw new ConflictException(serviceError);
+                } else if (responseCode == Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()) {
+                    throw new ServerException(serviceError);
+                } else if (responseCode == Response.Status.BAD_REQUEST.getStatusCode()) {
+                    throw new BadRequestException(serviceError);
+                }
+                throw new ServerException(serviceError);
+            }
+        }
+        // Can't parse content as json or content has format other we expect for error.
+        return new IOException(String.format("Failed access: %s, method: %s, response code: %d, message: %s",
+                                             UriBuilder.fromUri(url).replaceQuery("token").build(), method, responseCode, responseBody));
+    }
+
     @Override
     public String toString() {
         return "DefaultHttpJsonRequest{" +
@@ -11,7 +11,7 @@
 package org.eclipse.che.api.core.rest;
 
 import com.google.common.annotations.Beta;
-import com.google.inject.ImplementedBy;
+import com.google.inject.ProvidedBy;
 
 import org.eclipse.che.api.core.rest.shared.dto.Link;
 
@@ -23,7 +23,7 @@ import javax.validation.constraints.NotNull;
  * @author Yevhenii Voevodin
  */
 @Beta
-@ImplementedBy(DefaultHttpJsonRequestFactory.class)
+@ProvidedBy(HttpJsonRequestFactoryProvider.class)
 public interface HttpJsonRequestFactory {
 
     /**
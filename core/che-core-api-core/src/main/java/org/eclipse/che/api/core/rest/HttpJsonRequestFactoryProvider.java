@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import com.google.inject.Provider;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+/**
+ * Provides implementation of {@link HttpJsonRequestFactory} which is selected with "che.core.http.client" property:
+ * <ul>
+ * <li>{@code default} - {@link DefaultHttpJsonRequestFactory}, opens new connection for each request</li>
+ * <li>{@code pooled} - {@link PooledHttpJsonRequestFactory}, reuses connections and compresses transferred data</li>
+ * </ul>
+ * If property isn't set {@link DefaultHttpJsonRequestFactory} is used.
+ */
+@Singleton
+public class HttpJsonRequestFactoryProvider implements Provider<HttpJsonRequestFactory> {
+    private static final Logger LOG = LoggerFactory.getLogger(HttpJsonRequestFactoryProvider.class);
+
+    @com.google.inject.Inject(optional = true)
+    @Named("che.core.http.client")
+    private String client = "default";
+
+    private final Provider<DefaultHttpJsonRequestFactory> defaultFactoryProvider;
+    private final Provider<PooledHttpJsonRequestFactory>  pooledFactoryProvider;
+
+    @Inject
+    public HttpJsonRequestFactoryProvider(Provider<DefaultHttpJsonRequestFactory> defaultFactoryProvider,
+                                          Provider<PooledHttpJsonRequestFactory> pooledFactoryProvider) {
+        this.defaultFactoryProvider = defaultFactoryProvider;
+        this.pooledFactoryProvider = pooledFactoryProvider;
+    }
+
+    @Override
+    public HttpJsonRequestFactory get() {
+        switch (client) {
+            case "default":
+                return defaultFactoryProvider.get();
+            case "pooled":
+                return pooledFactoryProvider.get();
+            default:
+                LOG.warn("Property 'che.core.http.client' has unknown value '{}'. Using default.", client);
+                return defaultFactoryProvider.get();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CharStreams;
+
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.dto.server.DtoFactory;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Implementation of {@link HttpJsonRequest} that reuses connections and compresses transferred data.
+ *
+ * <p>Unlike {@link DefaultHttpJsonRequest} connections are never closed explicitly, response (or error) stream is read
+ * to the end and closed instead, so the underlying socket is returned to the keep-alive cache of {@link HttpURLConnection}
+ * and reused by next request to the same host. The size of that cache is controlled by "http.maxConnections" system property.
+ *
+ * <p>Request asks for gzip encoded response, request body is sent gzip encoded when it is large enough and
+ * compression of request bodies is enabled, it must be enabled only when receiving side is able to decode them.
+ * Body of response is read to the end before the request returns and kept as bytes, so the connection is released
+ * even if caller never reads the body, see {@link PooledHttpJsonResponse}.
+ *
+ * @see PooledHttpJsonRequestFactory
+ */
+public class PooledHttpJsonRequest extends DefaultHttpJsonRequest {
+
+    /** Bodies that are smaller than this threshold aren't compressed, since it doesn't pay off. */
+    private static final int    MIN_COMPRESSED_BODY_SIZE = 1024;
+    private static final String GZIP                     = "gzip";
+
+    private final boolean compressRequestBody;
+
+    protected PooledHttpJsonRequest(String url, boolean compressRequestBody) {
+        super(url);
+        this.compressRequestBody = compressRequestBody;
+    }
+
+    protected PooledHttpJsonRequest(Link link, boolean compressRequestBody) {
+        super(link);
+        this.compressRequestBody = compressRequestBody;
+    }
+
+    @Override
+    protected DefaultHttpJsonResponse doRequest(int timeout,
+                                                String url,
+                                                String method,
+                                                Object body,
+                                                List<Pair<String, ?>> parameters,
+                                                String authorizationHeaderValue) throws IOException,
+                                                                                        ServerException,
+                                                                                        ForbiddenException,
+                                                                                        NotFoundException,
+                                                                                        UnauthorizedException,
+                                                                                        ConflictException,
+                                                                                        BadRequestException {
+        final String authToken = EnvironmentContext.getCurrent().getSubject().getToken();
+        url = buildUrl(url, parameters, authToken);
+        final HttpURLConnection conn = (HttpURLConnection)new URL(url).openConnection();
+        conn.setConnectTimeout(timeout > 0 ? timeout : 60000);
+        conn.setReadTimeout(timeout > 0 ? timeout : 60000);
+        conn.setRequestMethod(method);
+        conn.addRequestProperty(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+        conn.addRequestProperty(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        if (!isNullOrEmpty(authorizationHeaderValue)) {
+            conn.setRequestProperty(HttpHeaders.AUTHORIZATION, authorizationHeaderValue);
+        } else if (authToken != null) {
+            conn.setRequestProperty(HttpHeaders.AUTHORIZATION, authToken);
+        }
+        if (body != null) {
+            conn.addRequestProperty(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+            conn.setDoOutput(true);
+
+            if (HttpMethod.DELETE.equals(method)) { //to avoid jdk bug described here http://bugs.java.com/view_bug.do?bug_id=7157360
+                conn.setRequestMethod(HttpMethod.POST);
+                conn.setRequestProperty("X-HTTP-Method-Override", HttpMethod.DELETE);
+            }
+            writeBody(conn, DtoFactory.getInstance().toJson(body).getBytes(UTF_8));
+        }
+
+        final int responseCode = conn.getResponseCode();
+        if ((responseCode / 100) != 2) {
+            InputStream in = conn.getErrorStream();
+            if (in == null) {
+                in = conn.getInputStream();
+            }
+            final String str = readString(conn, in);
+            throw handleFailure(url, method, responseCode, conn.getContentType(), str);
+        }
+        final InputStream in = conn.getInputStream();
+        final String contentType = conn.getContentType();
+        if (contentType != null && !contentType.startsWith(MediaType.APPLICATION_JSON)) {
+            PooledHttpJsonResponse.drainAndClose(in);
+            throw new IOException(conn.getResponseMessage());
+        }
+        if (responseCode == HttpURLConnection.HTTP_NO_CONTENT || conn.getContentLengthLong() == 0) {
+            PooledHttpJsonResponse.drainAndClose(in);
+            return new PooledHttpJsonResponse(new byte[0], responseCode);
+        }
+        return new PooledHttpJsonResponse(readBytes(conn, in), responseCode);
+    }
+
+    private void writeBody(HttpURLConnection conn, byte[] body) throws IOException {
+        if (compressRequestBody && body.length >= MIN_COMPRESSED_BODY_SIZE) {
+            conn.setRequestProperty(HttpHeaders.CONTENT_ENCODING, GZIP);
+            try (OutputStream output = new GZIPOutputStream(conn.getOutputStream())) {
+                output.write(body);
+            }
+        } else {
+            conn.setFixedLengthStreamingMode(body.length);
+            try (OutputStream output = conn.getOutputStream()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /** Reads the whole stream, so the connection can be reused, and decodes it if needed. */
+    private static String readString(HttpURLConnection conn, InputStream in) throws IOException {
+        if (in == null) {
+            return "";
+        }
+        try (Reader reader = new InputStreamReader(decode(conn, in), UTF_8)) {
+            return CharStreams.toString(reader);
+        }
+    }
+
+    /** Reads the whole stream, so the connection can be reused, and decodes it if needed. */
+    private static byte[] readBytes(HttpURLConnection conn, InputStream in) throws IOException {
+        try (InputStream input = decode(conn, in)) {
+            final byte[] bytes = ByteStreams.toByteArray(input);
+            // gzip stream may stop reading before the end of stream of connection
+            PooledHttpJsonResponse.drainAndClose(in);
+            return bytes;
+        }
+    }
+
+    private static InputStream decode(HttpURLConnection conn, InputStream in) throws IOException {
+        return GZIP.equalsIgnoreCase(conn.getContentEncoding()) ? new GZIPInputStream(in) : in;
+    }
+
+    @Override
+    public String toString() {
+        return "PooledHttpJsonRequest{" +
+               "url='" + getUrl() + '\'' +
+               ", compressRequestBody=" + compressRequestBody +
+               '}';
+    }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import org.eclipse.che.commons.json.JsonHelper;
+import org.eclipse.che.commons.json.JsonParseException;
+import org.eclipse.che.dto.server.DtoFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Response of {@link PooledHttpJsonRequest}, its body is read from the connection before the response is created,
+ * so the connection is returned to the keep-alive cache even if body is never used.
+ *
+ * <p>Body is kept as received bytes and parsed straight from them without intermediate string, any of {@code as*}
+ * methods may be called any number of times. Result of {@link #asString()} is kept and used by the subsequent calls.
+ */
+public class PooledHttpJsonResponse extends DefaultHttpJsonResponse {
+
+    private final byte[] body;
+    private       String bodyString;
+
+    protected PooledHttpJsonResponse(byte[] body, int responseCode) {
+        super(null, responseCode);
+        this.body = body;
+    }
+
+    @Override
+    public synchronized String asString() {
+        if (bodyString == null) {
+            bodyString = new String(body, UTF_8);
+        }
+        return bodyString;
+    }
+
+    @Override
+    public <T> T asDto(Class<T> dtoInterface) {
+        requireNonNull(dtoInterface, "Required non-null dto interface");
+        try (InputStream in = new ByteArrayInputStream(body)) {
+            return DtoFactory.getInstance().createDtoFromJson(in, dtoInterface);
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        }
+    }
+
+    @Override
+    public <T> List<T> asList(Class<T> dtoInterface) {
+        requireNonNull(dtoInterface, "Required non-null dto interface");
+        try (InputStream in = new ByteArrayInputStream(body)) {
+            return DtoFactory.getInstance().createListDtoFromJson(in, dtoInterface);
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        }
+    }
+
+    @Override
+    public <T> T as(Class<T> clazz, Type genericType) throws IOException {
+        requireNonNull(clazz, "Required non-null class");
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(body), UTF_8)) {
+            return JsonHelper.fromJson(reader, clazz, genericType);
+        } catch (JsonParseException jsonEx) {
+            throw new IOException(jsonEx.getLocalizedMessage(), jsonEx);
+        }
+    }
+
+    /** Reads the rest of the stream and closes it, so the connection it belongs to can be reused. */
+    static void drainAndClose(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            final byte[] buffer = new byte[8192];
+            while (input.read(buffer) != -1) {
+                // skip the rest, e.g. trailing whitespaces or gzip trailer
+            }
+        }
+    }
+}
@@ -56,8 +56,28 @@ public final class PagingUtil {
      *         when either {@code page} or {@code uri} is null
      */
     public static String createLinkHeader(Page<?> page, URI uri) {
+        return createLinkHeader(page, uri, emptyMap());
+    }
+
+    /**
+     * Generates link header value the same way as {@link #createLinkHeader(Page, URI)} does,
+     * but the link to the next page also contains the given query parameters, e.g. the cursor
+     * which refers to the position in data right after the given page.
+     *
+     * @param page
+     *         the page used to generate link
+     * @param uri
+     *         the uri which is used for adding {@code skipCount} & {@code maxItems} query parameters
+     * @param nextPageQueryParams
+     *         query parameters which are added only to the link to the next page
+     * @return 'Link' header value
+     * @throws NullPointerException
+     *         when either {@code page} or {@code uri} or {@code nextPageQueryParams} is null
+     */
+    public static String createLinkHeader(Page<?> page, URI uri, Map<String, ?> nextPageQueryParams) {
         requireNonNull(page, "Required non-null page");
         requireNonNull(uri, "Required non-null uri");
+        requireNonNull(nextPageQueryParams, "Required non-null next page query parameters");
         final ArrayList<Pair<String, Page.PageRef>> pageRefs = new ArrayList<>(4);
         pageRefs.add(Pair.of("first", page.getFirstPageRef()));
         pageRefs.add(Pair.of("last", page.getLastPageRef()));
@@ -69,13 +89,17 @@ public final class PagingUtil {
         }
         final UriBuilder ub = UriBuilder.fromUri(uri);
         return pageRefs.stream()
-                       .map(refPair -> format("<%s>; rel=\"%s\"",
-                                              ub.clone()
-                                                .replaceQueryParam("skipCount", refPair.second.getItemsBefore())
-                                                .replaceQueryParam("maxItems", refPair.second.getPageSize())
-                                                .build()
-                                                .toString(),
-                                              refPair.first))
+                       .map(refPair -> {
+                           final UriBuilder refUb = ub.clone()
+                                                      .replaceQueryParam("skipCount", refPair.second.getItemsBefore())
+                                                      .replaceQueryParam("maxItems", refPair.second.getPageSize());
+                           if ("next".equals(refPair.first)) {
+                               for (Map.Entry<String, ?> queryParam : nextPageQueryParams.entrySet()) {
+                                   refUb.replaceQueryParam(queryParam.getKey(), queryParam.getValue());
+                               }
+                           }
+                           return format("<%s>; rel=\"%s\"", refUb.build().toString(), refPair.first);
+                       })
                        .collect(joining(LINK_HEADER_SEPARATOR));
     }
 
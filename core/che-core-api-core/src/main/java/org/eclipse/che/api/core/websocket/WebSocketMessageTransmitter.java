@@ -33,6 +33,23 @@ public interface WebSocketMessageTransmitter {
      */
     void transmit(String endpointId, String message);
 
+    /**
+     * Transmit an idempotent string message to an endpoint, i.e. a message that
+     * has the same effect when it is received once or several times, for example
+     * a notification about the current state of something. Implementation may
+     * coalesce such a message with an equal one that is not transmitted yet or
+     * drop it when the endpoint can't keep up with transmissions, by default it
+     * is transmitted as any other message.
+     *
+     * @param endpointId
+     *         identifier of an endpoint known to an transmitter implementation
+     * @param message
+     *         plain text message
+     */
+    default void transmitIdempotent(String endpointId, String message) {
+        transmit(endpointId, message);
+    }
+
     /**
      * Transmit (broadcast) a string message to all endpoints registered over
      * web socket protocol. The connection should be considered to be opened at
@@ -21,6 +21,10 @@ import javax.websocket.OnMessage;
 import javax.websocket.OnOpen;
 import javax.websocket.Session;
 import javax.websocket.server.PathParam;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.che.api.core.websocket.impl.MessagesReSender.LAST_ACKED_ID_PARAMETER;
 
 /**
  * Duplex WEB SOCKET endpoint, handles messages, errors, session open/close events.
@@ -30,18 +34,21 @@ import javax.websocket.server.PathParam;
 public class BasicWebSocketEndpoint {
     private static final Logger LOG = LoggerFactory.getLogger(BasicWebSocketEndpoint.class);
 
-    private final WebSocketSessionRegistry registry;
-    private final MessagesReSender         reSender;
-    private final WebSocketMessageReceiver receiver;
+    private final WebSocketSessionRegistry         registry;
+    private final MessagesReSender                 reSender;
+    private final WebSocketMessageReceiver         receiver;
+    private final BasicWebSocketMessageTransmitter transmitter;
 
 
     public BasicWebSocketEndpoint(WebSocketSessionRegistry registry,
                                   MessagesReSender reSender,
-                                  WebSocketMessageReceiver receiver) {
+                                  WebSocketMessageReceiver receiver,
+                                  BasicWebSocketMessageTransmitter transmitter) {
 
         this.registry = registry;
         this.reSender = reSender;
         this.receiver = receiver;
+        this.transmitter = transmitter;
     }
 
     @OnOpen
@@ -51,8 +58,15 @@ public class BasicWebSocketEndpoint {
 
         session.setMaxIdleTimeout(0);
 
+        // messages to the session are held until the ones missed while it was closed are re-sent
+        final Long lastAckedId = getLastAckedId(session);
+        transmitter.sessionOpened(endpointId, session, lastAckedId != null);
         registry.add(endpointId, session);
-        reSender.resend(endpointId);
+        if (lastAckedId == null) {
+            reSender.resend(endpointId, () -> transmitter.sessionResent(session));
+        } else {
+            reSender.resend(endpointId, lastAckedId, () -> transmitter.sessionResent(session));
+        }
     }
 
     @OnMessage
@@ -65,18 +79,38 @@ public class BasicWebSocketEndpoint {
     }
 
     @OnClose
-    public void onClose(CloseReason closeReason, @PathParam("endpoint-id") String endpointId) {
+    public void onClose(Session session, CloseReason closeReason, @PathParam("endpoint-id") String endpointId) {
         LOG.info("Web socket session closed");
         LOG.debug("Endpoint: {}", endpointId);
         LOG.debug("Close reason: {}:{}", closeReason.getReasonPhrase(), closeReason.getCloseCode());
 
         registry.remove(endpointId);
+        transmitter.sessionClosed(session);
+    }
+
+    /** Returns sequence number of the last message received by client or {@code null} if client doesn't acknowledge messages. */
+    private static Long getLastAckedId(Session session) {
+        final Map<String, List<String>> parameters = session.getRequestParameterMap();
+        final List<String> values = parameters == null ? null : parameters.get(LAST_ACKED_ID_PARAMETER);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(values.get(0));
+        } catch (NumberFormatException e) {
+            LOG.warn("Illegal sequence number of the last received message: {}", values.get(0));
+            return null;
+        }
     }
 
     @OnError
-    public void onError(Throwable t, @PathParam("endpoint-id") String endpointId) {
+    public void onError(Session session, Throwable t, @PathParam("endpoint-id") String endpointId) {
         LOG.info("Web socket session error");
         LOG.debug("Endpoint: {}", endpointId);
         LOG.debug("Error: {}", t);
+
+        if (!session.isOpen()) {
+            transmitter.sessionClosed(session);
+        }
     }
 }
@@ -10,14 +10,22 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.websocket.impl;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.eclipse.che.api.core.websocket.WebSocketMessageTransmitter;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.websocket.Session;
-import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -26,23 +34,102 @@ import static org.slf4j.LoggerFactory.getLogger;
  * If WEB SOCKET session is not opened adds messages to re-sender to try to send
  * them when session will be opened again.
  *
+ * <p>Each session has its own bounded queue of outbound messages that is drained
+ * asynchronously (see {@link SessionMessageQueue}), so transmission never waits
+ * for a remote endpoint and a slow endpoint never delays messages to others.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
 public class BasicWebSocketMessageTransmitter implements WebSocketMessageTransmitter {
     private static final Logger LOG = getLogger(BasicWebSocketMessageTransmitter.class);
 
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
     private final WebSocketSessionRegistry registry;
     private final MessagesReSender         reSender;
+    private final int                      queueCapacity;
+    private final ExecutorService          executor;
+
+    private final Map<Session, SessionMessageQueue> queues = new ConcurrentHashMap<>();
 
     @Inject
     public BasicWebSocketMessageTransmitter(WebSocketSessionRegistry registry, MessagesReSender reSender) {
+        this(registry, reSender, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    @VisibleForTesting
+    BasicWebSocketMessageTransmitter(WebSocketSessionRegistry registry, MessagesReSender reSender, int queueCapacity) {
         this.registry = registry;
         this.reSender = reSender;
+        this.queueCapacity = queueCapacity;
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                                                     new ThreadFactoryBuilder().setNameFormat("WebSocketTransmitter-%d")
+                                                                               .setUncaughtExceptionHandler(
+                                                                                       LoggingUncaughtExceptionHandler.getInstance())
+                                                                               .setDaemon(true)
+                                                                               .build());
+    }
+
+    @Override
+    public void transmit(String endpointId, String message) {
+        transmit(endpointId, message, false);
     }
 
     @Override
-    public synchronized void transmit(String endpointId, String message) {
+    public void transmitIdempotent(String endpointId, String message) {
+        transmit(endpointId, message, true);
+    }
+
+    @Override
+    public void transmit(String message) {
+        LOG.debug("Broadcasting a web socket transmission: {}", message);
+
+        for (String endpointId : registry.getEndpointIds()) {
+            registry.get(endpointId)
+                    .filter(Session::isOpen)
+                    .ifPresent(session -> getQueue(endpointId, session).offer(message));
+        }
+    }
+
+    /**
+     * Must be called when session is opened before it is registered, messages to the session
+     * are held until {@link #sessionResent(Session)} is called, so they can't overtake messages
+     * that are re-sent to the session by {@link MessagesReSender}.
+     *
+     * @param sequenced
+     *         whether client acknowledges received messages, so they are sent prefixed with sequence numbers
+     */
+    public void sessionOpened(String endpointId, Session session, boolean sequenced) {
+        queues.computeIfAbsent(session, it -> new SessionMessageQueue(it, endpointId, queueCapacity, executor, reSender, sequenced))
+              .hold();
+    }
+
+    /** Releases messages to the session held since it is opened. */
+    public void sessionResent(Session session) {
+        final SessionMessageQueue queue = queues.get(session);
+        if (queue != null) {
+            queue.release();
+        }
+    }
+
+    /**
+     * Forgets outbound message queue of the session, messages that are not sent yet are
+     * added to re-sender. Must be called when session is closed.
+     */
+    public void sessionClosed(Session session) {
+        final SessionMessageQueue queue = queues.remove(session);
+        if (queue != null) {
+            queue.sessionClosed();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    private void transmit(String endpointId, String message, boolean idempotent) {
         final Optional<Session> sessionOptional = registry.get(endpointId);
 
         if (!sessionOptional.isPresent() || !sessionOptional.get().isOpen()) {
@@ -50,31 +137,13 @@ public class BasicWebSocketMessageTransmitter implements WebSocketMessageTransmi
 
             reSender.add(endpointId, message);
         } else {
-            LOG.debug("Session registered and open, sending message");
+            LOG.debug("Session registered and open, queueing message");
 
-            try {
-                sessionOptional.get().getBasicRemote().sendText(message);
-            } catch (IOException e) {
-                LOG.error("Error while trying to send a message to a basic websocket remote endpoint", e);
-            }
+            getQueue(endpointId, sessionOptional.get()).offer(message, idempotent);
         }
     }
 
-    @Override
-    public synchronized void transmit(String message) {
-        LOG.debug("Broadcasting a web socket transmission: ", message);
-
-        registry.getSessions()
-                .stream()
-                .filter(Session::isOpen)
-                .map(Session::getBasicRemote)
-                .forEach(it -> {
-                    try {
-                        it.sendText(message);
-                    } catch (IOException e) {
-                        LOG.error("Error while trying to send a message to a basic websocket remote endpoint", e);
-                    }
-                });
+    private SessionMessageQueue getQueue(String endpointId, Session session) {
+        return queues.computeIfAbsent(session, it -> new SessionMessageQueue(it, endpointId, queueCapacity, executor, reSender, false));
     }
-
 }
@@ -10,76 +10,324 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.websocket.impl;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+
+import org.slf4j.Logger;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Instance is responsible for re-sending messages that were not sent during the period
  * when WEB SOCKET session was closed. If session is closed during re-send process it
  * stops and left messages will be re-sent as WEB SOCKET session becomes open again.
  *
+ * <p>Messages of each endpoint are kept in a bounded buffer in order they were added,
+ * each message gets sequence number that is monotonically increasing within endpoint.
+ * Buffer is limited by total size of messages and by their age, when a limit is exceeded
+ * the oldest messages are dropped. Buffers of endpoints that are not touched longer than
+ * the maximal age of message are discarded.
+ *
+ * <p>Client that opens session with {@value #LAST_ACKED_ID_PARAMETER} request parameter
+ * gets every message prefixed with its sequence number (see {@link #prefixWithId(long, String)}),
+ * such messages are kept in the buffer even when they are sent, since sending may be
+ * acknowledged by the container while the message never reaches the client. When client
+ * reconnects it passes sequence number of the last message it has received, so only the
+ * messages that follow it are re-sent. For any other client a message is removed from
+ * the buffer as soon as its sending is acknowledged by the container.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
 public class MessagesReSender {
-    private static final int MAX_MESSAGES = 100;
+    private static final Logger LOG = getLogger(MessagesReSender.class);
+
+    /** Request parameter of WEB SOCKET handshake with sequence number of the last message received by client, {@code -1} if none. */
+    public static final String LAST_ACKED_ID_PARAMETER = "lastAckedId";
+    /** Separates sequence number of message from message itself. */
+    public static final char   SEQUENCE_SEPARATOR      = ':';
+
+    private static final long DEFAULT_MAX_BYTES      = 1024 * 1024;
+    private static final long DEFAULT_MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(10);
 
     private final WebSocketSessionRegistry registry;
+    private final long                     maxBytes;
+    private final long                     maxAgeMillis;
 
-    private final Map<String, List<String>> messagesMap = new HashMap<>();
+    private final ConcurrentMap<String, ReplayBuffer> buffers;
 
     @Inject
     public MessagesReSender(WebSocketSessionRegistry registry) {
-        this.registry = registry;
+        this(registry, DEFAULT_MAX_BYTES, DEFAULT_MAX_AGE_MILLIS);
     }
 
-    public void add(String endpointId, String message) {
-        List<String> messages = messagesMap.get(endpointId);
+    @VisibleForTesting
+    MessagesReSender(WebSocketSessionRegistry registry, long maxBytes, long maxAgeMillis) {
+        this.registry = registry;
+        this.maxBytes = maxBytes;
+        this.maxAgeMillis = maxAgeMillis;
+        this.buffers = CacheBuilder.newBuilder()
+                                   .expireAfterAccess(maxAgeMillis, TimeUnit.MILLISECONDS)
+                                   .<String, ReplayBuffer>build()
+                                   .asMap();
+    }
 
-        if (messages == null) {
-            messages = new LinkedList<>();
-            messagesMap.put(endpointId, messages);
-        }
+    /** Returns message prefixed with its sequence number as it is sent to client that passes {@value #LAST_ACKED_ID_PARAMETER}. */
+    public static String prefixWithId(long id, String message) {
+        return Long.toString(id) + SEQUENCE_SEPARATOR + message;
+    }
 
-        if (messages.size() <= MAX_MESSAGES) {
-            messages.add(message);
-        }
+    /**
+     * Adds message to the buffer of endpoint.
+     *
+     * @return sequence number of the message
+     */
+    public long add(String endpointId, String message) {
+        return buffers.computeIfAbsent(endpointId, it -> new ReplayBuffer()).add(message);
     }
 
     public void resend(String endpointId) {
-        final List<String> messages = messagesMap.remove(endpointId);
+        resend(endpointId, () -> {});
+    }
 
-        if (messages == null || messages.isEmpty()) {
+    /**
+     * Re-sends messages that are not sent to the endpoint while its session was closed.
+     *
+     * @param endpointId
+     *         identifier of endpoint which session is opened
+     * @param whenResent
+     *         called once re-sending is finished or stopped, e.g. to release messages
+     *         that are held to not overtake the re-sent ones
+     */
+    public void resend(String endpointId, Runnable whenResent) {
+        final ReplayBuffer buffer = buffers.get(endpointId);
+
+        if (buffer == null) {
+            whenResent.run();
             return;
         }
 
-        final Optional<Session> sessionOptional = registry.get(endpointId);
+        buffer.resend(endpointId, null, whenResent);
+    }
+
+    /**
+     * Re-sends messages that follow the last one received by client, messages are prefixed with their sequence numbers.
+     *
+     * @param endpointId
+     *         identifier of endpoint which session is opened
+     * @param lastAckedId
+     *         sequence number of the last message received by client, {@code -1} if client hasn't received any
+     * @param whenResent
+     *         called once re-sending is finished or stopped, e.g. to release messages
+     *         that are held to not overtake the re-sent ones
+     */
+    public void resend(String endpointId, long lastAckedId, Runnable whenResent) {
+        final ReplayBuffer buffer = buffers.get(endpointId);
 
-        if (!sessionOptional.isPresent()) {
+        if (buffer == null) {
+            whenResent.run();
             return;
         }
 
-        final Session session = sessionOptional.get();
+        buffer.resend(endpointId, lastAckedId, whenResent);
+    }
+
+    private static long sizeOf(String message) {
+        // messages are held in memory as UTF-16 strings
+        return 2L * message.length();
+    }
+
+    private class ReplayBuffer {
+        private final NavigableMap<Long, Entry> entries = new TreeMap<>();
 
-        final List<String> backing = new ArrayList<>(messages);
-        messages.clear();
+        private long     nextId;
+        private long     bytes;
+        private boolean  sequenced;
+        /** Sequence number of the last message sent by current re-sending. */
+        private long     cursor;
+        private boolean  sending;
+        private Runnable whenResent;
+        private Runnable nextWhenResent;
+        private Long     nextLastAckedId;
 
-        for (String message : backing) {
+        synchronized long add(String message) {
+            final long id = nextId++;
+            entries.put(id, new Entry(id, message, System.currentTimeMillis()));
+            bytes += sizeOf(message);
+            evict();
+            return id;
+        }
 
-            if (session.isOpen()) {
-                session.getAsyncRemote().sendText(message);
+        void resend(String endpointId, Long lastAckedId, Runnable whenResent) {
+            final boolean start;
+            Runnable replaced = null;
+            synchronized (this) {
+                start = !sending;
+                if (start) {
+                    sending = true;
+                    this.whenResent = whenResent;
+                    startFrom(endpointId, lastAckedId);
+                } else {
+                    // re-sending to the previous session of endpoint stops soon as that session
+                    // is closed, re-sending to the current session is started right after it
+                    replaced = nextWhenResent;
+                    nextWhenResent = whenResent;
+                    nextLastAckedId = lastAckedId;
+                }
+            }
+            if (replaced != null) {
+                // session waiting for re-sending is already replaced with a newer one
+                replaced.run();
+            }
+            if (!start) {
+                return;
+            }
+
+            final Optional<Session> sessionOptional = registry.get(endpointId);
+            if (sessionOptional.isPresent()) {
+                sendAll(endpointId, sessionOptional.get());
             } else {
-                messages.add(message);
+                stopSending(endpointId);
             }
         }
 
-        messagesMap.put(endpointId, messages);
+        /** Forgets messages that are received by client, if client passes sequence number of the last of them. */
+        private void startFrom(String endpointId, Long lastAckedId) {
+            sequenced = lastAckedId != null;
+            cursor = -1;
+            if (lastAckedId == null || lastAckedId < 0) {
+                return;
+            }
+            if (lastAckedId >= nextId) {
+                // client got messages from another instance of buffer, e.g. before restart, all the messages are new to it
+                LOG.debug("Endpoint {} acknowledges unknown message {}, re-sending all messages", endpointId, lastAckedId);
+                return;
+            }
+            final Map.Entry<Long, Entry> first = entries.firstEntry();
+            if (first != null && first.getKey() > lastAckedId + 1) {
+                LOG.warn("Messages from {} to {} are dropped from re-send buffer before endpoint {} received them",
+                         lastAckedId + 1, first.getKey() - 1, endpointId);
+            }
+            removeUpTo(lastAckedId);
+            cursor = lastAckedId;
+        }
+
+        /**
+         * Sends messages one by one, the next message is sent when sending of the previous one is acknowledged.
+         * Container may acknowledge sending either in the same thread before {@code sendText} returns or
+         * later in another thread, whichever of the two comes last continues sending of the rest messages.
+         */
+        private void sendAll(String endpointId, Session session) {
+            for (Entry entry = next(session); entry != null; entry = next(session)) {
+                final Entry sent = entry;
+                final AtomicBoolean returned = new AtomicBoolean();
+                final AtomicBoolean acked = new AtomicBoolean();
+                try {
+                    session.getAsyncRemote().sendText(sent.text, result -> {
+                        acked.set(ack(endpointId, sent, result));
+                        if (!acked.get()) {
+                            stopSending(endpointId);
+                        } else if (!returned.compareAndSet(false, true)) {
+                            sendAll(endpointId, session);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    LOG.debug("Can't re-send message {} to endpoint {}", sent.id, endpointId, e);
+                    stopSending(endpointId);
+                    return;
+                }
+                if (returned.compareAndSet(false, true) || !acked.get()) {
+                    return;
+                }
+            }
+            stopSending(endpointId);
+        }
+
+        private synchronized Entry next(Session session) {
+            evict();
+            if (!session.isOpen()) {
+                return null;
+            }
+            final Map.Entry<Long, Entry> next = entries.higherEntry(cursor);
+            if (next == null) {
+                return null;
+            }
+            final Entry entry = next.getValue();
+            return sequenced ? new Entry(entry.id, prefixWithId(entry.id, entry.text), entry.timestamp) : entry;
+        }
+
+        private synchronized boolean ack(String endpointId, Entry entry, SendResult result) {
+            if (!result.isOK()) {
+                LOG.debug("Re-sending of message {} to endpoint {} failed, it is kept for the next reconnection",
+                          entry.id, endpointId, result.getException());
+                return false;
+            }
+            cursor = entry.id;
+            if (!sequenced) {
+                removeUpTo(entry.id);
+            }
+            return true;
+        }
+
+        private void stopSending(String endpointId) {
+            final Runnable finished;
+            final Runnable next;
+            final Long lastAckedId;
+            synchronized (this) {
+                finished = whenResent;
+                next = nextWhenResent;
+                lastAckedId = nextLastAckedId;
+                whenResent = null;
+                nextWhenResent = null;
+                nextLastAckedId = null;
+                sending = false;
+            }
+            finished.run();
+            if (next != null) {
+                resend(endpointId, lastAckedId, next);
+            }
+        }
+
+        private void removeUpTo(long id) {
+            Map.Entry<Long, Entry> head;
+            while ((head = entries.firstEntry()) != null && head.getKey() <= id) {
+                entries.pollFirstEntry();
+                bytes -= sizeOf(head.getValue().text);
+            }
+        }
+
+        private void evict() {
+            final long oldest = System.currentTimeMillis() - maxAgeMillis;
+            Map.Entry<Long, Entry> head;
+            while ((head = entries.firstEntry()) != null && (bytes > maxBytes || head.getValue().timestamp < oldest)) {
+                entries.pollFirstEntry();
+                bytes -= sizeOf(head.getValue().text);
+                LOG.debug("Message {} is dropped from re-send buffer", head.getKey());
+            }
+        }
+    }
+
+    private static class Entry {
+        final long   id;
+        final String text;
+        final long   timestamp;
+
+        Entry(long id, String text, long timestamp) {
+            this.id = id;
+            this.text = text;
+            this.timestamp = timestamp;
+        }
     }
 }
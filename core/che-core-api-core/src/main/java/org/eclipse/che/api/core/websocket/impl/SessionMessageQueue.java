@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.websocket.impl;
+
+import org.slf4j.Logger;
+
+import javax.websocket.CloseReason;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static javax.websocket.CloseReason.CloseCodes.TRY_AGAIN_LATER;
+import static javax.websocket.CloseReason.CloseCodes.UNEXPECTED_CONDITION;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Bounded queue of outbound messages of a single WEB SOCKET session. Messages are
+ * sent one by one with session's async remote, next message is sent when sending
+ * of the previous one is completed, so a slow session never blocks senders or other
+ * sessions.
+ *
+ * <p>Only messages that are offered as idempotent may be coalesced or dropped: an
+ * idempotent message that is equal to a pending idempotent message is coalesced with
+ * it, when the queue is full the oldest pending idempotent message is dropped. If the queue is full and there is nothing to drop,
+ * the session is closed as too slow and all the messages that are not sent are passed
+ * to the consumer of undelivered messages, so they may be re-sent after reconnection.
+ * The same happens when sending of a message that isn't idempotent fails, while failed
+ * idempotent message is just skipped.
+ *
+ * <p>Queue may be held, e.g. while messages that are missed by the endpoint are re-sent
+ * to the session, held messages are sent when the queue is released.
+ *
+ * <p>Messages to a client that acknowledges received messages get sequence numbers from
+ * {@link MessagesReSender} right before they are sent.
+ */
+class SessionMessageQueue {
+    private static final Logger LOG = getLogger(SessionMessageQueue.class);
+
+    private final Session                    session;
+    private final String                     endpointId;
+    private final int                        capacity;
+    private final Executor                   executor;
+    private final MessagesReSender           reSender;
+    private final boolean                    sequenced;
+
+    /**
+     * Pending messages in order they are offered. Idempotent message is keyed with itself
+     * and is also kept in {@link #idempotent}, so both coalescing and dropping take constant
+     * time, any other message has a unique key.
+     */
+    private final Map<Object, String> messages   = new LinkedHashMap<>();
+    private final Set<String>         idempotent = new LinkedHashSet<>();
+
+    private boolean sending;
+    private boolean held;
+    private boolean overflowed;
+    private long    dropped;
+
+    /**
+     * @param session
+     *         session to send messages to
+     * @param endpointId
+     *         identifier of endpoint the session is opened from
+     * @param capacity
+     *         max number of pending messages
+     * @param executor
+     *         executor that continues sending when previous message is sent
+     * @param reSender
+     *         re-sender that gets messages which are not sent because session is closed
+     * @param sequenced
+     *         whether messages are sent prefixed with sequence numbers, such messages are
+     *         kept by re-sender until client acknowledges them after reconnection
+     */
+    SessionMessageQueue(Session session,
+                        String endpointId,
+                        int capacity,
+                        Executor executor,
+                        MessagesReSender reSender,
+                        boolean sequenced) {
+        this.session = session;
+        this.endpointId = endpointId;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.reSender = reSender;
+        this.sequenced = sequenced;
+    }
+
+    /** Offers message that is never coalesced or dropped. */
+    void offer(String message) {
+        offer(message, false);
+    }
+
+    /**
+     * Offers message to the queue.
+     *
+     * @param message
+     *         message to send
+     * @param idempotent
+     *         whether the message may be coalesced with equal pending message or dropped when the queue is full
+     */
+    void offer(String message, boolean idempotent) {
+        final boolean closeSession;
+        final boolean startSending;
+        synchronized (this) {
+            if (idempotent && this.idempotent.contains(message)) {
+                LOG.debug("Coalescing message to endpoint '{}' with pending one", endpointId);
+                return;
+            }
+            closeSession = messages.size() >= capacity && !overflowed && !dropOldestIdempotent();
+            if (closeSession) {
+                LOG.warn("Outbound message queue of endpoint '{}' is full of messages that can't be dropped, closing session",
+                         endpointId);
+                overflowed = true;
+            }
+            if (idempotent) {
+                this.idempotent.add(message);
+                messages.put(message, message);
+            } else {
+                messages.put(new Object(), message);
+            }
+            startSending = !sending && !held;
+            sending |= startSending;
+        }
+
+        if (closeSession) {
+            close(new CloseReason(TRY_AGAIN_LATER, "Session is too slow"));
+        }
+        if (startSending) {
+            sendNext();
+        }
+    }
+
+    /** Holds offered messages in the queue until {@link #release()} is called. */
+    synchronized void hold() {
+        held = true;
+    }
+
+    /** Starts sending of messages held in the queue. */
+    void release() {
+        synchronized (this) {
+            held = false;
+            if (sending || messages.isEmpty()) {
+                return;
+            }
+            sending = true;
+        }
+        sendNext();
+    }
+
+    synchronized int size() {
+        return messages.size();
+    }
+
+    /**
+     * Called when session is closed, passes pending messages to the consumer of undelivered messages
+     * right away if nothing is being sent, otherwise they are passed when sending of the current message
+     * completes, so the order of messages is kept.
+     */
+    void sessionClosed() {
+        synchronized (this) {
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        sendNext();
+    }
+
+    private boolean dropOldestIdempotent() {
+        final Iterator<String> it = idempotent.iterator();
+        if (!it.hasNext()) {
+            return false;
+        }
+        messages.remove(it.next());
+        it.remove();
+        if (dropped++ % capacity == 0) {
+            LOG.warn("Outbound message queue of endpoint '{}' is full, {} messages are dropped", endpointId, dropped);
+        }
+        return true;
+    }
+
+    private synchronized Map.Entry<Object, String> poll() {
+        final Iterator<Map.Entry<Object, String>> it = messages.entrySet().iterator();
+        if (!it.hasNext()) {
+            sending = false;
+            return null;
+        }
+        final Map.Entry<Object, String> head = it.next();
+        it.remove();
+        if (head.getKey() instanceof String) {
+            idempotent.remove(head.getKey());
+        }
+        return head;
+    }
+
+    private void sendNext() {
+        final Map.Entry<Object, String> head = poll();
+        if (head == null) {
+            return;
+        }
+        final String message = head.getValue();
+        final boolean idempotent = head.getKey() instanceof String;
+
+        if (!session.isOpen()) {
+            giveUp(message);
+            return;
+        }
+
+        final String text;
+        final String undelivered;
+        if (sequenced) {
+            // message is already in re-sender, so it isn't passed there again if it's not sent
+            text = MessagesReSender.prefixWithId(reSender.add(endpointId, message), message);
+            undelivered = null;
+        } else {
+            text = message;
+            undelivered = message;
+        }
+
+        try {
+            session.getAsyncRemote().sendText(text, result -> onSent(result, undelivered, idempotent));
+        } catch (RuntimeException e) {
+            LOG.error("Error while trying to send a message to an async websocket remote endpoint, closing session", e);
+            close(new CloseReason(UNEXPECTED_CONDITION, "Message can't be sent"));
+            giveUp(undelivered);
+        }
+    }
+
+    private void onSent(SendResult result, String message, boolean idempotent) {
+        if (!result.isOK()) {
+            if (!session.isOpen()) {
+                giveUp(message);
+                return;
+            }
+            if (!idempotent) {
+                // messages that follow the failed one can't be sent before it, so all of them are re-sent after reconnection
+                LOG.warn("Can't send message to endpoint '{}', closing session", endpointId, result.getException());
+                close(new CloseReason(UNEXPECTED_CONDITION, "Message can't be sent"));
+                giveUp(message);
+                return;
+            }
+            LOG.debug("Can't send idempotent message to endpoint '{}', skipping it", endpointId, result.getException());
+        }
+        continueSending();
+    }
+
+    /**
+     * Sending is continued in executor, since completion handler may be called in the
+     * thread that started sending and sending of all pending messages in that thread
+     * would end up with deep recursion.
+     */
+    private void continueSending() {
+        try {
+            executor.execute(this::sendNext);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Transmitter is stopped, passing pending messages of endpoint '{}' to re-sender", endpointId);
+            giveUp(null);
+        }
+    }
+
+    private void giveUp(String message) {
+        final List<String> pending;
+        synchronized (this) {
+            pending = new ArrayList<>(messages.size() + 1);
+            if (message != null) {
+                pending.add(message);
+            }
+            pending.addAll(messages.values());
+            messages.clear();
+            idempotent.clear();
+            sending = false;
+        }
+
+        LOG.debug("Session of endpoint '{}' is closed, adding {} messages to pending", endpointId, pending.size());
+        pending.forEach(it -> reSender.add(endpointId, it));
+    }
+
+    private void close(CloseReason reason) {
+        try {
+            session.close(reason);
+        } catch (IOException e) {
+            LOG.debug("Can't close session of endpoint '{}'", endpointId, e);
+        }
+    }
+}
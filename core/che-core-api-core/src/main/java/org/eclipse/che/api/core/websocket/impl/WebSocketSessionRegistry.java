@@ -15,6 +15,7 @@ import org.slf4j.Logger;
 import javax.inject.Singleton;
 import javax.websocket.Session;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -53,4 +54,9 @@ public class WebSocketSessionRegistry {
     public Set<Session> getSessions() {
         return sessionsMap.values().stream().collect(toSet());
     }
+
+    /** Returns snapshot of identifiers of endpoints which sessions are registered. */
+    public Set<String> getEndpointIds() {
+        return new HashSet<>(sessionsMap.keySet());
+    }
 }
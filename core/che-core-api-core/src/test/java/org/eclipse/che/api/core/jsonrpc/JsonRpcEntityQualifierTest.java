@@ -12,6 +12,7 @@ package org.eclipse.che.api.core.jsonrpc;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
 
 import org.eclipse.che.api.core.jsonrpc.JsonRpcEntityQualifier.JsonRpcEntityType;
 import org.mockito.testng.MockitoTestNGListener;
@@ -77,6 +78,23 @@ public class JsonRpcEntityQualifierTest {
         assertEquals(JsonRpcEntityType.UNDEFINED, type);
     }
 
+    @Test
+    public void shouldQualifyParsedMessage() {
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("method", "method-name");
+
+        JsonRpcEntityType type = qualifier.qualify(jsonObject);
+
+        assertEquals(JsonRpcEntityType.REQUEST, type);
+    }
+
+    @Test
+    public void shouldQualifyUndefinedWhenMessageIsNotObject() {
+        JsonRpcEntityType type = qualifier.qualify(new JsonPrimitive("method"));
+
+        assertEquals(JsonRpcEntityType.UNDEFINED, type);
+    }
+
     @Test
     public void shouldQualifyUndefinedWhenMessageContainsNoValuableKeys() {
         JsonObject jsonObject = new JsonObject();
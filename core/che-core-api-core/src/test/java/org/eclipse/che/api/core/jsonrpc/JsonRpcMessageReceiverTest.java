@@ -10,6 +10,10 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.jsonrpc;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -17,12 +21,11 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
-import java.util.Collections;
-
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,7 +37,7 @@ import static org.mockito.Mockito.when;
 @Listeners(MockitoTestNGListener.class)
 public class JsonRpcMessageReceiverTest {
     static final String ENDPOINT_ID    = "endpointId";
-    static final String LIST_MESSAGE   = "[]";
+    static final String LIST_MESSAGE   = "[{}]";
     static final String OBJECT_MESSAGE = "{}";
     static final int    ERROR_CODE     = 0;
     static final String ERROR_MESSAGE  = "error message";
@@ -54,8 +57,6 @@ public class JsonRpcMessageReceiverTest {
     @InjectMocks
     JsonRpcMessageReceiver  receiver;
 
-    @Mock
-    JsonRpcList     list;
     @Mock
     JsonRpcRequest  request;
     @Mock
@@ -63,11 +64,10 @@ public class JsonRpcMessageReceiverTest {
 
     @BeforeMethod
     public void setUp() throws Exception {
-        when(qualifier.qualify(anyString())).thenReturn(JsonRpcEntityQualifier.JsonRpcEntityType.UNDEFINED);
-        when(jsonRpcFactory.createList(anyString())).thenReturn(list);
-        when(jsonRpcFactory.createRequest(anyString())).thenReturn(request);
-        when(jsonRpcFactory.createResponse(anyString())).thenReturn(response);
-        when(list.toStringifiedList()).thenReturn(Collections.singletonList(OBJECT_MESSAGE));
+        when(validator.validate(anyString())).thenAnswer(invocation -> new JsonParser().parse((String)invocation.getArguments()[0]));
+        when(qualifier.qualify(any(JsonElement.class))).thenReturn(JsonRpcEntityQualifier.JsonRpcEntityType.UNDEFINED);
+        when(jsonRpcFactory.createRequest(any(JsonObject.class))).thenReturn(request);
+        when(jsonRpcFactory.createResponse(any(JsonObject.class))).thenReturn(response);
     }
 
     @Test
@@ -95,43 +95,44 @@ public class JsonRpcMessageReceiverTest {
     }
 
     @Test
-    public void shouldCreateListIfMessageIsList() throws Exception {
-        receiver.receive(ENDPOINT_ID, LIST_MESSAGE);
+    public void shouldNotParseMessageAgainAfterValidation() throws Exception {
+        receiver.receive(ENDPOINT_ID, OBJECT_MESSAGE);
 
-        verify(jsonRpcFactory).createList(LIST_MESSAGE);
+        verify(qualifier, never()).qualify(anyString());
+        verify(jsonRpcFactory, never()).createList(anyString());
     }
 
     @Test
     public void shouldRunQualifyForObjectMessage() throws Exception {
         receiver.receive(ENDPOINT_ID, OBJECT_MESSAGE);
 
-        verify(qualifier).qualify(OBJECT_MESSAGE);
+        verify(qualifier).qualify(new JsonObject());
     }
 
     @Test
     public void shouldRunQualifyForListMessage() throws Exception {
         receiver.receive(ENDPOINT_ID, LIST_MESSAGE);
 
-        verify(qualifier).qualify(OBJECT_MESSAGE);
+        verify(qualifier).qualify(new JsonObject());
     }
 
     @Test
     public void shouldProcessRequest() throws Exception {
-        when(qualifier.qualify(anyString())).thenReturn(JsonRpcEntityQualifier.JsonRpcEntityType.REQUEST);
+        when(qualifier.qualify(any(JsonElement.class))).thenReturn(JsonRpcEntityQualifier.JsonRpcEntityType.REQUEST);
 
         receiver.receive(ENDPOINT_ID, OBJECT_MESSAGE);
 
-        verify(jsonRpcFactory).createRequest(anyString());
+        verify(jsonRpcFactory).createRequest(new JsonObject());
         verify(requestDispatcher).dispatch(ENDPOINT_ID, request);
     }
 
     @Test
     public void shouldProcessResponse() throws Exception {
-        when(qualifier.qualify(anyString())).thenReturn(JsonRpcEntityQualifier.JsonRpcEntityType.RESPONSE);
+        when(qualifier.qualify(any(JsonElement.class))).thenReturn(JsonRpcEntityQualifier.JsonRpcEntityType.RESPONSE);
 
         receiver.receive(ENDPOINT_ID, OBJECT_MESSAGE);
 
-        verify(jsonRpcFactory).createResponse(anyString());
+        verify(jsonRpcFactory).createResponse(new JsonObject());
         verify(responseDispatcher).dispatch(ENDPOINT_ID, response);
     }
 
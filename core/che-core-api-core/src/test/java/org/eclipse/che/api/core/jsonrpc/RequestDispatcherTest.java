@@ -11,17 +11,25 @@
 package org.eclipse.che.api.core.jsonrpc;
 
 import org.eclipse.che.api.core.websocket.WebSocketMessageTransmitter;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
-import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 
 /**
  * Tests for {@link RequestDispatcher}
@@ -39,6 +47,10 @@ public class RequestDispatcherTest {
     JsonRpcFactory              jsonRpcFactory;
     @Mock
     WebSocketMessageTransmitter transmitter;
+    @Mock
+    JsonRpcErrorTransmitter     errorTransmitter;
+    @Mock
+    RequestProcessor            processor;
     @InjectMocks
     RequestDispatcher           requestDispatcher;
 
@@ -70,6 +82,11 @@ public class RequestDispatcherTest {
 
         when(requestHandlerRegistry.getRequestHandler("method")).thenReturn(requestHandler);
         when(requestHandlerRegistry.getNotificationHandler("method")).thenReturn(notificationHandler);
+
+        doAnswer(invocation -> {
+            ((Runnable)invocation.getArguments()[1]).run();
+            return null;
+        }).when(processor).execute(anyString(), any(Runnable.class));
     }
 
     @Test
@@ -137,4 +154,42 @@ public class RequestDispatcherTest {
 
         requestDispatcher.dispatch(ENDPOINT_ID, request);
     }
+
+    @Test
+    public void shouldExecuteHandlerWithRequestProcessor() throws Exception {
+        requestDispatcher.dispatch(ENDPOINT_ID, request);
+
+        verify(processor).execute(eq(ENDPOINT_ID), any(Runnable.class));
+    }
+
+    @Test
+    public void shouldTransmitErrorIfHandlerFails() throws Exception {
+        JsonRpcException exception = new JsonRpcException(-32603, "error", REQUEST_ID);
+        when(requestHandler.handle(ENDPOINT_ID, params)).thenThrow(exception);
+
+        requestDispatcher.dispatch(ENDPOINT_ID, request);
+
+        verify(errorTransmitter).transmit(ENDPOINT_ID, exception);
+        verify(transmitter, never()).transmit(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldTransmitInternalErrorIfHandlerFailsUnexpectedly() throws Exception {
+        when(requestHandler.handle(ENDPOINT_ID, params)).thenThrow(new IllegalStateException("error"));
+
+        requestDispatcher.dispatch(ENDPOINT_ID, request);
+
+        ArgumentCaptor<JsonRpcException> captor = ArgumentCaptor.forClass(JsonRpcException.class);
+        verify(errorTransmitter).transmit(eq(ENDPOINT_ID), captor.capture());
+        assertEquals(captor.getValue().getCode(), -32603);
+        assertEquals(captor.getValue().getId(), REQUEST_ID);
+        verify(transmitter, never()).transmit(anyString(), anyString());
+    }
+
+    @Test(expectedExceptions = JsonRpcException.class)
+    public void shouldThrowExceptionIfRequestIsRejected() throws Exception {
+        doThrow(new RejectedExecutionException()).when(processor).execute(anyString(), any(Runnable.class));
+
+        requestDispatcher.dispatch(ENDPOINT_ID, request);
+    }
 }
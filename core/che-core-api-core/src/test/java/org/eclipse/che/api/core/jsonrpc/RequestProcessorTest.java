@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.jsonrpc;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link RequestProcessor}
+ */
+public class RequestProcessorTest {
+    static final String ENDPOINT_ID = "endpointId";
+
+    RequestProcessor processor;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        processor = new RequestProcessor(4, 2);
+        processor.start();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        processor.stop();
+    }
+
+    @Test
+    public void shouldExecuteTasksOfEndpointInOrder() throws Exception {
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        processor.execute(ENDPOINT_ID, () -> executed.add(1));
+        processor.execute(ENDPOINT_ID, () -> executed.add(2));
+        processor.execute(ENDPOINT_ID, done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(executed, asList(1, 2));
+    }
+
+    @Test
+    public void shouldNotBlockEndpointByTasksOfAnotherEndpoint() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        processor.execute(ENDPOINT_ID, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        processor.execute("anotherEndpointId", done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test(expectedExceptions = RejectedExecutionException.class)
+    public void shouldRejectTaskWhenEndpointQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 4; i++) {
+                processor.execute(ENDPOINT_ID, () -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.jsonrpc;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.function.BiConsumer;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link ResponseDispatcher}
+ */
+@Listeners(MockitoTestNGListener.class)
+public class ResponseDispatcherTest {
+    static final String REQUEST_ID  = "0";
+    static final String ENDPOINT_ID = "endpointId";
+
+    @Mock
+    JsonRpcResponse            response;
+    @Mock
+    JsonRpcResult              result;
+    @Mock
+    BiConsumer<String, String> successConsumer;
+    @Mock
+    BiConsumer<String, String> failureConsumer;
+
+    ResponseDispatcher responseDispatcher;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        responseDispatcher = new ResponseDispatcher(60);
+        responseDispatcher.start();
+
+        when(response.getId()).thenReturn(REQUEST_ID);
+        when(response.hasResult()).thenReturn(true);
+        when(response.getResult()).thenReturn(result);
+        when(result.getAs(String.class)).thenReturn("result");
+
+        responseDispatcher.registerPromiseOfOne(ENDPOINT_ID, REQUEST_ID, String.class, new JsonRpcPromise<String>()
+                .onSuccess(successConsumer)
+                .onFailure(failureConsumer));
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        responseDispatcher.stop();
+    }
+
+    @Test
+    public void shouldAcceptResultAndRemovePendingRequest() throws Exception {
+        responseDispatcher.dispatch(ENDPOINT_ID, response);
+
+        verify(successConsumer).accept(ENDPOINT_ID, "result");
+        assertEquals(responseDispatcher.getPendingCount(), 0);
+    }
+
+    @Test
+    public void shouldIgnoreResponseWithUnknownId() throws Exception {
+        responseDispatcher.dispatch(ENDPOINT_ID, response);
+        responseDispatcher.dispatch(ENDPOINT_ID, response);
+
+        verify(successConsumer).accept(ENDPOINT_ID, "result");
+    }
+
+    @Test
+    public void shouldNotExpireRequestBeforeDeadline() throws Exception {
+        responseDispatcher.expire(System.currentTimeMillis());
+
+        verify(failureConsumer, never()).accept(anyString(), any());
+        assertEquals(responseDispatcher.getPendingCount(), 1);
+        assertEquals(responseDispatcher.getExpiredCount(), 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldFailPromiseWithTimeoutErrorWhenRequestExpires() throws Exception {
+        responseDispatcher.expire(Long.MAX_VALUE);
+
+        ArgumentCaptor<Object> errorCaptor = ArgumentCaptor.forClass(Object.class);
+        verify((BiConsumer<String, Object>)(BiConsumer)failureConsumer).accept(eq(ENDPOINT_ID), errorCaptor.capture());
+        assertEquals(((JsonRpcError)errorCaptor.getValue()).getCode(), ResponseDispatcher.TIMEOUT_ERROR_CODE);
+        assertEquals(responseDispatcher.getPendingCount(), 0);
+        assertEquals(responseDispatcher.getExpiredCount(), 1);
+    }
+
+    @Test
+    public void shouldIgnoreResponseToExpiredRequest() throws Exception {
+        responseDispatcher.expire(Long.MAX_VALUE);
+        responseDispatcher.dispatch(ENDPOINT_ID, response);
+
+        verify(successConsumer, never()).accept(anyString(), anyString());
+    }
+}
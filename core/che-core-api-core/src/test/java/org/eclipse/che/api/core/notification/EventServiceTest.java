@@ -11,12 +11,18 @@
 package org.eclipse.che.api.core.notification;
 
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
 
 /**
  * @author andrew00x
@@ -29,6 +35,11 @@ public class EventServiceTest {
         bus = new EventService();
     }
 
+    @AfterMethod
+    public void tearDown() {
+        bus.stop();
+    }
+
     @Test
     public void testSimpleEvent() {
         final List<Object> events = new ArrayList<>();
@@ -191,6 +202,110 @@ public class EventServiceTest {
         bus.unsubscribe(sb, CustomEventImpl.class);
     }
 
+    @Test
+    public void shouldDeliverEventsToAsyncSubscriberInPublishingOrder() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch delivered = new CountDownLatch(3);
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribeAsync(new EventSubscriber<String>() {
+            @Override
+            public void onEvent(String event) {
+                awaitQuietly(release);
+                events.add(event);
+                delivered.countDown();
+            }
+        }, 10, EventService.OverflowPolicy.BLOCK);
+
+        bus.publish("a");
+        bus.publish("b");
+        bus.publish("c");
+        // publisher isn't blocked by subscriber
+        Assert.assertTrue(events.isEmpty());
+
+        release.countDown();
+        Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(events, asList("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldDropNewestEventsWhenQueueOfAsyncSubscriberIsFull() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch delivered = new CountDownLatch(3);
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final EventSubscriber<String> subscriber = new EventSubscriber<String>() {
+            @Override
+            public void onEvent(String event) {
+                started.countDown();
+                awaitQuietly(release);
+                events.add(event);
+                delivered.countDown();
+            }
+        };
+        bus.subscribeAsync(subscriber, String.class, 2, EventService.OverflowPolicy.DROP_NEWEST);
+
+        bus.publish("a");
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        bus.publish("b");
+        bus.publish("c");
+        bus.publish("d");
+        Assert.assertEquals(bus.getQueueSize(subscriber), 2);
+        Assert.assertEquals(bus.getDroppedEventsCount(subscriber), 1);
+
+        release.countDown();
+        Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(events, asList("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldDropOldestEventsWhenQueueOfAsyncSubscriberIsFull() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch delivered = new CountDownLatch(3);
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final EventSubscriber<String> subscriber = new EventSubscriber<String>() {
+            @Override
+            public void onEvent(String event) {
+                started.countDown();
+                awaitQuietly(release);
+                events.add(event);
+                delivered.countDown();
+            }
+        };
+        bus.subscribeAsync(subscriber, String.class, 2, EventService.OverflowPolicy.DROP_OLDEST);
+
+        bus.publish("a");
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        bus.publish("b");
+        bus.publish("c");
+        bus.publish("d");
+        Assert.assertEquals(bus.getDroppedEventsCount(subscriber), 1);
+
+        release.countDown();
+        Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(events, asList("a", "c", "d"));
+    }
+
+    @Test
+    public void shouldNotDeliverEventsToUnsubscribedAsyncSubscriber() throws Exception {
+        final Listener listener = new Listener();
+        bus.subscribeAsync(listener, 10, EventService.OverflowPolicy.BLOCK);
+        bus.unsubscribe(listener);
+
+        bus.publish("a");
+
+        Assert.assertEquals(bus.getQueueSize(listener), 0);
+        Assert.assertTrue(listener.events.isEmpty());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     static class CustomEventSubscriber<T extends CustomEvent> implements EventSubscriber<T> {
         final List<String> events = new ArrayList<>();
 
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
+
+import org.eclipse.che.api.core.BadRequestException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.api.core.util.LinksHelper;
+import org.everrest.assured.EverrestJetty;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.ITestContext;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests of {@link PooledHttpJsonRequest}.
+ */
+@Listeners({MockitoTestNGListener.class, EverrestJetty.class})
+public class PooledHttpJsonRequestTest {
+
+    @SuppressWarnings("unused") // used by EverrestJetty
+    private static final ApiExceptionMapper EXCEPTION_MAPPER = new ApiExceptionMapper();
+    @SuppressWarnings("unused") // used by EverrestJetty
+    private static final TestService        TEST_SERVICE     = new TestService();
+
+    @Test
+    public void shouldReadJsonObjectBodyAsString(ITestContext ctx) throws Exception {
+        final HttpJsonResponse response = new PooledHttpJsonRequest(getUrl(ctx) + "/application-json", false).useGetMethod()
+                                                                                                            .request();
+
+        assertEquals(response.asString(), TestService.JSON_OBJECT);
+    }
+
+    @Test
+    public void shouldSendJsonObjectBodyAndParseResponse(ITestContext ctx) throws Exception {
+        final Link link = LinksHelper.createLink("GET", "localhost:8080/application-json", "rel");
+
+        final List<Link> links = new PooledHttpJsonRequest(getUrl(ctx) + "/application-json", false).usePostMethod()
+                                                                                                   .setBody(Collections.singletonList(link))
+                                                                                                   .request()
+                                                                                                   .asList(Link.class);
+
+        assertEquals(links, Collections.singletonList(link));
+    }
+
+    @Test
+    public void shouldAskForGzipEncodedResponseAndDecodeIt(ITestContext ctx) throws Exception {
+        final HttpJsonResponse response = new PooledHttpJsonRequest(getUrl(ctx) + "/gzip", false).useGetMethod().request();
+
+        assertEquals(response.asString(), TestService.JSON_OBJECT);
+    }
+
+    @Test
+    public void shouldParseGzipEncodedResponseFromStream(ITestContext ctx) throws Exception {
+        final Set<?> set = new PooledHttpJsonRequest(getUrl(ctx) + "/gzip", false).useGetMethod()
+                                                                                  .request()
+                                                                                  .as(Set.class, new TypeToken<Set<String>>() {}.getType());
+
+        assertEquals(set, Collections.singleton("element"));
+    }
+
+    @Test
+    public void shouldSendLargeRequestBodyGzipEncodedWhenCompressionIsEnabled(ITestContext ctx) throws Exception {
+        final List<Link> links = createLinks(50);
+
+        final List<Link> result = new PooledHttpJsonRequest(getUrl(ctx) + "/gzip", true).usePostMethod()
+                                                                                        .setBody(links)
+                                                                                        .request()
+                                                                                        .asList(Link.class);
+
+        assertEquals(result, links);
+    }
+
+    @Test(expectedExceptions = BadRequestException.class)
+    public void shouldNotCompressSmallRequestBody(ITestContext ctx) throws Exception {
+        new PooledHttpJsonRequest(getUrl(ctx) + "/gzip", true).usePostMethod()
+                                                              .setBody(createLinks(1))
+                                                              .request();
+    }
+
+    @Test(expectedExceptions = BadRequestException.class)
+    public void shouldNotCompressRequestBodyWhenCompressionIsDisabled(ITestContext ctx) throws Exception {
+        new PooledHttpJsonRequest(getUrl(ctx) + "/gzip", false).usePostMethod()
+                                                               .setBody(createLinks(50))
+                                                               .request();
+    }
+
+    @Test
+    public void shouldParseBodyAlreadyReadAsString(ITestContext ctx) throws Exception {
+        final HttpJsonResponse response = new PooledHttpJsonRequest(getUrl(ctx) + "/application-json", false).useGetMethod()
+                                                                                                            .request();
+
+        assertEquals(response.asString(), TestService.JSON_OBJECT);
+        assertEquals(response.asString(), TestService.JSON_OBJECT);
+        assertEquals(response.as(Set.class, new TypeToken<Set<String>>() {}.getType()), Collections.singleton("element"));
+    }
+
+    @Test
+    public void shouldAllowToParseBodyTwice(ITestContext ctx) throws Exception {
+        final HttpJsonResponse response = new PooledHttpJsonRequest(getUrl(ctx) + "/gzip", false).useGetMethod().request();
+
+        assertEquals(response.as(Set.class, new TypeToken<Set<String>>() {}.getType()), Collections.singleton("element"));
+        assertEquals(response.as(Set.class, new TypeToken<Set<String>>() {}.getType()), Collections.singleton("element"));
+        assertEquals(response.asString(), TestService.JSON_OBJECT);
+    }
+
+    @Test
+    public void shouldReuseConnectionWhenBodyOfPreviousResponseIsNotRead(ITestContext ctx) throws Exception {
+        final HttpJsonResponse first = new PooledHttpJsonRequest(getUrl(ctx) + "/remote-port", false).useGetMethod().request();
+        final HttpJsonResponse second = new PooledHttpJsonRequest(getUrl(ctx) + "/remote-port", false).useGetMethod().request();
+
+        assertEquals(second.asString(), first.asString());
+    }
+
+    @Test
+    public void shouldReuseRequestAfterErrorResponse(ITestContext ctx) throws Exception {
+        try {
+            new PooledHttpJsonRequest(getUrl(ctx) + "/404/response-code-test", false).useGetMethod().request();
+        } catch (NotFoundException ignored) {
+        }
+
+        final Map<String, String> map = new PooledHttpJsonRequest(getUrl(ctx) + "/query-parameters", false).usePutMethod()
+                                                                                                          .addQueryParam("param1", "value1")
+                                                                                                          .addQueryParam("param2", "value2")
+                                                                                                          .request()
+                                                                                                          .asProperties();
+
+        assertEquals(map, ImmutableMap.of("param1", "value1", "param2", "value2"));
+    }
+
+    @Test(expectedExceptions = NotFoundException.class)
+    public void shouldThrowNotFoundExceptionWhenResponseCodeIs404(ITestContext ctx) throws Exception {
+        new PooledHttpJsonRequest(getUrl(ctx) + "/404/response-code-test", false).useGetMethod().request();
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldThrowIOExceptionIfServerReturnsTypeDifferentFromApplicationJson(ITestContext ctx) throws Exception {
+        new PooledHttpJsonRequest(getUrl(ctx) + "/text-plain", false).useGetMethod().request();
+    }
+
+    private static List<Link> createLinks(int count) {
+        final List<Link> links = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            links.add(LinksHelper.createLink("GET", "localhost:8080/application-json/" + i, "rel" + i));
+        }
+        return links;
+    }
+
+    private String getUrl(ITestContext ctx) {
+        return "http://localhost:" + ctx.getAttribute(EverrestJetty.JETTY_PORT) + "/rest/test";
+    }
+}
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.rest;
 
+import com.google.common.io.CharStreams;
+
+import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.core.rest.shared.dto.Link;
@@ -18,6 +21,7 @@ import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.dto.server.JsonArrayImpl;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
@@ -30,11 +34,20 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.net.URLDecoder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -42,7 +55,7 @@ import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 
 /**
- * Test service class, used in {@link DefaultHttpJsonRequestTest}.
+ * Test service class, used in {@link DefaultHttpJsonRequestTest} and {@link PooledHttpJsonRequestTest}.
  *
  * @author Yevhenii Voevodin
  */
@@ -51,6 +64,8 @@ public class TestService extends Service {
 
     public static final String JSON_OBJECT = new JsonArrayImpl<>(singletonList("element")).toJson();
 
+    private static final String GZIP = "gzip";
+
     @GET
     @Path("/{response-code}/response-code-test")
     public Response getRequestedResponseCode(@PathParam("response-code") int responseCode) {
@@ -80,6 +95,13 @@ public class TestService extends Service {
         return elements;
     }
 
+    @GET
+    @Path("/remote-port")
+    @Produces(APPLICATION_JSON)
+    public String getRemotePort(@Context HttpServletRequest request) {
+        return Integer.toString(request.getRemotePort());
+    }
+
     @PUT
     @Path("/query-parameters")
     @Produces(APPLICATION_JSON)
@@ -99,6 +121,36 @@ public class TestService extends Service {
         return map;
     }
 
+    @GET
+    @Path("/gzip")
+    @Produces(APPLICATION_JSON)
+    public Response getGzipEncodedJsonObject(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding)
+            throws BadRequestException, IOException {
+        if (acceptEncoding == null || !acceptEncoding.contains(GZIP)) {
+            throw new BadRequestException("Client doesn't accept gzip encoded response");
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(JSON_OBJECT.getBytes(UTF_8));
+        }
+        return Response.ok(bytes.toByteArray())
+                       .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                       .build();
+    }
+
+    @POST
+    @Path("/gzip")
+    @Produces(APPLICATION_JSON)
+    public String receiveGzipEncodedJsonObject(@HeaderParam(HttpHeaders.CONTENT_ENCODING) String contentEncoding,
+                                               InputStream body) throws BadRequestException, IOException {
+        if (!GZIP.equals(contentEncoding)) {
+            throw new BadRequestException("Request body isn't gzip encoded");
+        }
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(body), UTF_8)) {
+            return CharStreams.toString(reader);
+        }
+    }
+
     @POST
     @Path("/token")
     public void checkAuthorization(@HeaderParam(HttpHeaders.AUTHORIZATION) String token) throws UnauthorizedException {
@@ -17,6 +17,7 @@ import java.net.URI;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static org.eclipse.che.api.core.util.PagingUtil.createLinkHeader;
 import static org.eclipse.che.api.core.util.PagingUtil.parseLinkHeader;
 import static org.testng.Assert.assertEquals;
@@ -45,6 +46,22 @@ public class PagingUtilTest {
         assertEqualsNoOrder(linkHeader.split(", "), expLinks);
     }
 
+    @Test
+    public void testCreatingLinksHeaderWithNextPageQueryParameters() throws Exception {
+        final Page<String> page = new Page<>(asList("item3", "item4", "item5"), 3, 3, 7);
+        final URI srcUri = URI.create("http://localhost:8080/path?qp=test");
+
+
+        final String linkHeader = createLinkHeader(page, srcUri, singletonMap("cursor", "abc"));
+
+
+        final String[] expLinks = ("<http://localhost:8080/path?qp=test&skipCount=0&maxItems=3>; rel=\"first\", " +
+                                   "<http://localhost:8080/path?qp=test&skipCount=6&maxItems=3>; rel=\"last\", " +
+                                   "<http://localhost:8080/path?qp=test&skipCount=0&maxItems=3>; rel=\"prev\", " +
+                                   "<http://localhost:8080/path?qp=test&skipCount=6&maxItems=3&cursor=abc>; rel=\"next\"").split(", ");
+        assertEqualsNoOrder(linkHeader.split(", "), expLinks);
+    }
+
     @Test
     public void testParsingLinksHeader() throws Exception {
         final Map<String, String> relToLinks =
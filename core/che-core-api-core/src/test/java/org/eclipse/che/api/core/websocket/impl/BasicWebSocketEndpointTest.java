@@ -11,6 +11,9 @@
 package org.eclipse.che.api.core.websocket.impl;
 
 import org.eclipse.che.api.core.websocket.WebSocketMessageReceiver;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -21,8 +24,17 @@ import org.testng.annotations.Test;
 
 import javax.websocket.CloseReason;
 import javax.websocket.Session;
-
+import java.io.IOException;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.eclipse.che.api.core.websocket.impl.MessagesReSender.LAST_ACKED_ID_PARAMETER;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for {@link BasicWebSocketEndpoint}
@@ -32,18 +44,22 @@ import static org.mockito.Mockito.verify;
 @Listeners(MockitoTestNGListener.class)
 public class BasicWebSocketEndpointTest {
     @Mock
-    private WebSocketSessionRegistry registry;
+    private WebSocketSessionRegistry         registry;
+    @Mock
+    private MessagesReSender                 reSender;
     @Mock
-    private MessagesReSender         reSender;
+    private WebSocketMessageReceiver         receiver;
     @Mock
-    private WebSocketMessageReceiver receiver;
+    private BasicWebSocketMessageTransmitter transmitter;
     @InjectMocks
-    private BasicWebSocketEndpoint   endpoint;
+    private BasicWebSocketEndpoint           endpoint;
 
     @Mock
     private Session session;
     @Mock
     private CloseReason closeReason;
+    @Captor
+    private ArgumentCaptor<Runnable> whenResent;
 
     @BeforeMethod
     public void setUp() throws Exception {
@@ -66,7 +82,33 @@ public class BasicWebSocketEndpointTest {
     public void shouldResendOnOpen(){
         endpoint.onOpen(session, "id");
 
-        verify(reSender).resend("id");
+        verify(reSender).resend(eq("id"), any(Runnable.class));
+    }
+
+    @Test
+    public void shouldHoldMessagesToOpenedSessionUntilMissedOnesAreResent() {
+        endpoint.onOpen(session, "id");
+
+        final InOrder inOrder = inOrder(transmitter, registry, reSender);
+        inOrder.verify(transmitter).sessionOpened("id", session, false);
+        inOrder.verify(registry).add("id", session);
+        inOrder.verify(reSender).resend(eq("id"), whenResent.capture());
+        verify(transmitter, never()).sessionResent(session);
+
+        whenResent.getValue().run();
+
+        verify(transmitter).sessionResent(session);
+    }
+
+    @Test
+    public void shouldResendMessagesThatFollowTheLastAckedOneIfClientPassesIt() {
+        when(session.getRequestParameterMap()).thenReturn(singletonMap(LAST_ACKED_ID_PARAMETER, singletonList("5")));
+
+        endpoint.onOpen(session, "id");
+
+        verify(transmitter).sessionOpened("id", session, true);
+        verify(reSender).resend(eq("id"), eq(5L), any(Runnable.class));
+        verify(reSender, never()).resend(eq("id"), any(Runnable.class));
     }
 
     @Test
@@ -78,8 +120,33 @@ public class BasicWebSocketEndpointTest {
 
     @Test
     public void shouldRunRemoveOnClose(){
-        endpoint.onClose(closeReason, "id");
+        endpoint.onClose(session, closeReason, "id");
 
         verify(registry).remove("id");
     }
+
+    @Test
+    public void shouldForgetOutboundMessagesQueueOnClose() {
+        endpoint.onClose(session, closeReason, "id");
+
+        verify(transmitter).sessionClosed(session);
+    }
+
+    @Test
+    public void shouldForgetOutboundMessagesQueueOnErrorIfSessionIsClosed() {
+        when(session.isOpen()).thenReturn(false);
+
+        endpoint.onError(session, new IOException("error"), "id");
+
+        verify(transmitter).sessionClosed(session);
+    }
+
+    @Test
+    public void shouldKeepOutboundMessagesQueueOnErrorIfSessionIsOpen() {
+        when(session.isOpen()).thenReturn(true);
+
+        endpoint.onError(session, new IOException("error"), "id");
+
+        verify(transmitter, never()).sessionClosed(session);
+    }
 }
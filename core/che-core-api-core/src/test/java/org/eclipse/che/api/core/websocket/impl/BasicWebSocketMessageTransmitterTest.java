@@ -10,24 +10,37 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.websocket.impl;
 
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
+import javax.websocket.CloseReason;
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
 
 import java.io.IOException;
 import java.util.Optional;
 
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,36 +51,41 @@ import static org.mockito.Mockito.when;
  */
 @Listeners(MockitoTestNGListener.class)
 public class BasicWebSocketMessageTransmitterTest {
-    private static final String MESSAGE     = "message";
-    private static final String ENDPOINT_ID = "id";
+    private static final String MESSAGE         = "message";
+    private static final String ANOTHER_MESSAGE = "another message";
+    private static final String ENDPOINT_ID     = "id";
 
     @Mock
     private WebSocketSessionRegistry         registry;
     @Mock
     private MessagesReSender                 reSender;
-    @InjectMocks
+
     private BasicWebSocketMessageTransmitter transmitter;
 
     @Mock
     private Session              session;
     @Mock
-    private RemoteEndpoint.Basic remote;
+    private RemoteEndpoint.Async remote;
+    @Captor
+    private ArgumentCaptor<SendHandler> sendHandler;
 
     @BeforeMethod
     public void setUp() throws Exception {
-        when(session.getBasicRemote()).thenReturn(remote);
+        when(session.getAsyncRemote()).thenReturn(remote);
         when(session.isOpen()).thenReturn(true);
 
         when(registry.get(ENDPOINT_ID)).thenReturn(Optional.of(session));
-        when(registry.getSessions()).thenReturn(emptySet());
+        when(registry.getEndpointIds()).thenReturn(emptySet());
+
+        transmitter = new BasicWebSocketMessageTransmitter(registry, reSender);
     }
 
     @Test
     public void shouldSendDirectMessageIfSessionIsOpenAndEndpointIsSet() throws IOException {
         transmitter.transmit(ENDPOINT_ID, MESSAGE);
 
-        verify(session).getBasicRemote();
-        verify(remote).sendText(MESSAGE);
+        verify(session).getAsyncRemote();
+        verify(remote).sendText(eq(MESSAGE), any(SendHandler.class));
         verify(reSender, never()).add(eq(ENDPOINT_ID), anyString());
     }
 
@@ -75,11 +93,11 @@ public class BasicWebSocketMessageTransmitterTest {
     public void shouldSendBroadcastingMessageIfSessionIsOpen() throws IOException {
         transmitter.transmit(MESSAGE);
 
-        verify(session, never()).getBasicRemote();
-        verify(remote, never()).sendText(MESSAGE);
+        verify(session, never()).getAsyncRemote();
+        verify(remote, never()).sendText(eq(MESSAGE), any(SendHandler.class));
         verify(reSender, never()).add(any(), anyString());
 
-        verify(registry).getSessions();
+        verify(registry).getEndpointIds();
     }
 
     @Test
@@ -88,8 +106,237 @@ public class BasicWebSocketMessageTransmitterTest {
 
         transmitter.transmit(ENDPOINT_ID, MESSAGE);
 
-        verify(session, never()).getBasicRemote();
-        verify(remote, never()).sendText(MESSAGE);
+        verify(session, never()).getAsyncRemote();
+        verify(remote, never()).sendText(eq(MESSAGE), any(SendHandler.class));
+        verify(reSender).add(ENDPOINT_ID, MESSAGE);
+    }
+
+    @Test
+    public void shouldBroadcastMessageToOpenSessions() throws IOException {
+        when(registry.getEndpointIds()).thenReturn(singleton(ENDPOINT_ID));
+
+        transmitter.transmit(MESSAGE);
+
+        verify(remote).sendText(eq(MESSAGE), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldSendNextMessageOnlyWhenPreviousIsSent() throws IOException {
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+
+        transmitter.transmit(ENDPOINT_ID, MESSAGE);
+        transmitter.transmit(ENDPOINT_ID, ANOTHER_MESSAGE);
+
+        verify(remote).sendText(eq(MESSAGE), any(SendHandler.class));
+        verify(remote, never()).sendText(eq(ANOTHER_MESSAGE), any(SendHandler.class));
+
+        sendHandler.getValue().onResult(new SendResult());
+
+        verify(remote, timeout(1000)).sendText(eq(ANOTHER_MESSAGE), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldDropOldestIdempotentMessageWhenQueueIsFull() throws IOException {
+        transmitter = new BasicWebSocketMessageTransmitter(registry, reSender, 2);
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+
+        transmitter.transmit(ENDPOINT_ID, MESSAGE);
+        transmitter.transmitIdempotent(ENDPOINT_ID, "first");
+        transmitter.transmit(ENDPOINT_ID, "second");
+        transmitter.transmitIdempotent(ENDPOINT_ID, "third");
+        sendHandler.getValue().onResult(new SendResult());
+
+        verify(remote, timeout(1000)).sendText(eq("second"), any(SendHandler.class));
+        verify(remote, never()).sendText(eq("first"), any(SendHandler.class));
+        verify(session, never()).close(any(CloseReason.class));
+    }
+
+    @Test
+    public void shouldCloseSessionWhenQueueIsFullOfMessagesThatCanNotBeDropped() throws IOException {
+        transmitter = new BasicWebSocketMessageTransmitter(registry, reSender, 2);
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+
+        transmitter.transmit(ENDPOINT_ID, MESSAGE);
+        transmitter.transmit(ENDPOINT_ID, "first");
+        transmitter.transmit(ENDPOINT_ID, "second");
+        transmitter.transmit(ENDPOINT_ID, "third");
+
+        verify(session).close(any(CloseReason.class));
+
+        when(session.isOpen()).thenReturn(false);
+        sendHandler.getValue().onResult(new SendResult(new IOException("closed")));
+
+        final InOrder inOrder = inOrder(reSender);
+        inOrder.verify(reSender).add(ENDPOINT_ID, MESSAGE);
+        inOrder.verify(reSender).add(ENDPOINT_ID, "first");
+        inOrder.verify(reSender).add(ENDPOINT_ID, "second");
+        inOrder.verify(reSender).add(ENDPOINT_ID, "third");
+        verify(remote).sendText(anyString(), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldCoalesceOnlyIdempotentMessages() throws IOException {
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+
+        transmitter.transmit(ENDPOINT_ID, MESSAGE);
+        transmitter.transmitIdempotent(ENDPOINT_ID, ANOTHER_MESSAGE);
+        transmitter.transmitIdempotent(ENDPOINT_ID, ANOTHER_MESSAGE);
+        transmitter.transmit(ENDPOINT_ID, "response");
+        transmitter.transmit(ENDPOINT_ID, "response");
+        for (int i = 0; i < 3; i++) {
+            sendHandler.getValue().onResult(new SendResult());
+            verify(remote, timeout(1000).times(i + 2)).sendText(anyString(), any(SendHandler.class));
+        }
+        sendHandler.getValue().onResult(new SendResult());
+
+        verify(remote).sendText(eq(ANOTHER_MESSAGE), any(SendHandler.class));
+        verify(remote, times(2)).sendText(eq("response"), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldCloseSessionAndAddMessageToPendingWhenItCanNotBeSent() throws IOException {
+        doThrow(new IllegalStateException("busy")).when(remote).sendText(eq(MESSAGE), any(SendHandler.class));
+
+        transmitter.transmit(ENDPOINT_ID, MESSAGE);
+
+        verify(session).close(any(CloseReason.class));
+        verify(reSender).add(ENDPOINT_ID, MESSAGE);
+    }
+
+    @Test
+    public void shouldCloseSessionAndAddMessagesToPendingWhenSendingFailsOnOpenSession() throws IOException {
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+
+        transmitter.transmit(ENDPOINT_ID, MESSAGE);
+        transmitter.transmit(ENDPOINT_ID, ANOTHER_MESSAGE);
+        sendHandler.getValue().onResult(new SendResult(new IOException("broken pipe")));
+
+        verify(session).close(any(CloseReason.class));
+        final InOrder inOrder = inOrder(reSender);
+        inOrder.verify(reSender).add(ENDPOINT_ID, MESSAGE);
+        inOrder.verify(reSender).add(ENDPOINT_ID, ANOTHER_MESSAGE);
+        verify(remote, never()).sendText(eq(ANOTHER_MESSAGE), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldSkipIdempotentMessageWhenItsSendingFailsOnOpenSession() throws IOException {
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+
+        transmitter.transmitIdempotent(ENDPOINT_ID, MESSAGE);
+        transmitter.transmit(ENDPOINT_ID, ANOTHER_MESSAGE);
+        sendHandler.getValue().onResult(new SendResult(new IOException("broken pipe")));
+
+        verify(remote, timeout(1000)).sendText(eq(ANOTHER_MESSAGE), any(SendHandler.class));
+        verify(session, never()).close(any(CloseReason.class));
+        verify(reSender, never()).add(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldAddUnsentBroadcastMessagesToPendingOfEndpointWhenSessionIsClosed() throws IOException {
+        when(registry.getEndpointIds()).thenReturn(singleton(ENDPOINT_ID));
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+
+        transmitter.transmit(MESSAGE);
+        transmitter.transmit(ANOTHER_MESSAGE);
+        when(session.isOpen()).thenReturn(false);
+        sendHandler.getValue().onResult(new SendResult(new IOException("closed")));
+
+        verify(reSender).add(ENDPOINT_ID, MESSAGE);
+        verify(reSender).add(ENDPOINT_ID, ANOTHER_MESSAGE);
+    }
+
+    @Test
+    public void shouldForgetQueueOfClosedSession() throws IOException {
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+        transmitter.transmit(ENDPOINT_ID, MESSAGE);
+
+        transmitter.sessionClosed(session);
+        transmitter.transmit(ENDPOINT_ID, ANOTHER_MESSAGE);
+
+        // new queue doesn't wait for sending of the message from the forgotten one
+        verify(remote).sendText(eq(ANOTHER_MESSAGE), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldSendLiveMessagesToOpenedSessionOnlyAfterMissedOnesAreResent() throws IOException {
+        final MessagesReSender messagesReSender = new MessagesReSender(registry);
+        transmitter = new BasicWebSocketMessageTransmitter(registry, messagesReSender);
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+        messagesReSender.add(ENDPOINT_ID, "missed 1");
+        messagesReSender.add(ENDPOINT_ID, "missed 2");
+
+        transmitter.sessionOpened(ENDPOINT_ID, session, false);
+        messagesReSender.resend(ENDPOINT_ID, () -> transmitter.sessionResent(session));
+        transmitter.transmit(ENDPOINT_ID, "live 1");
+        sendHandler.getValue().onResult(new SendResult());
+        transmitter.transmit(ENDPOINT_ID, "live 2");
+
+        verify(remote, never()).sendText(eq("live 1"), any(SendHandler.class));
+
+        sendHandler.getValue().onResult(new SendResult());
+        sendHandler.getValue().onResult(new SendResult());
+
+        final InOrder inOrder = inOrder(remote);
+        inOrder.verify(remote).sendText(eq("missed 1"), any(SendHandler.class));
+        inOrder.verify(remote).sendText(eq("missed 2"), any(SendHandler.class));
+        inOrder.verify(remote).sendText(eq("live 1"), any(SendHandler.class));
+        inOrder.verify(remote, timeout(1000)).sendText(eq("live 2"), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldResendToReconnectedClientOnlyMessagesThatFollowTheLastAckedOne() throws IOException {
+        final MessagesReSender messagesReSender = new MessagesReSender(registry);
+        transmitter = new BasicWebSocketMessageTransmitter(registry, messagesReSender);
+        doAnswer(invocation -> {
+            ((SendHandler)invocation.getArguments()[1]).onResult(new SendResult());
+            return null;
+        }).when(remote).sendText(anyString(), any(SendHandler.class));
+        transmitter.sessionOpened(ENDPOINT_ID, session, true);
+        messagesReSender.resend(ENDPOINT_ID, -1, () -> transmitter.sessionResent(session));
+
+        transmitter.transmit(ENDPOINT_ID, "first");
+        transmitter.transmit(ENDPOINT_ID, "second");
+        transmitter.transmit(ENDPOINT_ID, "third");
+
+        final InOrder sent = inOrder(remote);
+        sent.verify(remote, timeout(1000)).sendText(eq("0:first"), any(SendHandler.class));
+        sent.verify(remote, timeout(1000)).sendText(eq("1:second"), any(SendHandler.class));
+        sent.verify(remote, timeout(1000)).sendText(eq("2:third"), any(SendHandler.class));
+
+        // client has received only the first message when connection is lost
+        when(session.isOpen()).thenReturn(false);
+        transmitter.sessionClosed(session);
+        final Session newSession = mock(Session.class);
+        final RemoteEndpoint.Async newRemote = mock(RemoteEndpoint.Async.class);
+        when(newSession.isOpen()).thenReturn(true);
+        when(newSession.getAsyncRemote()).thenReturn(newRemote);
+        doAnswer(invocation -> {
+            ((SendHandler)invocation.getArguments()[1]).onResult(new SendResult());
+            return null;
+        }).when(newRemote).sendText(anyString(), any(SendHandler.class));
+        when(registry.get(ENDPOINT_ID)).thenReturn(Optional.of(newSession));
+
+        transmitter.sessionOpened(ENDPOINT_ID, newSession, true);
+        messagesReSender.resend(ENDPOINT_ID, 0, () -> transmitter.sessionResent(newSession));
+        transmitter.transmit(ENDPOINT_ID, "fourth");
+
+        final InOrder resent = inOrder(newRemote);
+        resent.verify(newRemote).sendText(eq("1:second"), any(SendHandler.class));
+        resent.verify(newRemote).sendText(eq("2:third"), any(SendHandler.class));
+        resent.verify(newRemote, timeout(1000)).sendText(eq("3:fourth"), any(SendHandler.class));
+        verify(newRemote, never()).sendText(eq("0:first"), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldAddUnsentMessagesToPendingWhenSessionIsClosed() throws IOException {
+        doNothing().when(remote).sendText(anyString(), sendHandler.capture());
+
+        transmitter.transmit(ENDPOINT_ID, MESSAGE);
+        transmitter.transmit(ENDPOINT_ID, ANOTHER_MESSAGE);
+        when(session.isOpen()).thenReturn(false);
+        sendHandler.getValue().onResult(new SendResult(new IOException("closed")));
+
         verify(reSender).add(ENDPOINT_ID, MESSAGE);
+        verify(reSender).add(ENDPOINT_ID, ANOTHER_MESSAGE);
     }
 }
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.websocket.impl;
 
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -18,13 +19,18 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
 
+import java.io.IOException;
 import java.util.Optional;
 
 import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -55,6 +61,10 @@ public class MessagesReSenderTest {
         when(sessionRegistry.get(anyString())).thenReturn(Optional.of(session));
         when(session.getAsyncRemote()).thenReturn(endpoint);
         when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            ((SendHandler)invocation.getArguments()[1]).onResult(new SendResult());
+            return null;
+        }).when(endpoint).sendText(anyString(), any(SendHandler.class));
     }
 
     @BeforeMethod
@@ -72,7 +82,7 @@ public class MessagesReSenderTest {
 
         verify(sessionRegistry).get(ENDPOINT_ID);
         verify(session, never()).getAsyncRemote();
-        verify(endpoint, never()).sendText(MESSAGE);
+        verify(endpoint, never()).sendText(eq(MESSAGE), any(SendHandler.class));
     }
 
     @Test
@@ -83,13 +93,13 @@ public class MessagesReSenderTest {
         reSender.resend(ENDPOINT_ID);
 
         verify(session, never()).getAsyncRemote();
-        verify(endpoint, never()).sendText(MESSAGE);
+        verify(endpoint, never()).sendText(eq(MESSAGE), any(SendHandler.class));
 
         when(session.isOpen()).thenReturn(true);
         reSender.resend(ENDPOINT_ID);
 
         verify(session).getAsyncRemote();
-        verify(endpoint).sendText(MESSAGE);
+        verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
     }
 
     @Test
@@ -100,7 +110,7 @@ public class MessagesReSenderTest {
 
         verify(sessionRegistry).get(ENDPOINT_ID);
         verify(session).getAsyncRemote();
-        verify(endpoint).sendText(MESSAGE);
+        verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
     }
 
     @Test
@@ -114,7 +124,7 @@ public class MessagesReSenderTest {
         verify(sessionRegistry).get(ENDPOINT_ID);
         verify(sessionRegistry).get("1");
         verify(session, times(2)).getAsyncRemote();
-        verify(endpoint, times(2)).sendText(MESSAGE);
+        verify(endpoint, times(2)).sendText(eq(MESSAGE), any(SendHandler.class));
     }
 
     @Test
@@ -124,12 +134,12 @@ public class MessagesReSenderTest {
         reSender.resend(ENDPOINT_ID);
         verify(sessionRegistry).get(ENDPOINT_ID);
         verify(session).getAsyncRemote();
-        verify(endpoint).sendText(MESSAGE);
+        verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
 
         reSender.resend(ENDPOINT_ID);
         verify(sessionRegistry).get(ENDPOINT_ID);
         verify(session).getAsyncRemote();
-        verify(endpoint).sendText(MESSAGE);
+        verify(endpoint).sendText(eq(MESSAGE), any(SendHandler.class));
     }
 
     @Test
@@ -143,7 +153,7 @@ public class MessagesReSenderTest {
         verify(sessionRegistry).get(ENDPOINT_ID);
         verify(sessionRegistry).get("1");
         verify(session, times(2)).getAsyncRemote();
-        verify(endpoint, times(2)).sendText(MESSAGE);
+        verify(endpoint, times(2)).sendText(eq(MESSAGE), any(SendHandler.class));
 
         reSender.resend(ENDPOINT_ID);
         reSender.resend("1");
@@ -151,6 +161,104 @@ public class MessagesReSenderTest {
         verify(sessionRegistry).get(ENDPOINT_ID);
         verify(sessionRegistry).get("1");
         verify(session, times(2)).getAsyncRemote();
-        verify(endpoint, times(2)).sendText(MESSAGE);
+        verify(endpoint, times(2)).sendText(eq(MESSAGE), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldResendMessagesInOrder() {
+        reSender.add(ENDPOINT_ID, "0");
+        reSender.add(ENDPOINT_ID, "1");
+        reSender.add(ENDPOINT_ID, "2");
+
+        reSender.resend(ENDPOINT_ID);
+
+        InOrder inOrder = inOrder(endpoint);
+        inOrder.verify(endpoint).sendText(eq("0"), any(SendHandler.class));
+        inOrder.verify(endpoint).sendText(eq("1"), any(SendHandler.class));
+        inOrder.verify(endpoint).sendText(eq("2"), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldResendOnlyMessagesThatFollowTheLastAckedOneWithSequenceNumbers() {
+        reSender.add(ENDPOINT_ID, "first");
+        reSender.add(ENDPOINT_ID, "second");
+        reSender.add(ENDPOINT_ID, "third");
+
+        reSender.resend(ENDPOINT_ID, 0, () -> {});
+
+        InOrder inOrder = inOrder(endpoint);
+        inOrder.verify(endpoint).sendText(eq("1:second"), any(SendHandler.class));
+        inOrder.verify(endpoint).sendText(eq("2:third"), any(SendHandler.class));
+        verify(endpoint, times(2)).sendText(anyString(), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldKeepSentMessagesUntilClientAcksThem() {
+        reSender.add(ENDPOINT_ID, "first");
+        reSender.add(ENDPOINT_ID, "second");
+
+        reSender.resend(ENDPOINT_ID, -1, () -> {});
+        // the second message is lost although container acknowledged its sending
+        reSender.resend(ENDPOINT_ID, 0, () -> {});
+        reSender.resend(ENDPOINT_ID, 1, () -> {});
+
+        verify(endpoint).sendText(eq("0:first"), any(SendHandler.class));
+        verify(endpoint, times(2)).sendText(eq("1:second"), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldResendAllMessagesIfClientAcksUnknownMessage() {
+        reSender.add(ENDPOINT_ID, "first");
+
+        reSender.resend(ENDPOINT_ID, 10, () -> {});
+
+        verify(endpoint).sendText(eq("0:first"), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldResumeFromLastAckedMessageAfterFailedSending() {
+        reSender.add(ENDPOINT_ID, "0");
+        reSender.add(ENDPOINT_ID, "1");
+        doAnswer(invocation -> {
+            ((SendHandler)invocation.getArguments()[1]).onResult(new SendResult(new IOException("connection reset")));
+            return null;
+        }).when(endpoint).sendText(eq("1"), any(SendHandler.class));
+
+        reSender.resend(ENDPOINT_ID);
+
+        doAnswer(invocation -> {
+            ((SendHandler)invocation.getArguments()[1]).onResult(new SendResult());
+            return null;
+        }).when(endpoint).sendText(eq("1"), any(SendHandler.class));
+        reSender.resend(ENDPOINT_ID);
+
+        verify(endpoint).sendText(eq("0"), any(SendHandler.class));
+        verify(endpoint, times(2)).sendText(eq("1"), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldDropOldestMessagesWhenSizeLimitIsExceeded() {
+        reSender = new MessagesReSender(sessionRegistry, 2 * 2 * MESSAGE.length(), 60_000);
+
+        reSender.add(ENDPOINT_ID, "0" + MESSAGE);
+        reSender.add(ENDPOINT_ID, MESSAGE);
+        reSender.add(ENDPOINT_ID, MESSAGE);
+
+        reSender.resend(ENDPOINT_ID);
+
+        verify(endpoint, never()).sendText(eq("0" + MESSAGE), any(SendHandler.class));
+        verify(endpoint, times(2)).sendText(eq(MESSAGE), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldDropExpiredMessages() throws Exception {
+        reSender = new MessagesReSender(sessionRegistry, 1024, 1);
+
+        reSender.add(ENDPOINT_ID, MESSAGE);
+        Thread.sleep(10);
+
+        reSender.resend(ENDPOINT_ID);
+
+        verify(endpoint, never()).sendText(anyString(), any(SendHandler.class));
     }
 }
@@ -11,6 +11,7 @@
 
 package org.eclipse.che.dto.generator;
 
+import org.eclipse.che.dto.server.DtoTypeAdapter;
 import org.eclipse.che.dto.server.JsonArrayImpl;
 import org.eclipse.che.dto.server.JsonSerializable;
 import org.eclipse.che.dto.server.JsonStringMapImpl;
@@ -74,6 +75,7 @@ public class DtoImplServerTemplate extends DtoImpl {
         emitSerializer(methods, builder);
         emitDeserializer(methods, builder);
         emitDeserializerShortcut(builder);
+        emitTypeAdapter(methods, builder);
         emitCopyConstructor(methods, builder);
         // Delegation DTO methods.
         emitDelegateMethods(builder);
@@ -322,12 +324,129 @@ public class DtoImplServerTemplate extends DtoImpl {
         builder.append("      return gson.fromJson(jsonString, ").append(getImplClassName()).append(".class);\n");
         builder.append("    }\n\n");
     }
-    private static StringBuilder appendNaiveCopyJsonExpression(String inValue, StringBuilder builder) {
+
+    /**
+     * Emits a nested {@link org.eclipse.che.dto.server.DtoTypeAdapter DtoTypeAdapter} that writes and reads fields of DTO directly
+     * against JsonWriter/JsonReader. Strings and primitives (except float and char which Gson formats on its own way) are handled
+     * inline, adapters for all other types are obtained from Gson once, when adapter is created.
+     */
+    private void emitTypeAdapter(List<Method> getters, StringBuilder builder) {
+        final String implClassName = getImplClassName();
+        builder.append("    public static class GsonAdapter extends ").append(DtoTypeAdapter.class.getCanonicalName())
+               .append("<").append(implClassName).append("> {\n");
+        for (Method getter : getters) {
+            if (!isInlined(getter.getReturnType())) {
+                builder.append("      private final com.google.gson.TypeAdapter<").append(getAdaptedTypeName(getter)).append("> ")
+                       .append(getAdapterName(getter)).append(";\n");
+            }
+        }
+        builder.append("\n");
+        builder.append("      public GsonAdapter(com.google.gson.Gson gson) {\n");
+        builder.append("        super(gson, ").append(implClassName).append(".class);\n");
+        for (Method getter : getters) {
+            if (!isInlined(getter.getReturnType())) {
+                final Type type = getter.getGenericReturnType();
+                builder.append("        this.").append(getAdapterName(getter)).append(" = gson.getAdapter(");
+                if (type instanceof Class<?>) {
+                    builder.append(getAdaptedTypeName(getter)).append(".class");
+                } else {
+                    builder.append("new com.google.gson.reflect.TypeToken<").append(getAdaptedTypeName(getter)).append(">() {}");
+                }
+                builder.append(");\n");
+            }
+        }
+        builder.append("      }\n\n");
+
+        builder.append("      @Override\n");
+        builder.append("      protected ").append(implClassName).append(" newInstance() {\n");
+        builder.append("        return new ").append(implClassName).append("();\n");
+        builder.append("      }\n\n");
+
+        builder.append("      @Override\n");
+        builder.append("      protected void writeFields(com.google.gson.stream.JsonWriter out, ").append(implClassName)
+               .append(" dto) throws java.io.IOException {\n");
+        for (Method getter : getters) {
+            final String fieldName = getJavaFieldName(getter.getName());
+            builder.append("        out.name(").append(quoteStringLiteral(getJsonFieldName(getter))).append(")");
+            if (isInlined(getter.getReturnType())) {
+                builder.append(".value(dto.").append(fieldName).append(");\n");
+            } else {
+                builder.append(";\n");
+                builder.append("        ").append(getAdapterName(getter)).append(".write(out, (").append(getAdaptedTypeName(getter))
+                       .append(")dto.").append(fieldName).append(");\n");
+            }
+        }
+        builder.append("      }\n\n");
+
+        builder.append("      @Override\n");
+        builder.append("      protected boolean readField(String name, com.google.gson.stream.JsonReader in, ").append(implClassName)
+               .append(" dto) throws java.io.IOException {\n");
+        builder.append("        switch (name) {\n");
+        for (Method getter : getters) {
+            final String fieldName = getJavaFieldName(getter.getName());
+            final Class<?> type = getter.getReturnType();
+            builder.append("          case ").append(quoteStringLiteral(getJsonFieldName(getter))).append(":\n");
+            if (type == String.class) {
+                builder.append("            dto.").append(fieldName).append(" = readString(in);\n");
+            } else if (isInlined(type)) {
+                builder.append("            if (!nextNull(in)) {\n");
+                builder.append("              dto.").append(fieldName).append(" = ");
+                if (type == boolean.class) {
+                    builder.append("readBoolean(in)");
+                } else if (type == long.class) {
+                    builder.append("in.nextLong()");
+                } else if (type == double.class) {
+                    builder.append("in.nextDouble()");
+                } else if (type == int.class) {
+                    builder.append("in.nextInt()");
+                } else {
+                    builder.append("(").append(type.getName()).append(")in.nextInt()");
+                }
+                builder.append(";\n");
+                builder.append("            }\n");
+            } else if (type.isPrimitive()) {
+                builder.append("            {\n");
+                builder.append("              ").append(getAdaptedTypeName(getter)).append(" v = ").append(getAdapterName(getter))
+                       .append(".read(in);\n");
+                builder.append("              if (v != null) {\n");
+                builder.append("                dto.").append(fieldName).append(" = v;\n");
+                builder.append("              }\n");
+                builder.append("            }\n");
+            } else {
+                builder.append("            dto.").append(fieldName).append(" = ").append(getAdapterName(getter)).append(".read(in);\n");
+            }
+            builder.append("            return true;\n");
+        }
+        builder.append("          default:\n");
+        builder.append("            return false;\n");
+        builder.append("        }\n");
+        builder.append("      }\n");
+        builder.append("    }\n\n");
+    }
+
+    /** Tests whether value of the given type is written and read by generated adapter itself, without delegating to Gson. */
+    private static boolean isInlined(Class<?> type) {
+        return type == String.class || (type.isPrimitive() && type != float.class && type != char.class);
+    }
+
+    private String getAdaptedTypeName(Method getter) {
+        final Class<?> type = getter.getReturnType();
+        if (type.isPrimitive()) {
+            return Primitives.wrap(type).getName();
+        }
+        return getImplName(getter.getGenericReturnType(), false);
+    }
+
+    private String getAdapterName(Method getter) {
+        return getJavaFieldName(getter.getName()) + "Adapter";
+    }
+
+    private static StringBuilder appendCopyJsonExpression(String inValue, StringBuilder builder) {
         builder.append("((");
         builder.append(inValue);
-        builder.append(") != null ? new JsonParser().parse((");
+        builder.append(") != null ? gson.toJsonTree(");
         builder.append(inValue);
-        builder.append(").toString()) : null)");
+        builder.append(") : null)");
         return builder;
     }
 
@@ -504,7 +623,7 @@ public class DtoImplServerTemplate extends DtoImpl {
             builder.append(i).append("}\n");
         } else if (isAny(rawClass)) {
             builder.append(i).append("this.").append(fieldName).append(" = ");
-            appendNaiveCopyJsonExpression(origin + "." + getterName + "()", builder).append(";\n");
+            appendCopyJsonExpression(origin + "." + getterName + "()", builder).append(";\n");
         } else if (getEnclosingTemplate().isDtoInterface(rawClass)) {
             builder.append(i).append(rawTypeName).append(" ").append(fieldNameIn).append(" = ").append(origin).append(".")
                    .append(getterName).append("();\n");
@@ -250,6 +250,10 @@ public class DtoTemplate {
                 builder.append("        }\n\n");
                 builder.append("        public ").append(dtoInterface).append(" clone(").append(dtoInterface).append(" origin) {\n")
                        .append("            return new ").append(dto.getImplClassName()).append("(origin);\n");
+                builder.append("        }\n\n");
+                builder.append("        public com.google.gson.TypeAdapter<").append(dto.getImplClassName())
+                       .append("> createTypeAdapter(com.google.gson.Gson gson) {\n")
+                       .append("            return new ").append(dto.getImplClassName()).append(".GsonAdapter(gson);\n");
                 builder.append("        }\n");
                 builder.append("    });\n");
             }
@@ -42,6 +42,8 @@ import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * Provides implementations of DTO interfaces.
  *
@@ -99,7 +101,8 @@ public final class DtoFactory {
     private final Gson dtoGson = new GsonBuilder()
             .registerTypeAdapterFactory(new NullAsEmptyTAF<>(Collection.class, Collections.emptyList()))
             .registerTypeAdapterFactory(new NullAsEmptyTAF<>(Map.class, Collections.emptyMap()))
-            .registerTypeAdapterFactory(new DtoInterfaceTAF()).create();
+            .registerTypeAdapterFactory(new DtoInterfaceTAF())
+            .registerTypeAdapterFactory(new DtoImplTAF()).create();
 
     /**
      * Created deep copy of DTO object.
@@ -247,7 +250,7 @@ public final class DtoFactory {
      *         if an i/o error occurs
      */
     public <T> T createDtoFromJson(InputStream json, Class<T> dtoInterface) throws IOException {
-        return createDtoFromJson(new InputStreamReader(json), dtoInterface);
+        return createDtoFromJson(new InputStreamReader(json, UTF_8), dtoInterface);
     }
 
     //
@@ -303,7 +306,7 @@ public final class DtoFactory {
      *         if an i/o error occurs
      */
     public <T> JsonArray<T> createListDtoFromJson(InputStream json, Class<T> dtoInterface) throws IOException {
-        return createListDtoFromJson(new InputStreamReader(json), dtoInterface);
+        return createListDtoFromJson(new InputStreamReader(json, UTF_8), dtoInterface);
     }
 
     //
@@ -377,7 +380,7 @@ public final class DtoFactory {
      *         if an i/o error occurs
      */
     public <T> JsonStringMap<T> createMapDtoFromJson(InputStream json, Class<T> dtoInterface) throws IOException {
-        return createMapDtoFromJson(new InputStreamReader(json), dtoInterface);
+        return createMapDtoFromJson(new InputStreamReader(json, UTF_8), dtoInterface);
     }
 
     //
@@ -441,6 +444,19 @@ public final class DtoFactory {
         }
     }
 
+    /** Provides streaming adapters generated for implementation classes of DTO interfaces, see {@link DtoTypeAdapter}. */
+    private class DtoImplTAF implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            DtoProvider<?> prov = dtoImpl2Providers.get(type.getRawType());
+            if (prov != null) {
+                return (TypeAdapter<T>) prov.createTypeAdapter(gson);
+            }
+            return null;
+        }
+    }
+
     /**
      * Wraps Gson's default List/Map adapter factories serialize null List/Map fields as empty instead.
      * 
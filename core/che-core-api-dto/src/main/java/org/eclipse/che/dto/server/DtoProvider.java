@@ -10,7 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.dto.server;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
 
 /**
  * Provides implementation of DTO interface.
@@ -27,4 +29,16 @@ public interface DtoProvider<DTO> {
     DTO newInstance();
 
     DTO clone(DTO origin);
+
+    /**
+     * Creates streaming adapter for implementation class of DTO. Returns {@code null} by default, in this case implementation class
+     * is serialized with reflection.
+     *
+     * @param gson
+     *         Gson instance the adapter is created for, it is used to obtain adapters for fields of DTO
+     * @see DtoTypeAdapter
+     */
+    default TypeAdapter<? extends DTO> createTypeAdapter(Gson gson) {
+        return null;
+    }
 }
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.dto.server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Base class for {@link TypeAdapter}s generated for server DTO implementations. Generated adapters write and read fields of DTO
+ * directly against {@link JsonWriter} and {@link JsonReader}, so neither reflection nor intermediate JSON trees are involved.
+ * <p/>
+ * Instances which are not exactly of implementation class, e.g. implementations of DTO interfaces that extend this DTO, are
+ * delegated to the adapter of their own class.
+ *
+ * @param <T>
+ *         type of DTO implementation
+ * @see DtoProvider#createTypeAdapter(Gson)
+ */
+public abstract class DtoTypeAdapter<T> extends TypeAdapter<T> {
+    protected final Gson gson;
+
+    private final Class<T> implClass;
+
+    protected DtoTypeAdapter(Gson gson, Class<T> implClass) {
+        this.gson = gson;
+        this.implClass = implClass;
+    }
+
+    /** Creates new empty instance of DTO. */
+    protected abstract T newInstance();
+
+    /** Writes all fields of {@code dto}, enclosing JSON object is started and ended by caller. */
+    protected abstract void writeFields(JsonWriter out, T dto) throws IOException;
+
+    /**
+     * Reads value of field with the given JSON name into {@code dto}.
+     *
+     * @return {@code false} if DTO has no such field and value is not consumed
+     */
+    protected abstract boolean readField(String name, JsonReader in, T dto) throws IOException;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final void write(JsonWriter out, T value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        if (value.getClass() != implClass) {
+            gson.getAdapter((Class<T>)value.getClass()).write(out, value);
+            return;
+        }
+        out.beginObject();
+        writeFields(out, value);
+        out.endObject();
+    }
+
+    @Override
+    public final T read(JsonReader in) throws IOException {
+        if (nextNull(in)) {
+            return null;
+        }
+        final T dto = newInstance();
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!readField(in.nextName(), in, dto)) {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+        return dto;
+    }
+
+    /** Consumes next token if it is JSON null. Primitive fields are left untouched when JSON holds null for them. */
+    protected static boolean nextNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    protected static String readString(JsonReader in) throws IOException {
+        final JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    protected static boolean readBoolean(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+}
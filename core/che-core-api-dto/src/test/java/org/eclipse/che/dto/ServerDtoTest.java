@@ -28,6 +28,7 @@ import org.eclipse.che.dto.definitions.model.Model;
 import org.eclipse.che.dto.definitions.model.ModelComponentDto;
 import org.eclipse.che.dto.definitions.model.ModelDto;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.dto.server.DtoTypeAdapter;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -174,6 +175,29 @@ public class ServerDtoTest {
         dtoFactory.toJson(dto1);
     }
 
+    @Test
+    public void testStreamingAdapterIsUsedForDtoImplementation() throws Exception {
+        SimpleDto dto = dtoFactory.createDto(SimpleDto.class);
+
+        assertTrue(dtoFactory.getGson().getAdapter(dto.getClass()) instanceof DtoTypeAdapter);
+    }
+
+    @Test
+    public void testSubtypeIsSerializedThroughFieldOfSuperType() throws Exception {
+        GrandchildDto grandchild = dtoFactory.createDto(GrandchildDto.class);
+        grandchild.setDtoField("grandchild");
+        DTOHierarchy.ChildDto child = dtoFactory.createDto(DTOHierarchy.ChildDto.class)
+                                                .withDtoField("child")
+                                                .withParentField("parent");
+        child.setShadowedField(grandchild);
+
+        DTOHierarchy.ChildDto parsed = dtoFactory.createDtoFromJson(dtoFactory.toJson(child), DTOHierarchy.ChildDto.class);
+
+        assertEquals(parsed.getDtoField(), "child");
+        assertEquals(parsed.getParentField(), "parent");
+        assertEquals(parsed.getShadowedField().getDtoField(), "grandchild");
+    }
+
     /** Intentionally call several times to ensure non-reference equality */
     private static JsonElement createTestValueForAny() {
         return new JsonParser().parse("{a:100,b:{c:'blah'}}");
@@ -22,15 +22,23 @@ import javax.inject.Singleton;
  */
 @Singleton
 public class BasicWebSocketEndpoint implements WebSocketEndpoint {
+    /** Separates sequence number of message from message itself, messages that have no sequence number start with a JSON. */
+    private static final char SEQUENCE_SEPARATOR = ':';
+
     private final WebSocketConnectionSustainer sustainer;
     private final MessagesReSender             reSender;
     private final WebSocketDispatcher          dispatcher;
+    private final WebSocketPropertyManager     propertyManager;
 
     @Inject
-    public BasicWebSocketEndpoint(WebSocketConnectionSustainer sustainer, MessagesReSender reSender, WebSocketDispatcher dispatcher) {
+    public BasicWebSocketEndpoint(WebSocketConnectionSustainer sustainer,
+                                  MessagesReSender reSender,
+                                  WebSocketDispatcher dispatcher,
+                                  WebSocketPropertyManager propertyManager) {
         this.sustainer = sustainer;
         this.reSender = reSender;
         this.dispatcher = dispatcher;
+        this.propertyManager = propertyManager;
     }
 
     @Override
@@ -57,6 +65,13 @@ public class BasicWebSocketEndpoint implements WebSocketEndpoint {
     public void onMessage(String url, String message) {
         Log.debug(getClass(), "Message received: " + message);
 
-        dispatcher.dispatch(url, message);
+        final int separator = message.indexOf(SEQUENCE_SEPARATOR);
+        if (separator > 0 && Character.isDigit(message.charAt(0))) {
+            // sequence number is passed back to server on reconnection, so only the messages that follow are re-sent
+            propertyManager.setLastReceivedId(url, Long.parseLong(message.substring(0, separator)));
+            dispatcher.dispatch(url, message.substring(separator + 1));
+        } else {
+            dispatcher.dispatch(url, message);
+        }
     }
 }
@@ -23,6 +23,8 @@ import javax.inject.Inject;
  * @author Dmitry Kuleshov
  */
 public class DelayableWebSocketConnection implements WebSocketConnection {
+    private static final String LAST_ACKED_ID_PARAMETER = "lastAckedId";
+
     private final WebSocketPropertyManager propertyManager;
     private final WebSocketEndpoint        endpoint;
     private final String                   url;
@@ -43,12 +45,12 @@ public class DelayableWebSocketConnection implements WebSocketConnection {
 
         if (isClosed() || isClosing()) {
             if (delay == 0) {
-                webSocketJsoWrapper = WebSocketJsoWrapper.connect(url, endpoint);
+                webSocketJsoWrapper = WebSocketJsoWrapper.connect(url, getConnectionUrl(), endpoint);
             } else {
                 new Timer() {
                     @Override
                     public void run() {
-                        webSocketJsoWrapper = WebSocketJsoWrapper.connect(url, endpoint);
+                        webSocketJsoWrapper = WebSocketJsoWrapper.connect(url, getConnectionUrl(), endpoint);
                     }
                 }.schedule(delay);
             }
@@ -57,6 +59,11 @@ public class DelayableWebSocketConnection implements WebSocketConnection {
         }
     }
 
+    /** Url with sequence number of the last received message, so server re-sends only the messages that follow it. */
+    private String getConnectionUrl() {
+        return url + (url.indexOf('?') < 0 ? '?' : '&') + LAST_ACKED_ID_PARAMETER + '=' + propertyManager.getLastReceivedId(url);
+    }
+
     @Override
     public void close() {
         if (isOpen()) {
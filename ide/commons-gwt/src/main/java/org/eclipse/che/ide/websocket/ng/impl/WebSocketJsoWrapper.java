@@ -21,8 +21,12 @@ public class WebSocketJsoWrapper extends JavaScriptObject {
     protected WebSocketJsoWrapper() {
     }
 
-    public static native WebSocketJsoWrapper connect(String url, WebSocketEndpoint endpoint) /*-{
-        var webSocket = new WebSocket(url);
+    /**
+     * Opens connection to {@code connectionUrl}, e.g. url with additional query parameters,
+     * events of connection are passed to {@code endpoint} with {@code url}.
+     */
+    public static native WebSocketJsoWrapper connect(String url, String connectionUrl, WebSocketEndpoint endpoint) /*-{
+        var webSocket = new WebSocket(connectionUrl);
         webSocket.onopen = function () {
             endpoint.@org.eclipse.che.ide.websocket.ng.impl.WebSocketEndpoint::onOpen(Ljava/lang/String;)(url);
         };
@@ -20,6 +20,7 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.eclipse.che.ide.websocket.ng.impl.WebSocketPropertyManager.Properties.ATTEMPTS;
 import static org.eclipse.che.ide.websocket.ng.impl.WebSocketPropertyManager.Properties.DELAY;
+import static org.eclipse.che.ide.websocket.ng.impl.WebSocketPropertyManager.Properties.LAST_RECEIVED_ID;
 import static org.eclipse.che.ide.websocket.ng.impl.WebSocketPropertyManager.Properties.SUSTAINER_ENABLED;
 import static org.eclipse.che.ide.websocket.ng.impl.WebSocketPropertyManager.Properties.URL;
 
@@ -51,6 +52,7 @@ public class WebSocketPropertyManager {
      * <li>Reconnection delay: 0</li>
      * <li>Reconnection attempts: 0</li>
      * <li>Sustainer status: enabled</li>
+     * <li>Sequence number of the last received message: -1</li>
      * </ul>
      *
      * @param url
@@ -62,6 +64,7 @@ public class WebSocketPropertyManager {
         properties.put(DELAY, "0");
         properties.put(ATTEMPTS, "0");
         properties.put(SUSTAINER_ENABLED, TRUE.toString());
+        properties.put(LAST_RECEIVED_ID, "-1");
 
         this.properties.put(url, properties);
     }
@@ -126,6 +129,14 @@ public class WebSocketPropertyManager {
         return Boolean.valueOf(getProperty(url, SUSTAINER_ENABLED));
     }
 
+    public void setLastReceivedId(String url, long id) {
+        setProperty(url, LAST_RECEIVED_ID, Long.toString(id));
+    }
+
+    public long getLastReceivedId(String url) {
+        return Long.valueOf(getProperty(url, LAST_RECEIVED_ID));
+    }
+
     private Map<String, String> getPropertiesMap(String url) {
         if (properties.containsKey(url)) {
             return properties.get(url);
@@ -154,5 +165,9 @@ public class WebSocketPropertyManager {
          * Current connection sustainer status
          */
         String SUSTAINER_ENABLED = "sustainer-status";
+        /**
+         * Sequence number of the last message received over the connection
+         */
+        String LAST_RECEIVED_ID  = "last-received-id";
     }
 }
@@ -20,6 +20,9 @@ import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -35,6 +38,8 @@ public class BasicWebSocketEndpointTest {
     private  MessagesReSender             reSender;
     @Mock
     private  WebSocketDispatcher          dispatcher;
+    @Mock
+    private  WebSocketPropertyManager     propertyManager;
     @InjectMocks
     private BasicWebSocketEndpoint        endpoint;
 
@@ -66,4 +71,20 @@ public class BasicWebSocketEndpointTest {
         verify(dispatcher).dispatch("url", "message");
     }
 
+    @Test
+    public void shouldDispatchSequencedMessageWithoutItsSequenceNumber(){
+        endpoint.onMessage("url", "42:{\"jsonrpc\":\"2.0\"}");
+
+        verify(propertyManager).setLastReceivedId("url", 42);
+        verify(dispatcher).dispatch("url", "{\"jsonrpc\":\"2.0\"}");
+    }
+
+    @Test
+    public void shouldDispatchMessageThatHasNoSequenceNumberAsIs(){
+        endpoint.onMessage("url", "{\"jsonrpc\":\"2.0\"}");
+
+        verify(propertyManager, never()).setLastReceivedId(anyString(), anyLong());
+        verify(dispatcher).dispatch("url", "{\"jsonrpc\":\"2.0\"}");
+    }
+
 }
@@ -74,4 +74,13 @@ public class WebSocketPropertyManagerTest {
 
         assertTrue(sustainerEnabled);
     }
+
+    @Test
+    public void shouldInitializeDefaultLastReceivedIdOnInitialize() {
+        propertyManager.initializeConnection("url");
+
+        final long lastReceivedId = propertyManager.getLastReceivedId("url");
+
+        assertEquals(-1, lastReceivedId);
+    }
 }
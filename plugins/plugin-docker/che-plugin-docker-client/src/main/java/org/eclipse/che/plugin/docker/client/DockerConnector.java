@@ -438,6 +438,7 @@ public class DockerConnector {
 
         try (DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
                                                             .method("POST")
+                                                            .streaming()
                                                             .path(apiVersionPathPrefix + "/containers/" + params.getContainer() + "/attach")
                                                             .query("stdout", 1)
                                                             .query("stderr", 1)) {
@@ -467,6 +468,7 @@ public class DockerConnector {
             throws IOException {
         try (DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
                                                             .method("GET")
+                                                            .streaming()
                                                             .path(apiVersionPathPrefix + "/containers/" + params.getContainer() + "/logs")
                                                             .query("stdout", 1)
                                                             .query("stderr", 1)) {
@@ -535,6 +537,7 @@ public class DockerConnector {
         byte[] entityBytesArray = toJson(execStart).getBytes(StandardCharsets.UTF_8);
         try (DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
                                                             .method("POST")
+                                                            .streaming()
                                                             .path(apiVersionPathPrefix + "/exec/" + params.getExecId() + "/start")
                                                             .header("Content-Type", MediaType.APPLICATION_JSON)
                                                             .header("Content-Length", entityBytesArray.length)
@@ -634,6 +637,7 @@ public class DockerConnector {
         try {
             connection = connectionFactory.openConnection(dockerDaemonUri)
                                           .method("GET")
+                                          .streaming()
                                           .path(apiVersionPathPrefix + "/containers/" + params.getContainer() + "/archive")
                                           .query("path", params.getSourcePath());
 
@@ -708,6 +712,7 @@ public class DockerConnector {
 
         try (DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
                                                             .method("GET")
+                                                            .streaming()
                                                             .path(apiVersionPathPrefix + "/events")) {
             addQueryParamIfNotNull(connection, "since", params.getSinceSecond());
             addQueryParamIfNotNull(connection, "until", params.getUntilSecond());
@@ -771,6 +776,7 @@ public class DockerConnector {
         final String repository = params.getRepository();
 
         try (DockerConnection connection = dockerConnection.method("POST")
+                                                           .streaming()
                                                            .path(apiVersionPathPrefix + "/build")
                                                            .header("X-Registry-Config",
                                                                    authResolver.getXRegistryConfigHeaderValue(params.getAuthConfigs()))) {
@@ -914,6 +920,7 @@ public class DockerConnector {
 
         try (DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
                                                             .method("POST")
+                                                            .streaming()
                                                             .path(apiVersionPathPrefix + "/images/" + fullRepo + "/push")
                                                             .header("X-Registry-Auth",
                                                                     authResolver.getXRegistryAuthHeaderValue(
@@ -1024,6 +1031,7 @@ public class DockerConnector {
                         final URI dockerDaemonUri) throws IOException {
         try (DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
                                                             .method("POST")
+                                                            .streaming()
                                                             .path(apiVersionPathPrefix + "/images/create")
                                                             .query("fromImage", params.getFullRepo())
                                                             .header("X-Registry-Auth",
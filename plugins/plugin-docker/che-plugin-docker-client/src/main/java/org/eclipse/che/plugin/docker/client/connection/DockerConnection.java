@@ -32,6 +32,7 @@ public abstract class DockerConnection implements Closeable {
     private Entity<?> entity;
     private StringBuilder         query   = new StringBuilder();
     private List<Pair<String, ?>> headers = new LinkedList<>();
+    private boolean               streaming;
 
     public DockerConnection method(String method) {
         this.method = method;
@@ -43,6 +44,16 @@ public abstract class DockerConnection implements Closeable {
         return this;
     }
 
+    /**
+     * Marks this connection as one that carries long living or big streaming response, e.g. attach, logs, events or progress of
+     * image operations. Such connections are never returned to the pool of keep-alive connections, they are requested with
+     * {@code Connection: close} header and closed after use.
+     */
+    public DockerConnection streaming() {
+        this.streaming = true;
+        return this;
+    }
+
     public DockerConnection query(String name, Object... values) {
         if (name == null) {
             throw new NullPointerException("Name is null");
@@ -103,6 +114,10 @@ public abstract class DockerConnection implements Closeable {
 
     public abstract void close();
 
+    protected boolean isStreaming() {
+        return streaming;
+    }
+
     static abstract class Entity<T> {
         final T entity;
 
@@ -111,6 +126,11 @@ public abstract class DockerConnection implements Closeable {
         }
 
         abstract void writeTo(OutputStream output) throws IOException;
+
+        /** Tests whether entity may be written more than once, e.g. when request is retried over fresh connection. */
+        boolean isRepeatable() {
+            return true;
+        }
     }
 
     static class StreamEntity extends Entity<InputStream> {
@@ -118,6 +138,11 @@ public abstract class DockerConnection implements Closeable {
             super(entity);
         }
 
+        @Override
+        boolean isRepeatable() {
+            return false;
+        }
+
         @Override
         public void writeTo(OutputStream output) throws IOException {
             try {
@@ -16,18 +16,28 @@ import org.eclipse.che.plugin.docker.client.DockerCertificates;
 import org.eclipse.che.plugin.docker.client.DockerConnectorConfiguration;
 
 import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.net.ssl.SSLSocketFactory;
 import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Factory for connections to docker API.
  *
  * <p>Detects connection implementation by checking docker daemon URI.
  *
+ * <p>Unless {@value #CONNECTION_POOL_SIZE_PROPERTY} is set to 0, connections are kept alive and reused by subsequent requests,
+ * except of {@link DockerConnection#streaming() streaming} ones. Idle connections to unix socket are kept by this factory,
+ * http(s) connections are kept by JDK keep-alive cache which size is configured with {@code http.maxConnections} system property.
+ *
  * @author Alexander Garagatyi
  */
+@Singleton
 public class DockerConnectionFactory {
     public static final String CONNECTION_TIMEOUT_MS_PROPERTY      = "che.docker.tcp_connection_timeout_ms";
     public static final String CONNECTION_READ_TIMEOUT_MS_PROPERTY = "che.docker.tcp_connection_read_timeout_ms";
+    public static final String CONNECTION_POOL_SIZE_PROPERTY       = "che.docker.connection_pool_size";
 
     @Inject(optional = true)
     @Named(CONNECTION_TIMEOUT_MS_PROPERTY)
@@ -37,18 +47,33 @@ public class DockerConnectionFactory {
     @Named(CONNECTION_READ_TIMEOUT_MS_PROPERTY)
     private int connectionReadTimeoutMs = 60000;
 
-    private final DockerCertificates dockerCertificates;
+    @Inject(optional = true)
+    @Named(CONNECTION_POOL_SIZE_PROPERTY)
+    private int connectionPoolSize = 10;
+
+    private final SSLSocketFactory                               sslSocketFactory;
+    private final ConcurrentMap<String, UnixSocketConnectionPool> unixSocketPools;
 
     @Inject
     public DockerConnectionFactory(DockerConnectorConfiguration connectorConfiguration) {
-        this.dockerCertificates = connectorConfiguration.getDockerCertificates();
+        final DockerCertificates dockerCertificates = connectorConfiguration.getDockerCertificates();
+        // the same instance of socket factory is required to reuse https connections
+        this.sslSocketFactory = dockerCertificates == null ? null : dockerCertificates.getSslContext().getSocketFactory();
+        this.unixSocketPools = new ConcurrentHashMap<>();
     }
 
     public DockerConnection openConnection(URI dockerDaemonUri) {
+        final boolean keepAlive = connectionPoolSize > 0;
         if (DockerConnectorConfiguration.isUnixSocketUri(dockerDaemonUri)) {
-            return new UnixSocketConnection(dockerDaemonUri.getPath());
+            final String socketPath = dockerDaemonUri.getPath();
+            final UnixSocketConnectionPool pool = keepAlive ? unixSocketPools.computeIfAbsent(socketPath, this::createPool) : null;
+            return new UnixSocketConnection(socketPath, pool);
         } else {
-            return new TcpConnection(dockerDaemonUri, dockerCertificates, connectionTimeoutMs, connectionReadTimeoutMs);
+            return new TcpConnection(dockerDaemonUri, sslSocketFactory, connectionTimeoutMs, connectionReadTimeoutMs, keepAlive);
         }
     }
+
+    private UnixSocketConnectionPool createPool(String socketPath) {
+        return new UnixSocketConnectionPool(connectionPoolSize);
+    }
 }
@@ -64,7 +64,9 @@ public class LimitedInputStream extends InputStream {
             return -1;
         }
         int n = input.read(b, 0, Math.min(len - off, limit - pos));
-        pos += n;
+        if (n != -1) {
+            pos += n;
+        }
         return n;
     }
 }
@@ -16,7 +16,9 @@ import org.eclipse.che.commons.lang.Pair;
 import org.eclipse.che.plugin.docker.client.DockerCertificates;
 
 import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
@@ -24,29 +26,53 @@ import java.net.URL;
 import java.util.List;
 
 /**
+ * Connection to docker API over http(s).
+ *
+ * <p>When keep-alive is enabled, connection isn't disconnected on close, instead response stream is closed, so the underlying socket
+ * is returned to the JDK keep-alive cache and reused by subsequent requests to the same daemon. Size of the cache is controlled by
+ * {@code http.maxConnections} system property. {@link #streaming() Streaming} connections are never reused.
+ *
  * @author andrew00x
  * @author Alexander Garagatyi
  */
 public class TcpConnection extends DockerConnection {
-    private final URI                baseUri;
-    private final DockerCertificates certificates;
-    private final int                connectionTimeout;
-    private final int                readTimeout;
+    private final URI              baseUri;
+    private final SSLSocketFactory sslSocketFactory;
+    private final int              connectionTimeout;
+    private final int              readTimeout;
+    private final boolean          keepAlive;
 
     private HttpURLConnection connection;
+    private boolean           requested;
 
     public TcpConnection(URI baseUri, DockerCertificates certificates, int connectionTimeoutMs, int readTimeoutMs) {
+        this(baseUri,
+             certificates == null ? null : certificates.getSslContext().getSocketFactory(),
+             connectionTimeoutMs,
+             readTimeoutMs,
+             false);
+    }
+
+    /**
+     * @param sslSocketFactory
+     *         socket factory for https connections, JDK reuses cached https connection only if it was created by the same
+     *         instance of socket factory
+     * @param keepAlive
+     *         whether connection may be reused by subsequent requests
+     */
+    TcpConnection(URI baseUri, SSLSocketFactory sslSocketFactory, int connectionTimeoutMs, int readTimeoutMs, boolean keepAlive) {
         if ("https".equals(baseUri.getScheme())) {
-            if (certificates == null) {
+            if (sslSocketFactory == null) {
                 throw new IllegalArgumentException("Certificates are required for https connection.");
             }
         } else if (!("http".equals(baseUri.getScheme()))) {
             throw new IllegalArgumentException(String.format("Invalid URL '%s', only http and https protocols are supported.", baseUri));
         }
         this.baseUri = baseUri;
-        this.certificates = certificates;
+        this.sslSocketFactory = sslSocketFactory;
         this.connectionTimeout = connectionTimeoutMs;
         this.readTimeout = readTimeoutMs;
+        this.keepAlive = keepAlive;
     }
 
     @Override
@@ -59,11 +85,13 @@ public class TcpConnection extends DockerConnection {
         connection.setConnectTimeout(connectionTimeout);
         connection.setReadTimeout(readTimeout);
         if ("https".equals(protocol)) {
-            ((HttpsURLConnection)connection).setSSLSocketFactory(certificates.getSslContext().getSocketFactory());
+            ((HttpsURLConnection)connection).setSSLSocketFactory(sslSocketFactory);
         }
         connection.setRequestMethod(method);
-        // needed to fix bug https://github.com/docker/docker/issues/12845
-        connection.setRequestProperty("Connection", "close");
+        if (!isReusable()) {
+            // needed to fix bug https://github.com/docker/docker/issues/12845
+            connection.setRequestProperty("Connection", "close");
+        }
         for (Pair<String, ?> header : headers) {
             connection.setRequestProperty(header.first, String.valueOf(header.second));
         }
@@ -79,13 +107,33 @@ public class TcpConnection extends DockerConnection {
                 entity.writeTo(output);
             }
         }
+        requested = true;
         return new TcpDockerResponse(connection);
     }
 
     @Override
     public void close() {
-        if (connection != null) {
+        if (connection == null) {
+            return;
+        }
+        if (!isReusable() || !requested) {
             connection.disconnect();
+            return;
         }
+        // Closing of response stream returns socket to keep-alive cache,
+        // JDK skips not read rest of response or closes socket if too much of it is left
+        try {
+            InputStream responseStream = connection.getErrorStream();
+            if (responseStream == null) {
+                responseStream = connection.getInputStream();
+            }
+            responseStream.close();
+        } catch (IOException e) {
+            connection.disconnect();
+        }
+    }
+
+    private boolean isReusable() {
+        return keepAlive && !isStreaming();
     }
 }
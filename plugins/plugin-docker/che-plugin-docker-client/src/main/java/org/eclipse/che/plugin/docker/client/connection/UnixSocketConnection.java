@@ -31,36 +31,81 @@ import static org.eclipse.che.plugin.docker.client.CLibrary.SockAddrUn;
 import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
 
 /**
+ * Connection to docker API over unix socket.
+ *
+ * <p>When pool is provided, socket isn't closed after response is read completely, instead it is returned to the pool and reused
+ * by subsequent requests. {@link #streaming() Streaming} connections are never reused.
+ *
  * @author andrew00x
  * @author Alexander Garagatyi
  */
 public class UnixSocketConnection extends DockerConnection {
-    private final String dockerSocketPath;
+    private final String                   dockerSocketPath;
+    private final UnixSocketConnectionPool pool;
 
-    private int fd = -1;
+    private int                      fd = -1;
+    private UnixSocketDockerResponse response;
 
     public UnixSocketConnection(String dockerSocketPath) {
+        this(dockerSocketPath, null);
+    }
+
+    /**
+     * @param pool
+     *         pool of idle connections to the socket, {@code null} if connection must not be reused
+     */
+    UnixSocketConnection(String dockerSocketPath, UnixSocketConnectionPool pool) {
         this.dockerSocketPath = dockerSocketPath;
+        this.pool = pool;
     }
 
     @Override
     protected DockerResponse request(String method, String path, String query, List<Pair<String, ?>> headers, Entity<?> entity)
             throws IOException {
-        fd = connect();
-        final OutputStream output = new BufferedOutputStream(openOutputStream(fd));
-        writeHttpHeaders(output, method, path, query, headers);
-        if (entity != null) {
-            entity.writeTo(output);
+        if (isReusable() && (entity == null || entity.isRepeatable())) {
+            fd = pool.poll();
+            if (fd != -1) {
+                try {
+                    response = send(method, path, query, headers, entity);
+                    // read status eagerly, idle connection might be closed by docker daemon meanwhile
+                    response.getStatus();
+                    return response;
+                } catch (IOException e) {
+                    getCLibrary().close(fd);
+                    fd = -1;
+                }
+            }
         }
-        return new UnixSocketDockerResponse(new BufferedInputStream(openInputStream(fd)));
+        fd = connect();
+        return response = send(method, path, query, headers, entity);
     }
 
 
     @Override
     public void close() {
-        if (fd != -1) {
+        if (fd == -1) {
+            return;
+        }
+        if (isReusable() && response != null && response.consume()) {
+            pool.release(fd);
+        } else {
             getCLibrary().close(fd);
         }
+        fd = -1;
+    }
+
+    private boolean isReusable() {
+        return pool != null && !isStreaming();
+    }
+
+    private UnixSocketDockerResponse send(String method, String path, String query, List<Pair<String, ?>> headers, Entity<?> entity)
+            throws IOException {
+        final OutputStream output = new BufferedOutputStream(openOutputStream(fd));
+        writeHttpHeaders(output, method, path, query, headers);
+        if (entity != null) {
+            entity.writeTo(output);
+        }
+        return new UnixSocketDockerResponse(new BufferedInputStream(openInputStream(fd)));
     }
 
     private int connect() throws IOException {
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
+
+/**
+ * Keeps idle keep-alive connections to docker unix socket, so they may be reused by subsequent requests.
+ *
+ * <p>The most recently released connection is reused first, it is the least likely one to be closed by docker daemon.
+ */
+class UnixSocketConnectionPool {
+    private final int            maxIdle;
+    private final Deque<Integer> idle;
+
+    UnixSocketConnectionPool(int maxIdle) {
+        this.maxIdle = maxIdle;
+        this.idle = new ArrayDeque<>(maxIdle);
+    }
+
+    /** Returns descriptor of idle connection or {@code -1} if there is no any. */
+    synchronized int poll() {
+        final Integer fd = idle.pollFirst();
+        return fd == null ? -1 : fd;
+    }
+
+    /** Returns connection to the pool, connection is closed if pool is already full. */
+    void release(int fd) {
+        synchronized (this) {
+            if (idle.size() < maxIdle) {
+                idle.addFirst(fd);
+                return;
+            }
+        }
+        getCLibrary().close(fd);
+    }
+}
@@ -143,6 +143,11 @@ public class UnixSocketDockerResponse implements DockerResponse {
             }
         }
         this.headersFields = headerFields.toArray(new String[headerFields.size()]);
+        final int status = getStatus();
+        if (status == 204 || status == 304) {
+            // such responses never have body, even if there is no content length header
+            return data = EMPTY;
+        }
         final int contentLength = getContentLength();
         if (contentLength == 0) {
             return data = EMPTY;
@@ -152,4 +157,26 @@ public class UnixSocketDockerResponse implements DockerResponse {
         }
         return data = "chunked".equals(getHeader("Transfer-Encoding")) ? new ChunkedInputStream(rawData) : rawData;
     }
+
+    /**
+     * Reads rest of response body, so connection may be used for the next request.
+     *
+     * @return {@code true} if response is read completely and connection may be reused, {@code false} if end of response can't be
+     * determined, docker asked to close connection or an i/o error occurred
+     */
+    boolean consume() {
+        try {
+            final InputStream body = getInputStream();
+            if (body == rawData || "close".equalsIgnoreCase(getHeader("Connection"))) {
+                return false;
+            }
+            final byte[] buf = new byte[8192];
+            while (body.read(buf) != -1) {
+                // skip not read rest of response
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class UnixSocketDockerResponseTest {
+
+    @Test
+    public void shouldConsumeResponseWithContentLength() throws Exception {
+        final InputStream input = stream("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nhelloNEXT");
+        final UnixSocketDockerResponse response = new UnixSocketDockerResponse(input);
+
+        assertEquals(response.getStatus(), 200);
+        assertTrue(response.consume());
+        assertEquals(readRest(input), "NEXT");
+    }
+
+    @Test
+    public void shouldConsumeChunkedResponse() throws Exception {
+        final InputStream input = stream("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n5\r\nhello\r\n0\r\n\r\nNEXT");
+        final UnixSocketDockerResponse response = new UnixSocketDockerResponse(input);
+
+        assertTrue(response.consume());
+        assertEquals(readRest(input), "NEXT");
+    }
+
+    @Test
+    public void shouldConsumeNoContentResponseWithoutContentLength() throws Exception {
+        final InputStream input = stream("HTTP/1.1 204 No Content\r\nServer: Docker\r\n\r\nNEXT");
+        final UnixSocketDockerResponse response = new UnixSocketDockerResponse(input);
+
+        assertTrue(response.consume());
+        assertEquals(readRest(input), "NEXT");
+    }
+
+    @Test
+    public void shouldNotReuseConnectionIfEndOfResponseIsUnknown() throws Exception {
+        final UnixSocketDockerResponse response = new UnixSocketDockerResponse(stream("HTTP/1.1 200 OK\r\n\r\nraw stream"));
+
+        assertFalse(response.consume());
+    }
+
+    @Test
+    public void shouldNotReuseConnectionIfDockerAsksToCloseIt() throws Exception {
+        final UnixSocketDockerResponse response =
+                new UnixSocketDockerResponse(stream("HTTP/1.1 200 OK\r\nConnection: close\r\nContent-Length: 5\r\n\r\nhello"));
+
+        assertFalse(response.consume());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+
+    private static String readRest(InputStream input) throws Exception {
+        final byte[] rest = new byte[input.available()];
+        input.read(rest);
+        return new String(rest, UTF_8);
+    }
+}
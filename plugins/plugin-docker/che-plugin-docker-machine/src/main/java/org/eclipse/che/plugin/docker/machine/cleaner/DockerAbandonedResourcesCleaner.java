@@ -20,14 +20,14 @@ import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
 import org.eclipse.che.commons.schedule.ScheduleRate;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorProvider;
-import org.eclipse.che.plugin.docker.client.json.ContainerListEntry;
-import org.eclipse.che.plugin.docker.client.json.Filters;
-import org.eclipse.che.plugin.docker.client.json.network.Network;
-import org.eclipse.che.plugin.docker.client.params.network.GetNetworksParams;
 import org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator;
+import org.eclipse.che.plugin.docker.machine.cleaner.DockerResourcesInventory.ContainerEntry;
+import org.eclipse.che.plugin.docker.machine.cleaner.DockerResourcesInventory.NetworkEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -46,6 +46,9 @@ import static org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator
 /**
  * Job for periodically clean up abandoned docker containers and networks created by CHE.
  * Also, logs active containers list.
+ * <p/>
+ * Containers and networks are taken from {@link DockerResourcesInventory} which is kept up to date
+ * with docker events, so docker resources are fully listed only once, at startup.
  *
  * @author Alexander Andrienko
  * @author Mykola Morhun
@@ -55,11 +58,9 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
 
     private static final Logger LOG = LoggerFactory.getLogger(DockerAbandonedResourcesCleaner.class);
 
-    private static final Filters           NETWORK_FILTERS          = new Filters().withFilter("type", "custom");
-    private static final GetNetworksParams GET_NETWORKS_PARAMS      = GetNetworksParams.create().withFilters(NETWORK_FILTERS);
-    private static final String            WORKSPACE_ID_REGEX_GROUP = "workspaceId";
-    private static final String            CHE_NETWORK_REGEX        = "^(?<" + WORKSPACE_ID_REGEX_GROUP + ">workspace[a-z\\d]{16})_[a-z\\d]{16}$";
-    private static final Pattern           CHE_NETWORK_PATTERN      = Pattern.compile(CHE_NETWORK_REGEX);
+    private static final String  WORKSPACE_ID_REGEX_GROUP = "workspaceId";
+    private static final String  CHE_NETWORK_REGEX        = "^(?<" + WORKSPACE_ID_REGEX_GROUP + ">workspace[a-z\\d]{16})_[a-z\\d]{16}$";
+    private static final Pattern CHE_NETWORK_PATTERN      = Pattern.compile(CHE_NETWORK_REGEX);
 
     // TODO replace with WorkspaceManager
     private final CheEnvironmentEngine         environmentEngine;
@@ -67,6 +68,7 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
     private final DockerContainerNameGenerator nameGenerator;
     private final WorkspaceRuntimes            runtimes;
     private final Set<String>                  additionalNetworks;
+    private final DockerResourcesInventory     inventory;
 
     @Inject
     public DockerAbandonedResourcesCleaner(CheEnvironmentEngine environmentEngine,
@@ -81,6 +83,17 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
         this.additionalNetworks = additionalNetworks.stream()
                                                     .flatMap(Set::stream)
                                                     .collect(toSet());
+        this.inventory = new DockerResourcesInventory(dockerConnector);
+    }
+
+    @PostConstruct
+    public void startTracking() {
+        inventory.startTracking();
+    }
+
+    @PreDestroy
+    public void stopTracking() {
+        inventory.stopTracking();
     }
 
     @ScheduleRate(periodParameterName = "che.docker.cleanup_period_min",
@@ -99,8 +112,8 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
     void cleanContainers() {
         List<String> activeContainers = new ArrayList<>();
         try {
-            for (ContainerListEntry container : dockerConnector.listContainers()) {
-                String containerName = container.getNames()[0];
+            for (ContainerEntry container : inventory.getContainers()) {
+                String containerName = container.getName();
                 Optional<ContainerNameInfo> optional = nameGenerator.parse(containerName);
                 if (optional.isPresent()) {
                     try {
@@ -124,17 +137,17 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
         LOG.info("List containers registered in the api: " + activeContainers);
     }
 
-    private void cleanUpContainer(ContainerListEntry container) {
+    private void cleanUpContainer(ContainerEntry container) {
         String containerId = container.getId();
-        String containerName = container.getNames()[0];
+        String containerName = container.getName();
 
-        killContainer(containerId, containerName, container.getStatus());
+        killContainer(containerId, containerName, container.isRunning());
         removeContainer(containerId, containerName);
     }
 
-    private void killContainer(String containerId, String containerName, String containerStatus) {
+    private void killContainer(String containerId, String containerName, boolean running) {
         try {
-            if (containerStatus.startsWith("Up")) {
+            if (running) {
                 dockerConnector.killContainer(containerId);
                 LOG.warn("Unused container with 'id': '{}' and 'name': '{}' was killed ", containerId, containerName);
             }
@@ -146,6 +159,7 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
     private void removeContainer(String containerId, String containerName) {
         try {
             dockerConnector.removeContainer(create(containerId).withForce(true).withRemoveVolumes(true));
+            inventory.containerRemoved(containerId);
             LOG.warn("Unused container with 'id': '{}' and 'name': '{}' was removed", containerId, containerName);
         } catch (IOException e) {
             LOG.error(format("Failed to delete unused container with 'id': '%s' and 'name': '%s'", containerId, containerName), e);
@@ -162,19 +176,13 @@ public class DockerAbandonedResourcesCleaner implements Runnable {
     @VisibleForTesting
     void cleanNetworks() {
         try {
-            List<Network> customNetworks = dockerConnector.getNetworks(GET_NETWORKS_PARAMS);
-            // This workaround is added because of docker bug which returns null instead of empty list
-            // See https://github.com/docker/docker/issues/29946
-            if (customNetworks == null) {
-                return;
-            }
-
-            for (Network network : customNetworks) {
+            for (NetworkEntry network : inventory.getNetworks()) {
                 Matcher cheNetworkMatcher = CHE_NETWORK_PATTERN.matcher(network.getName());
                 if (cheNetworkMatcher.matches() && network.getContainers().isEmpty() && !additionalNetworks.contains(network.getName()) &&
                     !runtimes.hasRuntime(cheNetworkMatcher.group(WORKSPACE_ID_REGEX_GROUP))) {
                     try {
                         dockerConnector.removeNetwork(network.getId());
+                        inventory.networkRemoved(network.getId());
                     } catch (IOException e) {
                         LOG.warn("Failed to remove abandoned network: " + network.getName(), e);
                     }
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine.cleaner;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.json.Actor;
+import org.eclipse.che.plugin.docker.client.json.ContainerListEntry;
+import org.eclipse.che.plugin.docker.client.json.Event;
+import org.eclipse.che.plugin.docker.client.json.Filters;
+import org.eclipse.che.plugin.docker.client.json.network.Network;
+import org.eclipse.che.plugin.docker.client.params.GetEventsParams;
+import org.eclipse.che.plugin.docker.client.params.network.GetNetworksParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory inventory of docker containers and networks.
+ *
+ * <p>Inventory is filled with full listing of containers and networks once, after that it is kept up to date with docker events,
+ * so consumers don't need to list all the resources of docker daemon every time they need them. When events stream is
+ * reconnected it is replayed since the time of the last received event, so nothing is lost while connection is down.
+ *
+ * <p>Docker API prior to 1.22 doesn't emit network events. Until any event of new format is received networks are listed again
+ * on each {@link #getNetworks()} call, they are usually few comparing to containers.
+ */
+class DockerResourcesInventory {
+    private static final Logger LOG = LoggerFactory.getLogger(DockerResourcesInventory.class);
+
+    private static final GetNetworksParams GET_NETWORKS_PARAMS =
+            GetNetworksParams.create().withFilters(new Filters().withFilter("type", "custom"));
+    private static final Filters           EVENTS_FILTERS      =
+            new Filters().withFilter("event", "create", "start", "die", "destroy", "rename", "connect", "disconnect");
+
+    /** Events are replayed since a bit earlier time than listing is done to tolerate clocks difference with docker daemon. */
+    private static final long CLOCK_SKEW_SEC     = 10;
+    private static final long RECONNECT_DELAY_MS = 1000;
+
+    private final DockerConnector             dockerConnector;
+    private final Map<String, ContainerEntry> containers;
+    private final Map<String, NetworkEntry>   networks;
+    private final ExecutorService             executor;
+
+    private volatile boolean newEventsFormat;
+    private volatile long    lastEventTime;
+    private          boolean containersListed;
+    private          boolean networksListed;
+
+    DockerResourcesInventory(DockerConnector dockerConnector) {
+        this.dockerConnector = dockerConnector;
+        this.containers = new ConcurrentHashMap<>();
+        this.networks = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("DockerResourcesInventory-%d")
+                                          .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                                          .setDaemon(true)
+                                          .build());
+    }
+
+    /** Starts tracking of docker events, inventory is initialized by the tracking thread if it isn't yet. */
+    void startTracking() {
+        executor.execute(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    initialize();
+                    dockerConnector.getEvents(GetEventsParams.create()
+                                                             .withSinceSecond(lastEventTime)
+                                                             .withFilters(EVENTS_FILTERS),
+                                              this::processEvent);
+                } catch (IOException e) {
+                    // usually connection timeout
+                    LOG.debug(e.getLocalizedMessage(), e);
+                    try {
+                        Thread.sleep(RECONNECT_DELAY_MS);
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+    }
+
+    void stopTracking() {
+        executor.shutdownNow();
+    }
+
+    /** Fills inventory with full listing of docker containers and networks unless they are already listed. */
+    synchronized void initialize() throws IOException {
+        if (!containersListed) {
+            listContainers();
+        }
+        if (!networksListed) {
+            listNetworks();
+        }
+    }
+
+    /** Returns snapshot of known containers, containers are listed only if inventory isn't initialized yet. */
+    synchronized List<ContainerEntry> getContainers() throws IOException {
+        if (!containersListed) {
+            listContainers();
+        }
+        return new ArrayList<>(containers.values());
+    }
+
+    /** Returns snapshot of known custom networks. */
+    synchronized List<NetworkEntry> getNetworks() throws IOException {
+        if (!networksListed || !newEventsFormat) {
+            listNetworks();
+        }
+        return new ArrayList<>(networks.values());
+    }
+
+    /** Forgets container right after it is removed, not waiting for the corresponding event. */
+    void containerRemoved(String containerId) {
+        containers.remove(containerId);
+    }
+
+    /** Forgets network right after it is removed, not waiting for the corresponding event. */
+    void networkRemoved(String networkId) {
+        networks.remove(networkId);
+    }
+
+    private void listContainers() throws IOException {
+        markListingTime();
+        for (ContainerListEntry container : dockerConnector.listContainers()) {
+            containers.put(container.getId(), new ContainerEntry(container.getId(),
+                                                                 container.getNames()[0],
+                                                                 container.getStatus().startsWith("Up")));
+        }
+        containersListed = true;
+    }
+
+    private void listNetworks() throws IOException {
+        markListingTime();
+        final List<Network> customNetworks = dockerConnector.getNetworks(GET_NETWORKS_PARAMS);
+        networks.clear();
+        // This workaround is added because of docker bug which returns null instead of empty list
+        // See https://github.com/docker/docker/issues/29946
+        if (customNetworks != null) {
+            for (Network network : customNetworks) {
+                final Map<String, ?> networkContainers = network.getContainers();
+                final NetworkEntry entry = new NetworkEntry(network.getId(), network.getName());
+                if (networkContainers != null) {
+                    entry.containers.addAll(networkContainers.keySet());
+                }
+                networks.put(network.getId(), entry);
+            }
+        }
+        networksListed = true;
+    }
+
+    /** Events are tracked since the first listing, so changes made while listing is in progress are not lost. */
+    private void markListingTime() {
+        if (lastEventTime == 0) {
+            lastEventTime = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - CLOCK_SKEW_SEC;
+        }
+    }
+
+    void processEvent(Event event) {
+        final String type = event.getType();
+        final String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        if (action == null) {
+            return;
+        }
+        if (type != null) {
+            newEventsFormat = true;
+        }
+        final Actor actor = event.getActor();
+        final String id = actor != null && actor.getId() != null ? actor.getId() : event.getId();
+        if (type == null || "container".equals(type)) {
+            processContainerEvent(action, id, getAttribute(actor, "name"));
+        } else if ("network".equals(type)) {
+            processNetworkEvent(action, id, actor);
+        }
+        lastEventTime = Math.max(lastEventTime, event.getTime());
+    }
+
+    private void processContainerEvent(String action, String containerId, String name) {
+        switch (action) {
+            case "create":
+            case "rename":
+                trackContainer(containerId, name, false);
+                break;
+            case "start":
+                trackContainer(containerId, name, true);
+                break;
+            case "die":
+                final ContainerEntry container = containers.get(containerId);
+                if (container != null) {
+                    container.running = false;
+                }
+                break;
+            case "destroy":
+                containers.remove(containerId);
+                break;
+            default:
+                // we don't care about other event types
+        }
+    }
+
+    private void trackContainer(String containerId, String name, boolean running) {
+        final ContainerEntry known = containers.get(containerId);
+        if (name == null) {
+            if (known != null) {
+                known.running |= running;
+                return;
+            }
+            // events of old format don't contain name of container
+            try {
+                name = dockerConnector.inspectContainer(containerId).getName();
+            } catch (IOException e) {
+                LOG.debug(String.format("Failed to inspect container '%s'. Cause: %s", containerId, e.getLocalizedMessage()), e);
+                return;
+            }
+        } else if (!name.startsWith("/")) {
+            // names in events are not prefixed with slash unlike names in containers list
+            name = '/' + name;
+        }
+        containers.put(containerId, new ContainerEntry(containerId, name, running || known != null && known.running));
+    }
+
+    private void processNetworkEvent(String action, String networkId, Actor actor) {
+        switch (action) {
+            case "create":
+                final String name = getAttribute(actor, "name");
+                if (name != null) {
+                    networks.putIfAbsent(networkId, new NetworkEntry(networkId, name));
+                }
+                break;
+            case "destroy":
+                networks.remove(networkId);
+                break;
+            case "connect":
+            case "disconnect":
+                final NetworkEntry network = networks.get(networkId);
+                final String containerId = getAttribute(actor, "container");
+                if (network != null && containerId != null) {
+                    if ("connect".equals(action)) {
+                        network.containers.add(containerId);
+                    } else {
+                        network.containers.remove(containerId);
+                    }
+                }
+                break;
+            default:
+                // we don't care about other event types
+        }
+    }
+
+    private static String getAttribute(Actor actor, String name) {
+        if (actor == null || actor.getAttributes() == null) {
+            return null;
+        }
+        return actor.getAttributes().get(name);
+    }
+
+    /** Docker container known to inventory. */
+    static class ContainerEntry {
+        private final String id;
+        private final String name;
+
+        private volatile boolean running;
+
+        ContainerEntry(String id, String name, boolean running) {
+            this.id = id;
+            this.name = name;
+            this.running = running;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        /** Name of container as it is shown in containers list, i.e. prefixed with slash. */
+        String getName() {
+            return name;
+        }
+
+        boolean isRunning() {
+            return running;
+        }
+    }
+
+    /** Docker network known to inventory. */
+    static class NetworkEntry {
+        private final String      id;
+        private final String      name;
+        private final Set<String> containers;
+
+        NetworkEntry(String id, String name) {
+            this.id = id;
+            this.name = name;
+            this.containers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /** Ids of containers connected to the network. */
+        Set<String> getContainers() {
+            return containers;
+        }
+    }
+}
@@ -238,6 +238,25 @@ public class DockerAbandonedResourcesCleanerTest {
         verify(dockerConnector, never()).removeContainer(RemoveContainerParams.create(containerId1).withForce(true).withRemoveVolumes(true));
     }
 
+    @Test
+    public void cleanerShouldNotListContainersOnSubsequentRuns() throws Exception {
+        when(environmentEngine.getMachine(anyString(), anyString())).thenReturn(instance);
+
+        cleaner.cleanContainers();
+        cleaner.cleanContainers();
+
+        verify(dockerConnector).listContainers();
+        verify(nameGenerator, times(6)).parse(anyString());
+    }
+
+    @Test
+    public void cleanerShouldNotTryToCleanUpRemovedContainerAgain() throws Exception {
+        cleaner.cleanContainers();
+        cleaner.cleanContainers();
+
+        verify(dockerConnector, times(2)).removeContainer(Matchers.anyObject());
+    }
+
     @Test
     public void cleanerShouldRemoveButShouldNotKillContainerWithStatusNotRunning() throws Exception {
         when(container2.getStatus()).thenReturn(EXITED_STATUS);
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine.cleaner;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.json.Actor;
+import org.eclipse.che.plugin.docker.client.json.ContainerInfo;
+import org.eclipse.che.plugin.docker.client.json.ContainerListEntry;
+import org.eclipse.che.plugin.docker.client.json.Event;
+import org.eclipse.che.plugin.docker.client.json.network.ContainerInNetwork;
+import org.eclipse.che.plugin.docker.client.json.network.Network;
+import org.eclipse.che.plugin.docker.machine.cleaner.DockerResourcesInventory.ContainerEntry;
+import org.eclipse.che.plugin.docker.machine.cleaner.DockerResourcesInventory.NetworkEntry;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link DockerResourcesInventory}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class DockerResourcesInventoryTest {
+    private static final String CONTAINER_ID   = "container1";
+    private static final String CONTAINER_NAME = "/workspace1_machine1";
+    private static final String NETWORK_ID     = "network1";
+    private static final String NETWORK_NAME   = "workspace1234567890abcdef_1234567890abcdef";
+
+    @Mock
+    private DockerConnector dockerConnector;
+
+    private DockerResourcesInventory inventory;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        when(dockerConnector.listContainers()).thenReturn(new ArrayList<>());
+        when(dockerConnector.getNetworks(any())).thenReturn(new ArrayList<>());
+        inventory = new DockerResourcesInventory(dockerConnector);
+        inventory.initialize();
+    }
+
+    @Test
+    public void shouldFillInventoryWithListedResources() throws Exception {
+        final ContainerListEntry container = mock(ContainerListEntry.class);
+        when(container.getId()).thenReturn(CONTAINER_ID);
+        when(container.getNames()).thenReturn(new String[] {CONTAINER_NAME});
+        when(container.getStatus()).thenReturn("Up 2 hours");
+        when(dockerConnector.listContainers()).thenReturn(singletonList(container));
+        final Network network = mock(Network.class);
+        when(network.getId()).thenReturn(NETWORK_ID);
+        when(network.getName()).thenReturn(NETWORK_NAME);
+        when(network.getContainers()).thenReturn(ImmutableMap.of(CONTAINER_ID, mock(ContainerInNetwork.class)));
+        when(dockerConnector.getNetworks(any())).thenReturn(singletonList(network));
+        inventory = new DockerResourcesInventory(dockerConnector);
+
+        inventory.initialize();
+
+        final List<ContainerEntry> containers = inventory.getContainers();
+        assertEquals(containers.size(), 1);
+        assertEquals(containers.get(0).getId(), CONTAINER_ID);
+        assertEquals(containers.get(0).getName(), CONTAINER_NAME);
+        assertTrue(containers.get(0).isRunning());
+        final List<NetworkEntry> networks = inventory.getNetworks();
+        assertEquals(networks.size(), 1);
+        assertEquals(networks.get(0).getContainers(), Collections.singleton(CONTAINER_ID));
+    }
+
+    @Test
+    public void shouldTrackContainerLifecycleWithEvents() throws Exception {
+        inventory.processEvent(containerEvent("create"));
+        assertEquals(inventory.getContainers().size(), 1);
+        assertEquals(inventory.getContainers().get(0).getName(), CONTAINER_NAME);
+        assertFalse(inventory.getContainers().get(0).isRunning());
+
+        inventory.processEvent(containerEvent("start"));
+        assertTrue(inventory.getContainers().get(0).isRunning());
+
+        inventory.processEvent(containerEvent("die"));
+        assertFalse(inventory.getContainers().get(0).isRunning());
+
+        inventory.processEvent(containerEvent("destroy"));
+        assertTrue(inventory.getContainers().isEmpty());
+        verify(dockerConnector).listContainers();
+    }
+
+    @Test
+    public void shouldInspectContainerWhenEventDoesNotContainItsName() throws Exception {
+        final ContainerInfo info = mock(ContainerInfo.class);
+        when(info.getName()).thenReturn(CONTAINER_NAME);
+        when(dockerConnector.inspectContainer(CONTAINER_ID)).thenReturn(info);
+
+        inventory.processEvent(new Event().withStatus("start").withId(CONTAINER_ID));
+
+        final List<ContainerEntry> containers = inventory.getContainers();
+        assertEquals(containers.size(), 1);
+        assertEquals(containers.get(0).getName(), CONTAINER_NAME);
+        assertTrue(containers.get(0).isRunning());
+    }
+
+    @Test
+    public void shouldTrackNetworksWithEventsOfNewFormat() throws Exception {
+        inventory.processEvent(networkEvent("create", ImmutableMap.of("name", NETWORK_NAME, "type", "bridge")));
+        inventory.processEvent(networkEvent("connect", ImmutableMap.of("container", CONTAINER_ID)));
+
+        List<NetworkEntry> networks = inventory.getNetworks();
+        assertEquals(networks.size(), 1);
+        assertEquals(networks.get(0).getName(), NETWORK_NAME);
+        assertEquals(networks.get(0).getContainers(), Collections.singleton(CONTAINER_ID));
+
+        inventory.processEvent(networkEvent("disconnect", ImmutableMap.of("container", CONTAINER_ID)));
+        assertTrue(inventory.getNetworks().get(0).getContainers().isEmpty());
+
+        inventory.processEvent(networkEvent("destroy", ImmutableMap.of("name", NETWORK_NAME)));
+        assertTrue(inventory.getNetworks().isEmpty());
+        verify(dockerConnector).getNetworks(any());
+    }
+
+    @Test
+    public void shouldListNetworksOnEachRequestIfEventsOfNewFormatAreNotReceived() throws Exception {
+        inventory.processEvent(new Event().withStatus("die").withId(CONTAINER_ID));
+
+        inventory.getNetworks();
+        inventory.getNetworks();
+
+        verify(dockerConnector, times(3)).getNetworks(any());
+    }
+
+    private static Event containerEvent(String action) {
+        return new Event().withType("container")
+                          .withAction(action)
+                          .withActor(new Actor().withId(CONTAINER_ID)
+                                                .withAttributes(ImmutableMap.of("name", CONTAINER_NAME.substring(1))));
+    }
+
+    private static Event networkEvent(String action, Map<String, String> attributes) {
+        return new Event().withType("network")
+                          .withAction(action)
+                          .withActor(new Actor().withId(NETWORK_ID).withAttributes(attributes));
+    }
+}
@@ -40,6 +40,7 @@ import java.util.stream.Collectors;
  */
 @Singleton
 public class PomChangeListener {
+    private static final int EVENTS_QUEUE_CAPACITY = 1000;
 
     private final MavenWorkspace           mavenWorkspace;
     private final EclipseWorkspaceProvider eclipseWorkspaceProvider;
@@ -58,7 +59,8 @@ public class PomChangeListener {
 
         launcher.scheduleWithFixedDelay(this::updateProms, 20, 3, TimeUnit.SECONDS);
 
-        eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
+        // pom files are parsed on every modification, don't do it in the thread which modifies files
+        eventService.subscribeAsync(new EventSubscriber<ProjectItemModifiedEvent>() {
             @Override
             public void onEvent(ProjectItemModifiedEvent event) {
                 String eventPath = event.getPath();
@@ -71,7 +73,7 @@ public class PomChangeListener {
 //                    }
                 }
             }
-        });
+        }, EVENTS_QUEUE_CAPACITY, EventService.OverflowPolicy.BLOCK);
 
         eventService.subscribe(new EventSubscriber<PomModifiedEventDto>() {
             @Override
@@ -85,4 +85,11 @@ public interface ItemReference extends Hyperlinks {
     ProjectConfigDto getProjectConfig();
 
     void setProjectConfig(ProjectConfigDto config);
+
+    /** Matches of the search criteria in the content of file. Filled only for results of search request with positions. */
+    List<SearchOccurrenceDto> getSearchOccurrences();
+
+    void setSearchOccurrences(List<SearchOccurrenceDto> searchOccurrences);
+
+    ItemReference withSearchOccurrences(List<SearchOccurrenceDto> searchOccurrences);
 }
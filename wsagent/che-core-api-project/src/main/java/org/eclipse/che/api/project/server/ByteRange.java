@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+/**
+ * Byte range requested with HTTP {@code Range} header, see RFC 7233. Only single range is supported, request with
+ * several ranges is served with full content as specification allows.
+ */
+final class ByteRange {
+    /** Range that doesn't overlap content, such request must be answered with 416 status. */
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    private final long first;
+    private final long last;
+
+    private ByteRange(long first, long last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Parses value of {@code Range} header.
+     *
+     * @param header
+     *         value of header, may be {@code null}
+     * @param length
+     *         length of requested content
+     * @return requested range, {@link #UNSATISFIABLE} or {@code null} if header is absent, malformed or not supported so full
+     * content should be sent
+     */
+    static ByteRange parse(String header, long length) {
+        if (header == null || !header.startsWith(BYTES_UNIT)) {
+            return null;
+        }
+        final String spec = header.substring(BYTES_UNIT.length()).trim();
+        final int dash = spec.indexOf('-');
+        if (dash == -1 || spec.indexOf(',') != -1) {
+            return null;
+        }
+        final String firstSpec = spec.substring(0, dash).trim();
+        final String lastSpec = spec.substring(dash + 1).trim();
+        try {
+            if (firstSpec.isEmpty()) {
+                // suffix range, e.g. 'bytes=-500' means the last 500 bytes
+                if (lastSpec.isEmpty()) {
+                    return null;
+                }
+                final long suffixLength = Long.parseLong(lastSpec);
+                if (suffixLength <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, length - suffixLength), length - 1);
+            }
+            final long first = Long.parseLong(firstSpec);
+            final long last = lastSpec.isEmpty() ? length - 1 : Long.parseLong(lastSpec);
+            if (first < 0 || last < first) {
+                return null;
+            }
+            if (first >= length) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(first, Math.min(last, length - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    long getFirst() {
+        return first;
+    }
+
+    long getLast() {
+        return last;
+    }
+
+    long getLength() {
+        return last - first + 1;
+    }
+
+    /** Returns value of {@code Content-Range} header for this range of content with specified length. */
+    String toContentRange(long length) {
+        return "bytes " + first + '-' + last + '/' + length;
+    }
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.vfs.Path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Associates values with absolute paths and keeps them in tree of path elements, so finding value of the nearest
+ * ancestor of path or values of all descendants of path takes time proportional to depth of path (and number of
+ * found values) instead of number of stored values.
+ *
+ * <p>The implementation is not thread-safe.
+ */
+final class PathTrie<V> {
+    private final Node<V> root = new Node<>();
+
+    /** Associates value with path and returns previous value associated with it or {@code null}. */
+    V put(Path path, V value) {
+        Node<V> node = root;
+        for (String element : path.elements()) {
+            node = node.children.computeIfAbsent(element, e -> new Node<>());
+        }
+        final V previous = node.value;
+        node.value = value;
+        return previous;
+    }
+
+    /** Returns value associated with path or {@code null}. */
+    V get(Path path) {
+        final Node<V> node = find(path);
+        return node == null ? null : node.value;
+    }
+
+    /** Removes value associated with path and returns it or {@code null} if there was no such value. */
+    V remove(Path path) {
+        return remove(root, path.elements(), 0);
+    }
+
+    /** Returns value associated with path or with its nearest ancestor, or {@code null} if there are no such values. */
+    V getNearest(Path path) {
+        Node<V> node = root;
+        V nearest = root.value;
+        for (String element : path.elements()) {
+            node = node.children.get(element);
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                nearest = node.value;
+            }
+        }
+        return nearest;
+    }
+
+    /** Returns values associated with all descendants of path, value associated with path itself is not included. */
+    List<V> getDescendants(Path path) {
+        final List<V> descendants = new ArrayList<>();
+        final Node<V> node = find(path);
+        if (node != null) {
+            for (Node<V> child : node.children.values()) {
+                collect(child, descendants);
+            }
+        }
+        return descendants;
+    }
+
+    private Node<V> find(Path path) {
+        Node<V> node = root;
+        for (String element : path.elements()) {
+            node = node.children.get(element);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private V remove(Node<V> node, String[] elements, int index) {
+        if (index == elements.length) {
+            final V removed = node.value;
+            node.value = null;
+            return removed;
+        }
+        final Node<V> child = node.children.get(elements[index]);
+        if (child == null) {
+            return null;
+        }
+        final V removed = remove(child, elements, index + 1);
+        if (child.value == null && child.children.isEmpty()) {
+            node.children.remove(elements[index]);
+        }
+        return removed;
+    }
+
+    private static <V> void collect(Node<V> node, List<V> values) {
+        if (node.value != null) {
+            values.add(node.value);
+        }
+        for (Node<V> child : node.children.values()) {
+            collect(child, values);
+        }
+    }
+
+    private static class Node<V> {
+        final Map<String, Node<V>> children = new HashMap<>(4);
+        V value;
+    }
+}
@@ -104,6 +104,11 @@ public class ProjectManager {
         this.fileWatcher = fileTreeWatcher;
         this.workspaceProjectsHolder = workspaceProjectsHolder;
         this.fileWatcherManager = fileWatcherManager;
+        this.fileWatcherManager.addDirectoryListener(dir -> {
+            if (Path.of(dir).isRoot()) {
+                projectRegistry.rootFoldersChanged();
+            }
+        });
 
         executor = Executors.newFixedThreadPool(1 + Runtime.getRuntime().availableProcessors(),
                                                 new ThreadFactoryBuilder().setNameFormat("ProjectService-IndexingThread-")
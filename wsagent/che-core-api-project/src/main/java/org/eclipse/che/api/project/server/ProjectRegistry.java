@@ -48,6 +48,7 @@ public class ProjectRegistry {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectRegistry.class);
 
     private final Map<String, RegisteredProject> projects;
+    private final PathTrie<RegisteredProject>    projectsTree;
     private final WorkspaceProjectsSyncer        workspaceHolder;
     private final VirtualFileSystem              vfs;
     private final ProjectTypeRegistry            projectTypeRegistry;
@@ -57,6 +58,9 @@ public class ProjectRegistry {
 
     private boolean initialized;
 
+    /** Whether folders on root may have changed since they were checked for unconfigured projects last time. */
+    private volatile boolean rootFoldersChanged;
+
     @Inject
     public ProjectRegistry(WorkspaceProjectsSyncer workspaceHolder,
                            VirtualFileSystemProvider vfsProvider,
@@ -65,6 +69,7 @@ public class ProjectRegistry {
                            EventService eventService) throws ServerException {
         this.eventService = eventService;
         this.projects = new ConcurrentHashMap<>();
+        this.projectsTree = new PathTrie<>();
         this.workspaceHolder = workspaceHolder;
         this.vfs = vfsProvider.getVirtualFileSystem();
         this.projectTypeRegistry = projectTypeRegistry;
@@ -106,7 +111,7 @@ public class ProjectRegistry {
     public List<RegisteredProject> getProjects() {
         checkInitializationState();
 
-        initUnconfiguredFolders();
+        refreshUnconfiguredFolders();
 
         return new ArrayList<>(projects.values());
     }
@@ -119,9 +124,16 @@ public class ProjectRegistry {
     public RegisteredProject getProject(String projectPath) {
         checkInitializationState();
 
-        initUnconfiguredFolders();
+        refreshUnconfiguredFolders();
 
-        return projects.get(absolutizePath(projectPath));
+        final String path = absolutizePath(projectPath);
+        RegisteredProject project = projects.get(path);
+        if (project == null && Path.of(path).length() == 1) {
+            // folder may be just created on root, check it without waiting for notification
+            initUnconfiguredFolders();
+            project = projects.get(path);
+        }
+        return project;
     }
 
     /**
@@ -132,14 +144,17 @@ public class ProjectRegistry {
     public List<String> getProjects(String parentPath) {
         checkInitializationState();
 
-        initUnconfiguredFolders();
+        refreshUnconfiguredFolders();
 
         final Path root = Path.of(absolutizePath(parentPath));
+        final List<RegisteredProject> descendants;
+        synchronized (projectsTree) {
+            descendants = projectsTree.getDescendants(root);
+        }
 
-        return projects.keySet()
-                       .stream()
-                       .filter(key -> Path.of(key).isChild(root))
-                       .collect(Collectors.toList());
+        return descendants.stream()
+                          .map(RegisteredProject::getPath)
+                          .collect(Collectors.toList());
     }
 
     /**
@@ -150,23 +165,18 @@ public class ProjectRegistry {
     public RegisteredProject getParentProject(String path) {
         checkInitializationState();
 
-        // return this if a project
-        if (getProject(path) != null) {
-            return getProject(path);
-        }
+        refreshUnconfiguredFolders();
 
-        // otherwise try to find matched parent
-        Path test;
-        while ((test = Path.of(path).getParent()) != null) {
-            final RegisteredProject project = projects.get(test.toString());
-            if (project != null) {
-                return project;
-            }
-
-            path = test.toString();
+        // this if a project, otherwise the nearest parent project
+        final Path test = Path.of(absolutizePath(path));
+        RegisteredProject project = findNearestProject(test);
+        if (project == null && test.length() > 0) {
+            // top level folder may be just created, check it without waiting for notification
+            initUnconfiguredFolders();
+            project = findNearestProject(test);
         }
 
-        return null;
+        return project;
     }
 
     /**
@@ -190,7 +200,7 @@ public class ProjectRegistry {
                                  boolean detected) throws ServerException {
 
         final RegisteredProject project = new RegisteredProject(folder, config, updated, detected, this.projectTypeRegistry);
-        projects.put(project.getPath(), project);
+        index(project);
 
         return project;
     }
@@ -205,8 +215,8 @@ public class ProjectRegistry {
     void removeProjects(String path) throws ServerException {
 
         List<RegisteredProject> removed = new ArrayList<>();
-        Optional.ofNullable(projects.remove(path)).ifPresent(removed::add);
-        getProjects(path).forEach(p -> Optional.ofNullable(projects.remove(p))
+        Optional.ofNullable(unindex(path)).ifPresent(removed::add);
+        getProjects(path).forEach(p -> Optional.ofNullable(unindex(p))
                                                .ifPresent(removed::add));
 
         removed.forEach(registeredProject -> eventService.publish(new ProjectDeletedEvent(registeredProject.getPath())));
@@ -330,7 +340,7 @@ public class ProjectRegistry {
             newMixins.remove(type);
         } else if (newType.equals(type)) {
             if (project.isDetected()) {
-                projects.remove(project.getPath());
+                unindex(project.getPath());
                 return null;
             }
 
@@ -358,8 +368,47 @@ public class ProjectRegistry {
         return (path.startsWith("/")) ? path : "/".concat(path);
     }
 
+    /**
+     * Notifies registry that content of root folder was changed, so unconfigured
+     * folders on root have to be checked again on next access to projects.
+     */
+    void rootFoldersChanged() {
+        rootFoldersChanged = true;
+    }
+
+    private void refreshUnconfiguredFolders() {
+        if (rootFoldersChanged) {
+            initUnconfiguredFolders();
+        }
+    }
+
+    private RegisteredProject findNearestProject(Path path) {
+        synchronized (projectsTree) {
+            return projectsTree.getNearest(path);
+        }
+    }
+
+    private void index(RegisteredProject project) {
+        projects.put(project.getPath(), project);
+        synchronized (projectsTree) {
+            projectsTree.put(Path.of(project.getPath()), project);
+        }
+    }
+
+    private RegisteredProject unindex(String path) {
+        final RegisteredProject removed = projects.remove(path);
+        if (removed != null) {
+            synchronized (projectsTree) {
+                projectsTree.remove(Path.of(path));
+            }
+        }
+        return removed;
+    }
+
     /** Try to initialize projects from unconfigured folders on root. */
     private void initUnconfiguredFolders() {
+        // reset flag before listing, so changes which happen during listing aren't missed
+        rootFoldersChanged = false;
         try {
             for (FolderEntry folder : root.getChildFolders()) {
                 if (!projects.containsKey(folder.getVirtualFile().getPath().toString())) {
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.base.Optional;
+import com.google.common.io.ByteStreams;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -23,6 +26,7 @@ import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.core.model.project.type.Value;
@@ -30,6 +34,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.rest.Service;
 import org.eclipse.che.api.core.rest.annotations.Description;
 import org.eclipse.che.api.core.rest.annotations.GenerateLink;
+import org.eclipse.che.api.core.util.PagingUtil;
 import org.eclipse.che.api.project.server.importer.ProjectImportOutputWSLineConsumer;
 import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
 import org.eclipse.che.api.project.server.type.ProjectTypeResolution;
@@ -43,6 +48,7 @@ import org.eclipse.che.api.vfs.search.QueryExpression;
 import org.eclipse.che.api.vfs.search.SearchResult;
 import org.eclipse.che.api.vfs.search.SearchResultEntry;
 import org.eclipse.che.api.vfs.search.Searcher;
+import org.eclipse.che.api.vfs.util.FileChannelInputStream;
 import org.eclipse.che.api.workspace.shared.dto.NewProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
@@ -59,6 +65,7 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -66,13 +73,23 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -83,6 +100,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonMap;
 import static org.eclipse.che.api.project.server.DtoConverter.asDto;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CREATE_BATCH_PROJECTS;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_CREATE_PROJECT;
@@ -105,18 +124,25 @@ public class ProjectService extends Service {
     private static final Logger LOG  = LoggerFactory.getLogger(ProjectService.class);
     private static final Tika   TIKA = new Tika();
 
+    private static final String RANGE         = "Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+
     private final ProjectManager              projectManager;
     private final EventService                eventService;
     private final ProjectServiceLinksInjector projectServiceLinksInjector;
+    private final ProjectTreeCache            projectTreeCache;
     private final String                      workspace;
 
     @Inject
     public ProjectService(ProjectManager projectManager,
                           EventService eventService,
-                          ProjectServiceLinksInjector projectServiceLinksInjector) {
+                          ProjectServiceLinksInjector projectServiceLinksInjector,
+                          ProjectTreeCache projectTreeCache) {
         this.projectManager = projectManager;
         this.eventService = eventService;
         this.projectServiceLinksInjector = projectServiceLinksInjector;
+        this.projectTreeCache = projectTreeCache;
         this.workspace = WorkspaceIdProvider.getWorkspaceId();
     }
 
@@ -487,12 +513,14 @@ public class ProjectService extends Service {
     @GET
     @Path("/file/{path:.*}")
     public Response getFile(@ApiParam(value = "Path to a file", required = true)
-                            @PathParam("path") String path) throws IOException, NotFoundException, ForbiddenException, ServerException {
+                            @PathParam("path") String path,
+                            @ApiParam(value = "Range of bytes of file content")
+                            @HeaderParam(RANGE) String range) throws IOException, NotFoundException, ForbiddenException, ServerException {
         final FileEntry file = projectManager.asFile(path);
         if (file == null) {
             throw new NotFoundException("File not found for " + path);
         }
-        return Response.ok().entity(file.getInputStream()).type(TIKA.detect(file.getName())).build();
+        return contentResponse(file.getVirtualFile(), range).type(TIKA.detect(file.getName())).build();
     }
 
     @PUT
@@ -722,8 +750,8 @@ public class ProjectService extends Service {
                    @ApiResponse(code = 403, message = "User not authorized to call this operation"),
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public InputStream exportZip(@ApiParam(value = "Path to resource to be exported")
-                                 @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
+    public Response exportZip(@ApiParam(value = "Path to resource to be exported")
+                              @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
 
         final FolderEntry folder = projectManager.asFolder(path);
 
@@ -731,14 +759,24 @@ public class ProjectService extends Service {
             throw new NotFoundException("Folder not found " + path);
         }
 
-        return folder.getVirtualFile().zip();
+        // archive is written directly to response while folder is traversed
+        final VirtualFile virtualFile = folder.getVirtualFile();
+        return Response.ok((StreamingOutput)output -> {
+            try {
+                virtualFile.zip(output);
+            } catch (ForbiddenException | ServerException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }, ExtMediaType.APPLICATION_ZIP).build();
     }
 
     @GET
     @Path("/export/file/{path:.*}")
     @Produces(MediaType.APPLICATION_OCTET_STREAM)
     public Response exportFile(@ApiParam(value = "Path to resource to be imported")
-                               @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
+                               @PathParam("path") String path,
+                               @ApiParam(value = "Range of bytes of file content")
+                               @HeaderParam(RANGE) String range) throws NotFoundException, ForbiddenException, ServerException {
 
         final FileEntry file = projectManager.asFile(path);
 
@@ -748,13 +786,54 @@ public class ProjectService extends Service {
 
         final VirtualFile virtualFile = file.getVirtualFile();
 
-        return Response.ok(virtualFile.getContent(), TIKA.detect(virtualFile.getName()))
+        return contentResponse(virtualFile, range)
+                       .type(TIKA.detect(virtualFile.getName()))
                        .lastModified(new Date(virtualFile.getLastModificationDate()))
-                       .header(HttpHeaders.CONTENT_LENGTH, Long.toString(virtualFile.getLength()))
                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + virtualFile.getName() + '"')
                        .build();
     }
 
+    @GET
+    @Path("/hashsums/{path:.*}")
+    @Produces(MediaType.TEXT_PLAIN)
+    @ApiOperation(value = "Get md5 sums of files",
+                  notes = "Get md5 sums of all files of folder. Each line of response contains md5 sum of file and path of file " +
+                          "relative to folder separated with space, lines are written as soon as sums are counted in any order")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 403, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response getHashSums(@ApiParam(value = "Path to folder", required = true)
+                                @PathParam("path") String path) throws NotFoundException, ForbiddenException, ServerException {
+        final FolderEntry folder = projectManager.asFolder(path);
+
+        if (folder == null) {
+            throw new NotFoundException("Folder not found " + path);
+        }
+
+        // sums are written to response while they are counted, so sums of all files are never kept in memory
+        final VirtualFile virtualFile = folder.getVirtualFile();
+        return Response.ok((StreamingOutput)output -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+            try {
+                virtualFile.countMd5Sums(hashSum -> {
+                    synchronized (writer) {
+                        try {
+                            writer.write(hashSum.first + ' ' + hashSum.second + '\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+            } catch (ServerException e) {
+                throw new IOException(e.getMessage(), e);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        }, MediaType.TEXT_PLAIN).build();
+    }
+
     @GET
     @Path("/children/{parent:.*}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -818,6 +897,43 @@ public class ProjectService extends Service {
                                         .withChildren(getTree(folder, depth, includeFiles));
     }
 
+    @GET
+    @Path("/compact-tree/{parent:.*}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Get compact project tree",
+                  notes = "Get project tree that contains only names of items and no links. Depth is specified in a query parameter. " +
+                          "Response is tagged, so unchanged tree isn't sent again when request has If-None-Match header")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 304, message = "Tree wasn't modified"),
+                   @ApiResponse(code = 403, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response getCompactTree(@ApiParam(value = "Path to resource. Can be project or its folders", required = true)
+                                   @PathParam("parent") String path,
+                                   @ApiParam(value = "Tree depth. This parameter can be dropped. If not specified ?depth=1 is used by " +
+                                                     "default, negative value means whole tree")
+                                   @DefaultValue("1") @QueryParam("depth") int depth,
+                                   @ApiParam(value = "include children files (in addition to children folders). This parameter can be " +
+                                                     "dropped. If not specified ?includeFiles=false is used by default")
+                                   @DefaultValue("false") @QueryParam("includeFiles") boolean includeFiles,
+                                   @Context Request request) throws NotFoundException,
+                                                                    ForbiddenException,
+                                                                    ServerException {
+        final FolderEntry folder = projectManager.asFolder(path);
+
+        if (folder == null) {
+            throw new NotFoundException("Folder " + path + " was not found");
+        }
+
+        final ProjectTreeCache.Tree tree = projectTreeCache.getTree(folder, depth, includeFiles);
+        final EntityTag eTag = new EntityTag(tree.getETag());
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(eTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(tree.getJson(), MediaType.APPLICATION_JSON_TYPE).tag(eTag).build();
+    }
+
     @GET
     @Path("/item/{path:.*}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -848,7 +964,8 @@ public class ProjectService extends Service {
     @Path("/search/{path:.*}")
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Search for resources",
-                  notes = "Search for resources applying a number of search filters as query parameters",
+                  notes = "Search for resources applying a number of search filters as query parameters. " +
+                          "If there are more results, link to the next page is returned in 'Link' header",
                   response = ItemReference.class,
                   responseContainer = "List")
     @ApiResponses({@ApiResponse(code = 200, message = "OK"),
@@ -856,25 +973,29 @@ public class ProjectService extends Service {
                    @ApiResponse(code = 404, message = "Not found"),
                    @ApiResponse(code = 409, message = "Conflict error"),
                    @ApiResponse(code = 500, message = "Internal Server Error")})
-    public List<ItemReference> search(@ApiParam(value = "Path to resource, i.e. where to search?", required = true)
-                                      @PathParam("path") String path,
-                                      @ApiParam(value = "Resource name")
-                                      @QueryParam("name") String name,
-                                      @ApiParam(value = "Search keywords")
-                                      @QueryParam("text") String text,
-                                      @ApiParam(value = "Maximum items to display. If this parameter is dropped, there are no limits")
-                                      @QueryParam("maxItems") @DefaultValue("-1") int maxItems,
-                                      @ApiParam(value = "Skip count")
-                                      @QueryParam("skipCount") int skipCount) throws NotFoundException,
-                                                                                     ForbiddenException,
-                                                                                     ConflictException,
-                                                                                     ServerException {
+    public Response search(@ApiParam(value = "Path to resource, i.e. where to search?", required = true)
+                           @PathParam("path") String path,
+                           @ApiParam(value = "Resource name")
+                           @QueryParam("name") String name,
+                           @ApiParam(value = "Search keywords")
+                           @QueryParam("text") String text,
+                           @ApiParam(value = "Maximum items to display. If this parameter is dropped, there are no limits")
+                           @QueryParam("maxItems") @DefaultValue("-1") int maxItems,
+                           @ApiParam(value = "Skip count")
+                           @QueryParam("skipCount") int skipCount,
+                           @ApiParam(value = "Include line numbers, offsets and snippets of text matches in result")
+                           @QueryParam("includePositions") boolean includePositions,
+                           @ApiParam(value = "Position of the next page returned in 'Link' header of the previous page")
+                           @QueryParam("cursor") String cursor) throws NotFoundException,
+                                                                       ForbiddenException,
+                                                                       ConflictException,
+                                                                       ServerException {
         final Searcher searcher;
         try {
             searcher = projectManager.getSearcher();
         } catch (NotFoundException e) {
             LOG.warn(e.getLocalizedMessage());
-            return Collections.emptyList();
+            return Response.ok(Collections.emptyList()).build();
         }
 
         if (skipCount < 0) {
@@ -886,7 +1007,9 @@ public class ProjectService extends Service {
                 .setName(name)
                 .setText(text)
                 .setMaxItems(maxItems)
-                .setSkipCount(skipCount);
+                .setSkipCount(skipCount)
+                .setCursor(cursor)
+                .setIncludePositions(includePositions);
 
         final SearchResult result = searcher.search(expr);
         final List<SearchResultEntry> searchResultEntries = result.getResults();
@@ -897,11 +1020,30 @@ public class ProjectService extends Service {
             final VirtualFileEntry child = root.getChild(searchResultEntry.getFilePath());
 
             if (child != null && child.isFile()) {
-                items.add(injectFileLinks(asDto((FileEntry)child)));
+                final ItemReference item = injectFileLinks(asDto((FileEntry)child));
+                if (includePositions) {
+                    item.setSearchOccurrences(searchResultEntry.getOccurrences()
+                                                               .stream()
+                                                               .map(DtoConverter::asDto)
+                                                               .collect(Collectors.toList()));
+                }
+                items.add(item);
             }
         }
 
-        return items;
+        final Response.ResponseBuilder response = Response.ok(items);
+        final Optional<QueryExpression> nextPage = result.getNextPageQueryExpression();
+        if (nextPage.isPresent()) {
+            // page is full when there is the next one, cursor is valid only for the next page
+            final Page<ItemReference> page = new Page<>(items,
+                                                        skipCount,
+                                                        nextPage.get().getSkipCount() - skipCount,
+                                                        result.getTotalHits());
+            response.header("Link", PagingUtil.createLinkHeader(page,
+                                                                uriInfo.getRequestUriBuilder().replaceQueryParam("cursor").build(),
+                                                                singletonMap("cursor", nextPage.get().getCursor())));
+        }
+        return response.build();
     }
 
     private void logProjectCreatedEvent(@NotNull String projectName, @NotNull String projectType) {
@@ -1060,6 +1202,76 @@ public class ProjectService extends Service {
         parent.unzip(in, overwrite, stripNum);
     }
 
+    /**
+     * Creates response with content of file or with part of content if it is requested with HTTP {@code Range} header.
+     * Content of file isn't buffered, it is written directly to response and transferred from file channel when possible.
+     * Length of content is taken from content opened for that rather than from file attributes that may be stale.
+     * Content to write is opened only when response entity is written, so nothing is left open when entity is never
+     * written, e.g. for HEAD request or when client goes away.
+     */
+    private static Response.ResponseBuilder contentResponse(VirtualFile virtualFile, String range) throws ForbiddenException,
+                                                                                                          ServerException {
+        final long length;
+        try (InputStream content = virtualFile.getContent()) {
+            length = contentLength(virtualFile, content);
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+
+        final ByteRange byteRange = ByteRange.parse(range, length);
+        if (byteRange == ByteRange.UNSATISFIABLE) {
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE).header(CONTENT_RANGE, "bytes */" + length);
+        }
+
+        final Response.ResponseBuilder builder;
+        final long skip;
+        final long count;
+        if (byteRange == null) {
+            builder = Response.ok();
+            skip = 0;
+            count = length;
+        } else {
+            builder = Response.status(Response.Status.PARTIAL_CONTENT).header(CONTENT_RANGE, byteRange.toContentRange(length));
+            skip = byteRange.getFirst();
+            count = byteRange.getLength();
+        }
+        return builder.entity((StreamingOutput)output -> writeContent(virtualFile, skip, count, output))
+                      .header(HttpHeaders.CONTENT_LENGTH, Long.toString(count))
+                      .header(ACCEPT_RANGES, "bytes");
+    }
+
+    private static long contentLength(VirtualFile virtualFile, InputStream content) throws IOException, ServerException {
+        if (content instanceof FileChannelInputStream) {
+            return ((FileChannelInputStream)content).size();
+        }
+        if (content instanceof ByteArrayInputStream) {
+            return content.available();
+        }
+        return virtualFile.getLength();
+    }
+
+    /** Writes {@code count} bytes of content of file, fails if file is shortened since length of content was taken. */
+    private static void writeContent(VirtualFile virtualFile, long skip, long count, OutputStream output) throws IOException {
+        final InputStream content;
+        try {
+            content = virtualFile.getContent();
+        } catch (ForbiddenException | ServerException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        try (InputStream in = content) {
+            ByteStreams.skipFully(in, skip);
+            final long written;
+            if (in instanceof FileChannelInputStream) {
+                written = ((FileChannelInputStream)in).transferTo(output, count);
+            } else {
+                written = ByteStreams.copy(ByteStreams.limit(in, count), output);
+            }
+            if (written < count) {
+                throw new EOFException(String.format("Content of file '%s' is shortened while it is sent", virtualFile.getPath()));
+            }
+        }
+    }
+
     private ItemReference injectFileLinks(ItemReference itemReference) {
         return projectServiceLinksInjector.injectFileLinks(itemReference, getServiceContext());
     }
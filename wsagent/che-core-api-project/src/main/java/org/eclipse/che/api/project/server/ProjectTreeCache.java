@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.gson.stream.JsonWriter;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFileSystemProvider;
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Builds and caches compact JSON representation of folder trees. Unlike {@link org.eclipse.che.api.project.shared.dto.TreeElement}
+ * compact tree contains only names of items, e.g.:
+ * <pre>
+ *     {"name":"project","path":"/project","folder":true,"children":[
+ *         {"name":"src","folder":true},
+ *         {"name":"pom.xml"}
+ *     ]}
+ * </pre>
+ * Folders that are deeper than requested depth have no {@code children}. Cached trees are invalidated synchronously when any item
+ * of tree is changed through virtual file system, and when file watcher reports changes made by external tools in any directory
+ * of tree. They also expire after short time since directories that are excluded from watching may be changed without
+ * notifications.
+ */
+@Singleton
+public class ProjectTreeCache {
+    private static final int  CACHE_SIZE            = 100;
+    private static final long CACHE_EXPIRE_SECONDS = 30;
+
+    private final Cache<Key, Tree> trees;
+    /** Number of reported changes, tree that is built while changes happen is not cached since it may be already stale. */
+    private final AtomicLong       changes;
+
+    @Inject
+    public ProjectTreeCache(FileWatcherManager fileWatcherManager, VirtualFileSystemProvider vfsProvider) throws ServerException {
+        trees = CacheBuilder.newBuilder()
+                            .maximumSize(CACHE_SIZE)
+                            .expireAfterWrite(CACHE_EXPIRE_SECONDS, SECONDS)
+                            .build();
+        changes = new AtomicLong();
+        fileWatcherManager.addDirectoryListener(directory -> invalidate(Path.of(directory)));
+        vfsProvider.getVirtualFileSystem().addChangeListener(this::invalidate);
+    }
+
+    /**
+     * Gets compact tree of folder.
+     *
+     * @param folder
+     *         root of tree
+     * @param depth
+     *         depth of tree, negative value means whole tree
+     * @param includeFiles
+     *         include files in addition to folders
+     */
+    public Tree getTree(FolderEntry folder, int depth, boolean includeFiles) throws ServerException {
+        final Key key = new Key(folder.getPath(), depth, includeFiles);
+        Tree tree = trees.getIfPresent(key);
+        if (tree == null) {
+            final long changesBefore = changes.get();
+            tree = buildTree(folder, depth, includeFiles);
+            if (changes.get() == changesBefore) {
+                trees.put(key, tree);
+            }
+        }
+        return tree;
+    }
+
+    /** Invalidates trees that contain item with specified path and trees of its descendants. */
+    void invalidate(Path changed) {
+        changes.incrementAndGet();
+        trees.asMap().keySet().removeIf(key -> key.path.equals(changed) || changed.isChild(key.path) || key.path.isChild(changed));
+    }
+
+    private Tree buildTree(FolderEntry folder, int depth, boolean includeFiles) throws ServerException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(bytes, UTF_8))) {
+            writer.beginObject();
+            writer.name("name").value(folder.getName());
+            writer.name("path").value(folder.getPath().toString());
+            writer.name("folder").value(true);
+            writeChildren(writer, folder, depth, includeFiles);
+            writer.endObject();
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+        final byte[] json = bytes.toByteArray();
+        return new Tree(json, Hashing.murmur3_128().hashBytes(json).toString());
+    }
+
+    private void writeChildren(JsonWriter writer, FolderEntry folder, int depth, boolean includeFiles) throws IOException,
+                                                                                                             ServerException {
+        if (depth == 0) {
+            return;
+        }
+        final List<? extends VirtualFileEntry> children = includeFiles ? folder.getChildFoldersFiles() : folder.getChildFolders();
+        writer.name("children").beginArray();
+        for (VirtualFileEntry child : children) {
+            writer.beginObject();
+            writer.name("name").value(child.getName());
+            if (child.isFolder()) {
+                writer.name("folder").value(true);
+                writeChildren(writer, (FolderEntry)child, depth - 1, includeFiles);
+            }
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    /** Compact JSON representation of tree and its entity tag. */
+    public static class Tree {
+        private final byte[] json;
+        private final String eTag;
+
+        Tree(byte[] json, String eTag) {
+            this.json = json;
+            this.eTag = eTag;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+
+    private static class Key {
+        final Path    path;
+        final int     depth;
+        final boolean includeFiles;
+
+        Key(Path path, int depth, boolean includeFiles) {
+            this.path = path;
+            this.depth = depth;
+            this.includeFiles = includeFiles;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)o;
+            return depth == other.depth && includeFiles == other.includeFiles && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, depth, includeFiles);
+        }
+    }
+}
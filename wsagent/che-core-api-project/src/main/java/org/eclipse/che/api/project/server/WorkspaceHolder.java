@@ -10,11 +10,15 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
 import org.eclipse.che.api.workspace.server.WorkspaceService;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigChangesDto;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,9 +28,12 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.ws.rs.core.UriBuilder;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.project.server.DtoConverter.asDto;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 /**
  * For caching and proxy-ing Workspace Configuration.
@@ -49,12 +56,20 @@ public class WorkspaceHolder extends WorkspaceProjectsSyncer {
     @Inject
     public WorkspaceHolder(@Named("che.api") String apiEndpoint,
                            HttpJsonRequestFactory httpJsonRequestFactory) throws ServerException {
+        this(apiEndpoint, httpJsonRequestFactory, System.getenv("CHE_WORKSPACE_ID"), System.getenv("USER_TOKEN"));
+    }
+
+    @VisibleForTesting
+    WorkspaceHolder(String apiEndpoint,
+                    HttpJsonRequestFactory httpJsonRequestFactory,
+                    String workspaceId,
+                    String userToken) throws ServerException {
 
         this.apiEndpoint = apiEndpoint;
         this.httpJsonRequestFactory = httpJsonRequestFactory;
 
-        this.workspaceId = System.getenv("CHE_WORKSPACE_ID");
-        this.userToken = System.getenv("USER_TOKEN");
+        this.workspaceId = workspaceId;
+        this.userToken = userToken;
 
         LOG.info("Workspace ID: " + workspaceId);
         LOG.info("API Endpoint: " + apiEndpoint);
@@ -142,6 +157,39 @@ public class WorkspaceHolder extends WorkspaceProjectsSyncer {
         }
     }
 
+    /**
+     * Applies all changes of projects on WS-master side with single request.
+     */
+    @Override
+    protected void applyChanges(List<ProjectConfig> added,
+                                List<ProjectConfig> updated,
+                                List<ProjectConfig> removed) throws ServerException {
+
+        final List<ProjectConfigDto> changed = new ArrayList<>(added.size() + updated.size());
+        for (ProjectConfig project : added) {
+            changed.add(asDto(project));
+        }
+        for (ProjectConfig project : updated) {
+            changed.add(asDto(project));
+        }
+        final List<String> removedPaths = removed.stream().map(ProjectConfig::getPath).collect(toList());
+
+        final UriBuilder builder = UriBuilder.fromUri(apiEndpoint).path(WorkspaceService.class)
+                                             .path(WorkspaceService.class, "updateProjects");
+        if(userToken != null)
+            builder.queryParam("token", userToken);
+        final String href = builder.build(workspaceId).toString();
+        try {
+            httpJsonRequestFactory.fromUrl(href)
+                                  .usePostMethod()
+                                  .setBody(newDto(ProjectConfigChangesDto.class).withUpdated(changed)
+                                                                                .withRemoved(removedPaths))
+                                  .request();
+        } catch (IOException | ApiException e) {
+            throw new ServerException(e.getMessage());
+        }
+    }
+
     /**
      * @return WorkspaceDto
      * @throws ServerException
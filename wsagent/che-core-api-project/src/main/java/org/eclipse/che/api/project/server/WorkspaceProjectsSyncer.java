@@ -10,11 +10,22 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
+import org.eclipse.che.api.core.model.project.SourceStorage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.MoreObjects.firstNonNull;
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static com.google.common.base.Strings.nullToEmpty;
+import static java.util.Collections.emptyMap;
 
 /**
  * Synchronizer for Project Configurations stored in Workspace Configuration with Agent's state
@@ -24,29 +35,33 @@ import java.util.List;
 public abstract class WorkspaceProjectsSyncer {
 
     /**
-     * Synchronizes Project Config state on Agent and Master
+     * Synchronizes Project Config state on Agent and Master.
+     * Only projects which configuration differs from the one stored in Workspace Config are sent to Master.
      * @param projectRegistry project registry
      * @throws ServerException
      */
     public final void sync(ProjectRegistry projectRegistry) throws ServerException {
 
-        List<? extends ProjectConfig> remote = getProjects();
+        final Map<String, ProjectConfig> remote = new HashMap<>();
+        for (ProjectConfig r : getProjects()) {
+            remote.put(r.getPath(), r);
+        }
 
         // check on removed
-        List <ProjectConfig> removed = new ArrayList<>();
-        for(ProjectConfig r  : remote) {
-            if(projectRegistry.getProject(r.getPath()) == null)
+        final List<ProjectConfig> removed = new ArrayList<>();
+        for (ProjectConfig r : remote.values()) {
+            if (projectRegistry.getProject(r.getPath()) == null) {
                 removed.add(r);
+            }
         }
 
-        for(ProjectConfig r : removed)
-            removeProject(r);
-
-
         // update or add
-        for(RegisteredProject project : projectRegistry.getProjects()) {
+        final List<ProjectConfig> added = new ArrayList<>();
+        final List<ProjectConfig> updated = new ArrayList<>();
+        final List<RegisteredProject> synced = new ArrayList<>();
+        for (RegisteredProject project : projectRegistry.getProjects()) {
 
-            if(!project.isSynced() && !project.isDetected()) {
+            if (!project.isSynced() && !project.isDetected()) {
 
                 final ProjectConfig config = new NewProjectConfigImpl(project.getPath(),
                                                                       project.getType(),
@@ -57,24 +72,72 @@ public abstract class WorkspaceProjectsSyncer {
                                                                       null,
                                                                       project.getSource());
 
-                boolean found = false;
-                for(ProjectConfig r  : remote) {
-                    if(r.getPath().equals(project.getPath())) {
-                        updateProject(config);
-                        found = true;
-                    }
+                final ProjectConfig r = remote.get(project.getPath());
+                if (r == null) {
+                    added.add(config);
+                } else if (!isSame(config, r)) {
+                    updated.add(config);
                 }
+                synced.add(project);
+            }
+        }
 
-                if(!found)
-                    addProject(config);
+        if (!removed.isEmpty() || !added.isEmpty() || !updated.isEmpty()) {
+            applyChanges(added, updated, removed);
+        }
 
-                project.setSync();
+        for (RegisteredProject project : synced) {
+            project.setSync();
+        }
+    }
 
-            }
+    /**
+     * Applies changes of projects to Workspace Config.
+     * Default implementation adds, updates and removes projects one by one, implementations
+     * should override it when Workspace Config may be updated with all changes at once.
+     * @param added projects to add
+     * @param updated projects to update
+     * @param removed projects to remove
+     * @throws ServerException
+     */
+    protected void applyChanges(List<ProjectConfig> added,
+                                List<ProjectConfig> updated,
+                                List<ProjectConfig> removed) throws ServerException {
+        for (ProjectConfig project : removed) {
+            removeProject(project);
+        }
+        for (ProjectConfig project : updated) {
+            updateProject(project);
+        }
+        for (ProjectConfig project : added) {
+            addProject(project);
+        }
+    }
 
+    /** Checks whether configuration of the project on Agent matches the one stored in Workspace Config. */
+    @VisibleForTesting
+    static boolean isSame(ProjectConfig local, ProjectConfig remote) {
+        return Objects.equals(local.getType(), remote.getType())
+               && Objects.equals(local.getName(), remote.getName())
+               && Objects.equals(nullToEmpty(local.getDescription()), nullToEmpty(remote.getDescription()))
+               && Objects.equals(local.getMixins(), remote.getMixins())
+               && Objects.equals(local.getAttributes(), remote.getAttributes())
+               && isSame(local.getSource(), remote.getSource());
+    }
 
+    private static boolean isSame(SourceStorage local, SourceStorage remote) {
+        if (local == null || remote == null) {
+            return isEmpty(local) && isEmpty(remote);
         }
+        return Objects.equals(local.getType(), remote.getType())
+               && Objects.equals(local.getLocation(), remote.getLocation())
+               && Objects.equals(firstNonNull(local.getParameters(), emptyMap()), firstNonNull(remote.getParameters(), emptyMap()));
+    }
 
+    private static boolean isEmpty(SourceStorage source) {
+        return source == null
+               || (isNullOrEmpty(source.getType()) && isNullOrEmpty(source.getLocation())
+                   && (source.getParameters() == null || source.getParameters().isEmpty()));
     }
 
     /**
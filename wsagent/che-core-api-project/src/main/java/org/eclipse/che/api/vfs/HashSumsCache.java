@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Keeps hash sums of files calculated by {@link ParallelHashSumsCounter}. Cached hash sum is returned only if size and modification
+ * date of file are the same as they were at the time of calculation, so the cache doesn't need to be invalidated when files are updated.
+ */
+public class HashSumsCache {
+    private final Cache<String, CachedHashSum> hashSums;
+
+    /**
+     * @param maxSize
+     *         max number of cached hash sums
+     */
+    public HashSumsCache(long maxSize) {
+        hashSums = CacheBuilder.newBuilder()
+                               .concurrencyLevel(8)
+                               .maximumSize(maxSize)
+                               .build();
+    }
+
+    /**
+     * Gets cached hash sum of file.
+     *
+     * @param path
+     *         absolute path of file
+     * @param length
+     *         actual size of file
+     * @param lastModified
+     *         actual modification date of file
+     * @return hash sum or {@code null} if there is no hash sum for this path or file was changed since hash sum was cached
+     */
+    public String get(String path, long length, long lastModified) {
+        final CachedHashSum cached = hashSums.getIfPresent(path);
+        if (cached == null || cached.length != length || cached.lastModified != lastModified) {
+            return null;
+        }
+        return cached.hashSum;
+    }
+
+    /**
+     * Puts hash sum of file in cache.
+     *
+     * @param path
+     *         absolute path of file
+     * @param length
+     *         size of file at the time hash sum was calculated
+     * @param lastModified
+     *         modification date of file at the time hash sum was calculated
+     * @param hashSum
+     *         hash sum of file
+     */
+    public void put(String path, long length, long lastModified, String hashSum) {
+        hashSums.put(path, new CachedHashSum(length, lastModified, hashSum));
+    }
+
+    public void invalidateAll() {
+        hashSums.invalidateAll();
+    }
+
+    private static final class CachedHashSum {
+        final long   length;
+        final long   lastModified;
+        final String hashSum;
+
+        CachedHashSum(long length, long lastModified, String hashSum) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.hashSum = hashSum;
+        }
+    }
+}
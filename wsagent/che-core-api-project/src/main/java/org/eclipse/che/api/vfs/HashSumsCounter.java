@@ -21,6 +21,7 @@ import org.eclipse.che.commons.lang.Pair;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.hash.Funnels.asOutputStream;
@@ -30,15 +31,14 @@ import static com.google.common.hash.Funnels.asOutputStream;
  * Algorithm specified by {@code hashFunction} is used for calculating hash sum.
  */
 public class HashSumsCounter implements VirtualFileVisitor {
-    private final VirtualFile                folder;
-    private final HashFunction               hashFunction;
-    private final List<Pair<String, String>> hashSums;
+    private final VirtualFile  folder;
+    private final HashFunction hashFunction;
 
+    private Consumer<Pair<String, String>> hashSumsConsumer;
 
     public HashSumsCounter(VirtualFile folder, HashFunction hashFunction) {
         this.folder = folder;
         this.hashFunction = hashFunction;
-        hashSums = newArrayList();
     }
 
     /**
@@ -50,10 +50,20 @@ public class HashSumsCounter implements VirtualFileVisitor {
      * </pre>
      */
     public List<Pair<String, String>> countHashSums() throws ServerException {
-        folder.accept(this);
+        final List<Pair<String, String>> hashSums = newArrayList();
+        countHashSums(hashSums::add);
         return hashSums;
     }
 
+    /**
+     * Passes hash sum of each file to {@code consumer} as soon as it is calculated, so hash sums of all files are never held in memory
+     * together. Structure of {@code Pair} is the same as for {@link #countHashSums()}.
+     */
+    public void countHashSums(Consumer<Pair<String, String>> consumer) throws ServerException {
+        hashSumsConsumer = consumer;
+        folder.accept(this);
+    }
+
     @Override
     public void visit(VirtualFile virtualFile) throws ServerException {
         if (virtualFile.isFile()) {
@@ -61,7 +71,7 @@ public class HashSumsCounter implements VirtualFileVisitor {
                 final Hasher hasher = hashFunction.newHasher();
                 ByteStreams.copy(in, asOutputStream(hasher));
                 final String hexHash = hasher.hash().toString();
-                hashSums.add(Pair.of(hexHash, virtualFile.getPath().subPath(folder.getPath()).toString()));
+                hashSumsConsumer.accept(Pair.of(hexHash, virtualFile.getPath().subPath(folder.getPath()).toString()));
             } catch (IOException e) {
                 throw new ServerException(e);
             } catch (ForbiddenException e) {
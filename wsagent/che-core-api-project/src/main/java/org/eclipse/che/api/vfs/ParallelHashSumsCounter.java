@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs;
+
+import com.google.common.hash.HashCode;
+
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.commons.lang.Pair;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import static java.nio.file.Files.readAttributes;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Traverses recursively all files in folder given in constructor and calculates hash sum for each file in parallel in the given fork-join
+ * pool. Content of files that are backed by {@link File} is read through file channel into buffer which is reused by pool thread, read
+ * lock of file is held while it is read. Hash sums of such files are cached in {@link HashSumsCache} by path, size and modification
+ * date, so repeated counting rehashes only changed files. Algorithm specified by name of {@link MessageDigest} algorithm is used for
+ * calculating hash sum.
+ *
+ * @see HashSumsCounter
+ */
+public class ParallelHashSumsCounter {
+    private static final int  READ_BUFFER_SIZE           = 64 * 1024; // 64k
+    /** Hash sums of recently modified files are not cached since following change of such file may leave its modification date the same. */
+    private static final long RACY_MODIFICATION_INTERVAL = 2000;
+    private static final long WAIT_FOR_FILE_LOCK_TIMEOUT = 60000; // 60 seconds
+
+    private static final ThreadLocal<ByteBuffer> READ_BUFFERS = ThreadLocal.withInitial(() -> ByteBuffer.allocate(READ_BUFFER_SIZE));
+
+    private final VirtualFile     folder;
+    private final String          algorithm;
+    private final HashSumsCache   cache;
+    private final ForkJoinPool    pool;
+    private final PathLockFactory lockFactory;
+
+    /**
+     * @param folder
+     *         folder to count hash sums of files in
+     * @param algorithm
+     *         name of {@link MessageDigest} algorithm, e.g. MD5
+     * @param cache
+     *         cache of hash sums calculated with the same algorithm
+     * @param pool
+     *         pool that runs counting, its parallelism limits number of files which are read at the same time
+     * @param lockFactory
+     *         factory of locks of virtual filesystem that files belong to, read lock of each file is acquired while it is read
+     * @throws IllegalArgumentException
+     *         if algorithm is not supported
+     */
+    public ParallelHashSumsCounter(VirtualFile folder,
+                                   String algorithm,
+                                   HashSumsCache cache,
+                                   ForkJoinPool pool,
+                                   PathLockFactory lockFactory) {
+        this.folder = folder;
+        this.algorithm = algorithm;
+        this.cache = cache;
+        this.pool = pool;
+        this.lockFactory = lockFactory;
+        newDigest();
+    }
+
+    /**
+     * Hash sums of files. Each {@code Pair} contains following structure:
+     * <pre>
+     *     Pair&lt;String,String&gt; pair = ...
+     *     pair.first // hash-sum of file represented as HEX String
+     *     pair.second // Path of file that is relative to folder given in constructor
+     * </pre>
+     */
+    public List<Pair<String, String>> countHashSums() throws ServerException {
+        final Queue<Pair<String, String>> hashSums = new ConcurrentLinkedQueue<>();
+        countHashSums(hashSums::add);
+        return new ArrayList<>(hashSums);
+    }
+
+    /**
+     * Passes hash sum of each file to {@code consumer} as soon as it is calculated, so hash sums of all files are never held in memory
+     * together. Structure of {@code Pair} is the same as for {@link #countHashSums()}. Consumer is called concurrently from threads of
+     * fork-join pool and must be thread-safe.
+     */
+    public void countHashSums(Consumer<Pair<String, String>> consumer) throws ServerException {
+        try {
+            pool.invoke(new CountHashSumsTask(folder, consumer));
+        } catch (RuntimeException e) {
+            // fork-join pool may wrap exception thrown in other thread
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ServerException) {
+                    throw (ServerException)cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    private String countHashSum(VirtualFile file) throws ServerException {
+        final File ioFile = file.toIoFile();
+        try {
+            if (ioFile == null) {
+                return countHashSum(file.getContent());
+            }
+            final java.nio.file.Path path = ioFile.toPath();
+            final BasicFileAttributes attributes = readAttributes(path, BasicFileAttributes.class);
+            final long length = attributes.size();
+            final long lastModified = attributes.lastModifiedTime().toMillis();
+            final String key = path.toString();
+
+            String hashSum = cache.get(key, length, lastModified);
+            if (hashSum == null) {
+                final PathLockFactory.PathLock lock = lockFactory.getLock(file.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
+                try {
+                    hashSum = countHashSum(path);
+                } finally {
+                    lock.release();
+                }
+                if (System.currentTimeMillis() - lastModified > RACY_MODIFICATION_INTERVAL) {
+                    cache.put(key, length, lastModified, hashSum);
+                }
+            }
+            return hashSum;
+        } catch (IOException e) {
+            throw new ServerException(e);
+        } catch (ForbiddenException e) {
+            throw new ServerException(e.getServiceError());
+        }
+    }
+
+    private String countHashSum(java.nio.file.Path path) throws IOException {
+        final MessageDigest digest = newDigest();
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            final ByteBuffer buffer = READ_BUFFERS.get();
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HashCode.fromBytes(digest.digest()).toString();
+    }
+
+    private String countHashSum(InputStream content) throws IOException {
+        final MessageDigest digest = newDigest();
+        final byte[] buffer = READ_BUFFERS.get().array();
+        try (InputStream in = content) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HashCode.fromBytes(digest.digest()).toString();
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private class CountHashSumsTask extends RecursiveAction {
+        private final VirtualFile                    virtualFile;
+        private final Consumer<Pair<String, String>> consumer;
+
+        CountHashSumsTask(VirtualFile virtualFile, Consumer<Pair<String, String>> consumer) {
+            this.virtualFile = virtualFile;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                if (virtualFile.isFile()) {
+                    consumer.accept(Pair.of(countHashSum(virtualFile), virtualFile.getPath().subPath(folder.getPath()).toString()));
+                } else {
+                    invokeAll(virtualFile.getChildren()
+                                         .stream()
+                                         .map(child -> new CountHashSumsTask(child, consumer))
+                                         .collect(toList()));
+                }
+            } catch (ServerException e) {
+                throw new HashSumsCountingException(e);
+            }
+        }
+    }
+
+    private static class HashSumsCountingException extends RuntimeException {
+        HashSumsCountingException(ServerException cause) {
+            super(cause);
+        }
+    }
+}
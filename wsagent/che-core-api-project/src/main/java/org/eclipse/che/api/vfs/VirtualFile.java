@@ -18,8 +18,10 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.commons.lang.Pair;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Item of Virtual Filesystem.
@@ -507,6 +509,19 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     InputStream zip() throws ForbiddenException, ServerException;
 
+    /**
+     * Writes content of folder denoted by this VirtualFile as zip archive to {@code zipOutput}. Unlike {@link #zip()} archive isn't
+     * buffered, it is written while folder is being traversed. {@code zipOutput} is not closed when archive is written.
+     *
+     * @param zipOutput
+     *         output for zip archive
+     * @throws ForbiddenException
+     *         if this item does not denote a folder
+     * @throws ServerException
+     *         if other error occurs
+     */
+    void zip(OutputStream zipOutput) throws ForbiddenException, ServerException;
+
     /**
      * Extracts zip archive to the folder denoted by this VirtualFile.
      *
@@ -540,6 +555,19 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     InputStream tar() throws ForbiddenException, ServerException;
 
+    /**
+     * Writes content of folder denoted by this VirtualFile as TAR archive to {@code tarOutput}. Unlike {@link #tar()} archive isn't
+     * buffered, it is written while folder is being traversed. {@code tarOutput} is not closed when archive is written.
+     *
+     * @param tarOutput
+     *         output for TAR archive
+     * @throws ForbiddenException
+     *         if this item does not denote a folder
+     * @throws ServerException
+     *         if other error occurs
+     */
+    void tar(OutputStream tarOutput) throws ForbiddenException, ServerException;
+
     /**
      * Extracts tar archive to the folder denoted by this VirtualFile.
      *
@@ -702,6 +730,16 @@ public interface VirtualFile extends Comparable<VirtualFile> {
      */
     List<Pair<String, String>> countMd5Sums() throws ServerException;
 
+    /**
+     * Traverses recursively all files in current folder and passes md5sum of each file to {@code consumer} as soon as it is counted.
+     * Structure of {@code Pair} is the same as for {@link #countMd5Sums()}. If this VirtualFile is not a folder {@code consumer} is not
+     * called. Consumer may be called concurrently from different threads, any order of calls is not guaranteed.
+     *
+     * @throws ServerException
+     *         if any error occurs
+     */
+    void countMd5Sums(Consumer<Pair<String, String>> consumer) throws ServerException;
+
     /**
      * Gets java.io.File if implementation uses java.io.File as backend.
      *
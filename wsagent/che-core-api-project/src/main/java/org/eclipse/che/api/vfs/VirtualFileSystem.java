@@ -13,6 +13,8 @@ package org.eclipse.che.api.vfs;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 
+import java.util.function.Consumer;
+
 /**
  * Attaches any point on backend filesystem some VirtualFile (root folder).
  * Only children of root folder may be accessible through this API.
@@ -36,6 +38,17 @@ public interface VirtualFileSystem {
      */
     SearcherProvider getSearcherProvider();
 
+    /**
+     * Registers listener that is notified with path of every item that is created, updated, moved or removed through this
+     * VirtualFileSystem. Listener is called synchronously, before the operation that changes item returns. Implementation
+     * that doesn't track changes ignores listener.
+     *
+     * @param listener
+     *         consumer of path of changed item
+     */
+    default void addChangeListener(Consumer<Path> listener) {
+    }
+
     /** Release used resources, e.g. clear caches, searcher index, etc */
     void close() throws ServerException;
 
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.api.core.ConflictException;
@@ -21,11 +22,18 @@ import org.eclipse.che.api.vfs.util.ZipContent;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Set;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 public class ZipArchiver extends Archiver {
+    /** Extensions of files which content is already compressed, such files are stored in archive without further compression. */
+    private static final Set<String> COMPRESSED_FILE_EXTENSIONS = ImmutableSet.of("zip", "jar", "war", "ear", "apk", "gz", "tgz", "bz2",
+                                                                                  "xz", "7z", "rar", "png", "jpg", "jpeg", "gif", "webp",
+                                                                                  "mp3", "mp4", "avi", "mov", "woff", "woff2");
+
     public ZipArchiver(VirtualFile folder) {
         super(folder);
     }
@@ -67,6 +75,8 @@ public class ZipArchiver extends Archiver {
     private void addZipEntry(VirtualFile virtualFile, ZipOutputStream zipOutputStream) throws ServerException {
         try {
             ZipEntry zipEntry = new ZipEntry(getZipEntryName(virtualFile));
+            // level applies to entries that are started after it is set
+            zipOutputStream.setLevel(isCompressed(virtualFile) ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
             zipOutputStream.putNextEntry(zipEntry);
             if (virtualFile.isFolder()) {
                 zipEntry.setTime(0);
@@ -84,6 +94,12 @@ public class ZipArchiver extends Archiver {
         }
     }
 
+    private boolean isCompressed(VirtualFile virtualFile) {
+        final String name = virtualFile.getName();
+        final int dot = name.lastIndexOf('.');
+        return virtualFile.isFile() && dot != -1 && COMPRESSED_FILE_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase());
+    }
+
     @Override
     public void extract(InputStream zipInput, boolean overwrite, int stripNumber)
             throws IOException, ForbiddenException, ConflictException, ServerException {
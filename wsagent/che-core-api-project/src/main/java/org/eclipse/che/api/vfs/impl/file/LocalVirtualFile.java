@@ -25,9 +25,11 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystem.MAX_BUFFER_SIZE;
 
@@ -59,7 +61,7 @@ public class LocalVirtualFile implements VirtualFile {
 
     @Override
     public boolean exists() {
-        return toIoFile().exists();
+        return fileSystem.getAttributes(this).exists;
     }
 
     @Override
@@ -69,12 +71,12 @@ public class LocalVirtualFile implements VirtualFile {
 
     @Override
     public boolean isFile() {
-        return toIoFile().isFile();
+        return fileSystem.getAttributes(this).isFile;
     }
 
     @Override
     public boolean isFolder() {
-        return toIoFile().isDirectory();
+        return fileSystem.getAttributes(this).isDirectory;
     }
 
     @Override
@@ -157,15 +159,16 @@ public class LocalVirtualFile implements VirtualFile {
 
     @Override
     public long getLastModificationDate() {
-        return toIoFile().lastModified();
+        return fileSystem.getAttributes(this).lastModified;
     }
 
     @Override
     public long getLength() throws ServerException {
-        if (isFolder()) {
+        final LocalVirtualFileSystem.FileAttributes attributes = fileSystem.getAttributes(this);
+        if (attributes.isDirectory) {
             return 0;
         }
-        return toIoFile().length();
+        return attributes.length;
     }
 
     @Override
@@ -246,6 +249,11 @@ public class LocalVirtualFile implements VirtualFile {
         return fileSystem.zip(this);
     }
 
+    @Override
+    public void zip(OutputStream zipOutput) throws ForbiddenException, ServerException {
+        fileSystem.zip(this, zipOutput);
+    }
+
     @Override
     public void unzip(InputStream zipped, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
@@ -257,6 +265,11 @@ public class LocalVirtualFile implements VirtualFile {
         return fileSystem.tar(this);
     }
 
+    @Override
+    public void tar(OutputStream tarOutput) throws ForbiddenException, ServerException {
+        fileSystem.tar(this, tarOutput);
+    }
+
     @Override
     public void untar(InputStream tarArchive, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
@@ -314,6 +327,11 @@ public class LocalVirtualFile implements VirtualFile {
         return fileSystem.countMd5Sums(this);
     }
 
+    @Override
+    public void countMd5Sums(Consumer<Pair<String, String>> consumer) throws ServerException {
+        fileSystem.countMd5Sums(this, consumer);
+    }
+
     @Override
     public File toIoFile() {
         return ioFile;
@@ -13,11 +13,15 @@ package org.eclipse.che.api.vfs.impl.file;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
@@ -25,8 +29,9 @@ import org.eclipse.che.api.core.util.FileCleaner;
 import org.eclipse.che.api.vfs.AbstractVirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.Archiver;
 import org.eclipse.che.api.vfs.ArchiverFactory;
-import org.eclipse.che.api.vfs.HashSumsCounter;
+import org.eclipse.che.api.vfs.HashSumsCache;
 import org.eclipse.che.api.vfs.LockedFileFinder;
+import org.eclipse.che.api.vfs.ParallelHashSumsCounter;
 import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.PathLockFactory;
 import org.eclipse.che.api.vfs.VirtualFile;
@@ -35,9 +40,11 @@ import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.api.vfs.util.DeleteOnCloseFileInputStream;
+import org.eclipse.che.api.vfs.util.FileChannelInputStream;
 import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.commons.lang.NameGenerator;
 import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,20 +59,37 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Lists.newArrayListWithCapacity;
 import static com.google.common.collect.Maps.newLinkedHashMap;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.vfs.VirtualFileFilters.dotGitFilter;
 import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
 
@@ -82,12 +106,21 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private static final long WAIT_FOR_FILE_LOCK_TIMEOUT = 60000; // 60 seconds
     private static final int  FILE_LOCK_MAX_THREADS      = 1024;
 
+    private static final int ATTRIBUTES_CACHE_SIZE            = 10000;
+    private static final int CHILDREN_CACHE_SIZE              = 2000;
+    private static final int FILE_SYSTEM_CACHE_EXPIRE_SECONDS = 2;
+    private static final int MD5_SUMS_CACHE_SIZE              = 50000;
+    /** Max number of files which content is read at the same time while counting md5 sums. */
+    private static final int MD5_SUMS_THREADS                 = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     private static final String   VFS_SERVICE_DIR        = ".vfs";
     private static final String   FILE_LOCKS_DIR         = VFS_SERVICE_DIR + File.separatorChar + "locks";
     private static final String   LOCK_FILE_SUFFIX       = "_lock";
     private static final FileLock NO_LOCK                = new FileLock("no_lock", 0);
     private static final String   FILE_PROPERTIES_DIR    = VFS_SERVICE_DIR + File.separatorChar + "props";
     private static final String   PROPERTIES_FILE_SUFFIX = "_props";
+    private static final String   MD5                    = "MD5";
+    private static final String   CONTENT_TEMP_DIR       = VFS_SERVICE_DIR + File.separatorChar + "tmp";
 
     private static final FilenameFilter DOT_VFS_DIR_FILTER = (dir, name) -> !(VFS_SERVICE_DIR.equals(name));
 
@@ -107,6 +140,93 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         }
     }
 
+    private class FileAttributesCacheLoader extends CacheLoader<Path, FileAttributes> {
+        @Override
+        public FileAttributes load(Path path) throws Exception {
+            // path is indexed before loading, so invalidation of its parent that happens meanwhile isn't missed
+            cachedAttributesPaths.add(path.toString());
+            try {
+                return new FileAttributes(java.nio.file.Files.readAttributes(new File(ioRoot, toIoPath(path)).toPath(),
+                                                                             BasicFileAttributes.class));
+            } catch (NoSuchFileException e) {
+                return FileAttributes.NOT_EXISTS;
+            } catch (Exception | Error e) {
+                // nothing is cached for the path
+                cachedAttributesPaths.remove(path.toString());
+                throw e;
+            }
+        }
+    }
+
+    private class ChildrenNamesCacheLoader extends CacheLoader<Path, String[]> {
+        @Override
+        public String[] load(Path path) throws Exception {
+            // path is indexed before loading, so invalidation of its parent that happens meanwhile isn't missed
+            cachedChildrenPaths.add(path.toString());
+            final String[] names;
+            try {
+                names = new File(ioRoot, toIoPath(path)).list(DOT_VFS_DIR_FILTER);
+            } catch (RuntimeException | Error e) {
+                cachedChildrenPaths.remove(path.toString());
+                throw e;
+            }
+            if (names == null) {
+                // nothing is cached for the path
+                cachedChildrenPaths.remove(path.toString());
+                throw new IOException(String.format("Unable get children of '%s'", path));
+            }
+            return names;
+        }
+    }
+
+    /**
+     * Removes path from index of cached paths when its entry is removed from cache. Expired entry is reported as removed after it is
+     * already reloaded, so path is kept in index while cache contains it.
+     */
+    private static class CachedPathsCleaner implements RemovalListener<Path, Object> {
+        private final Set<String> cachedPaths;
+        private       Map<Path, ?> cachedEntries;
+
+        CachedPathsCleaner(Set<String> cachedPaths) {
+            this.cachedPaths = cachedPaths;
+        }
+
+        void attachTo(LoadingCache<Path, ?> cache) {
+            cachedEntries = cache.asMap();
+        }
+
+        @Override
+        public void onRemoval(RemovalNotification<Path, Object> notification) {
+            final Path path = notification.getKey();
+            if (path != null && !cachedEntries.containsKey(path)) {
+                cachedPaths.remove(path.toString());
+            }
+        }
+    }
+
+    /** Attributes of file that are read with single call to underlying filesystem. */
+    static final class FileAttributes {
+        static final FileAttributes NOT_EXISTS = new FileAttributes(false, false, false, 0, 0);
+
+        final boolean exists;
+        final boolean isFile;
+        final boolean isDirectory;
+        final long    lastModified;
+        final long    length;
+
+        FileAttributes(BasicFileAttributes attributes) {
+            this(true, attributes.isRegularFile(), attributes.isDirectory(), attributes.lastModifiedTime().toMillis(), attributes.size());
+        }
+
+        private FileAttributes(boolean exists, boolean isFile, boolean isDirectory, long lastModified, long length) {
+            this.exists = exists;
+            this.isFile = isFile;
+            this.isDirectory = isDirectory;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+
     private class FilePropertiesCacheLoader extends CacheLoader<Path, Map<String, String>> {
         @Override
         public Map<String, String> load(Path path) throws Exception {
@@ -136,6 +256,23 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private final FileMetadataSerializer                  metadataSerializer;
     private final LoadingCache<Path, Map<String, String>> metadataCache;
 
+    private final LoadingCache<Path, FileAttributes> attributesCache;
+    private final LoadingCache<Path, String[]>       childrenNamesCache;
+    /**
+     * Sorted paths of entries of {@link #attributesCache} and {@link #childrenNamesCache}, so entries of all the descendants of folder
+     * are found by path prefix without scanning whole cache.
+     */
+    private final NavigableSet<String>               cachedAttributesPaths;
+    private final NavigableSet<String>               cachedChildrenPaths;
+
+    private final HashSumsCache md5SumsCache;
+    private final ForkJoinPool  md5SumsPool;
+
+    /** Paths of files which content is being read through streams returned by {@link #getContent(LocalVirtualFile)}. */
+    private final ConcurrentHashMultiset<Path> contentReaders = ConcurrentHashMultiset.create();
+
+    private final List<Consumer<Path>> changeListeners = new CopyOnWriteArrayList<>();
+
     @SuppressWarnings("unchecked")
     public LocalVirtualFileSystem(File ioRoot,
                                   ArchiverFactory archiverFactory,
@@ -162,6 +299,32 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                                     .maximumSize(256)
                                     .expireAfterAccess(10, MINUTES)
                                     .build(new FilePropertiesCacheLoader());
+
+        cachedAttributesPaths = new ConcurrentSkipListSet<>();
+        final CachedPathsCleaner attributesCleaner = new CachedPathsCleaner(cachedAttributesPaths);
+        attributesCache = CacheBuilder.newBuilder()
+                                      .concurrencyLevel(8)
+                                      .maximumSize(ATTRIBUTES_CACHE_SIZE)
+                                      .expireAfterWrite(FILE_SYSTEM_CACHE_EXPIRE_SECONDS, SECONDS)
+                                      .removalListener(attributesCleaner)
+                                      .build(new FileAttributesCacheLoader());
+        attributesCleaner.attachTo(attributesCache);
+        cachedChildrenPaths = new ConcurrentSkipListSet<>();
+        final CachedPathsCleaner childrenCleaner = new CachedPathsCleaner(cachedChildrenPaths);
+        childrenNamesCache = CacheBuilder.newBuilder()
+                                         .concurrencyLevel(8)
+                                         .maximumSize(CHILDREN_CACHE_SIZE)
+                                         .expireAfterWrite(FILE_SYSTEM_CACHE_EXPIRE_SECONDS, SECONDS)
+                                         .removalListener(childrenCleaner)
+                                         .build(new ChildrenNamesCacheLoader());
+        childrenCleaner.attachTo(childrenNamesCache);
+
+        md5SumsCache = new HashSumsCache(MD5_SUMS_CACHE_SIZE);
+        md5SumsPool = new ForkJoinPool(MD5_SUMS_THREADS, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("VfsMd5SumsCounter-" + thread.getPoolIndex());
+            return thread;
+        }, LoggingUncaughtExceptionHandler.getInstance(), false);
     }
 
     @Override
@@ -174,9 +337,18 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         return searcherProvider;
     }
 
+    @Override
+    public void addChangeListener(Consumer<Path> listener) {
+        changeListeners.add(listener);
+    }
+
     @Override
     public void close() throws ServerException {
         cleanUpCaches();
+        attributesCache.invalidateAll();
+        childrenNamesCache.invalidateAll();
+        md5SumsCache.invalidateAll();
+        md5SumsPool.shutdownNow();
         if (searcherProvider != null) {
             Searcher searcher = searcherProvider.getSearcher(this, false);
             if (searcher != null) {
@@ -210,6 +382,57 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         metadataCache.invalidateAll();
     }
 
+    /**
+     * Drops cached attributes and list of children of item with specified path and of its parent folder. Must be called after any change
+     * of the item on the filesystem. Changes made by this virtual filesystem are handled by itself, changes made by external tools are
+     * reported by {@link FileTreeWatcher} through {@link DefaultFileWatcherNotificationHandler}. Cached data also expires after
+     * few seconds, so changes that are not reported at all are eventually visible. Registered change listeners are notified as well.
+     *
+     * @param path
+     *         path of changed item
+     * @param recursive
+     *         if {@code true} cached data of all descendants of item is dropped as well, e.g. when folder is removed
+     */
+    void invalidateCaches(Path path, boolean recursive) {
+        attributesCache.invalidate(path);
+        childrenNamesCache.invalidate(path);
+        final Path parent = path.getParent();
+        if (parent != null) {
+            attributesCache.invalidate(parent);
+            childrenNamesCache.invalidate(parent);
+        }
+        if (recursive) {
+            invalidateDescendants(attributesCache, cachedAttributesPaths, path);
+            invalidateDescendants(childrenNamesCache, cachedChildrenPaths, path);
+        }
+        for (Consumer<Path> listener : changeListeners) {
+            listener.accept(path);
+        }
+    }
+
+    private static void invalidateDescendants(LoadingCache<Path, ?> cache, NavigableSet<String> cachedPaths, Path path) {
+        if (path.isRoot()) {
+            cache.invalidateAll();
+            return;
+        }
+        // Paths of descendants start with 'path/', '0' is the next character after '/', so they all are in range [path/, path0)
+        final String folder = path.toString();
+        final List<Path> descendants = cachedPaths.subSet(folder + '/', folder + '0')
+                                                  .stream()
+                                                  .map(Path::of)
+                                                  .collect(toList());
+        cache.invalidateAll(descendants);
+    }
+
+    FileAttributes getAttributes(LocalVirtualFile virtualFile) {
+        try {
+            return attributesCache.get(virtualFile.getPath());
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            LOG.debug("Unable read attributes of '{}': {}", virtualFile.getPath(), e.getCause().getMessage());
+            return FileAttributes.NOT_EXISTS;
+        }
+    }
+
     /** Used in tests. Need this to check state of PathLockFactory. All locks MUST be released at the end of request lifecycle. */
     PathLockFactory getPathLockFactory() {
         return pathLockFactory;
@@ -243,9 +466,14 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         return newArrayList(path.elements()).contains(".vfs");
     }
 
-    synchronized List<VirtualFile> getChildren(LocalVirtualFile parent, VirtualFileFilter filter) throws ServerException {
+    /**
+     * Lists children of folder. Method doesn't take any lock: listing of directory is atomic on the level of underlying filesystem and
+     * no state of this virtual filesystem is touched, so concurrent listings of the same or different folders, e.g. browsing of project
+     * tree and indexing, never wait for each other.
+     */
+    List<VirtualFile> getChildren(LocalVirtualFile parent, VirtualFileFilter filter) throws ServerException {
         if (parent.isFolder()) {
-            final List<VirtualFile> children = doGetChildren(parent, DOT_VFS_DIR_FILTER, filter);
+            final List<VirtualFile> children = doGetChildren(parent, filter);
             Collections.sort(children);
             return children;
         }
@@ -253,14 +481,11 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
 
-    private List<VirtualFile> doGetChildren(LocalVirtualFile parent, FilenameFilter ioFileFilter, VirtualFileFilter vfsFilter)
-            throws ServerException {
-        if (ioFileFilter == null) {
-            ioFileFilter = IoUtil.ANY_FILTER;
-        }
-
-        final String[] names = parent.toIoFile().list(ioFileFilter);
-        if (names == null) {
+    private List<VirtualFile> doGetChildren(LocalVirtualFile parent, VirtualFileFilter vfsFilter) throws ServerException {
+        final String[] names;
+        try {
+            names = childrenNamesCache.get(parent.getPath());
+        } catch (ExecutionException | UncheckedExecutionException e) {
             throw new ServerException(String.format("Unable get children of '%s'", parent.getPath()));
         }
 
@@ -303,6 +528,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                 throw new ServerException(errorMessage);
             }
 
+            invalidateCaches(newPath, false);
             final LocalVirtualFile newVirtualFile = new LocalVirtualFile(newIoFile, newPath, this);
 
             if (content != null) {
@@ -330,6 +556,10 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                     throw new ConflictException(String.format("Item '%s' already exists", newPath));
                 }
             }
+            // name may contain few segments, e.g. 'a/b/c', so all created folders need to be invalidated
+            for (Path createdPath = newPath; createdPath.isChild(parent.getPath()); createdPath = createdPath.getParent()) {
+                invalidateCaches(createdPath, false);
+            }
 
             return new LocalVirtualFile(newIoFile, newPath, this);
         } else {
@@ -386,6 +616,8 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             String errorMessage = String.format("Unable copy '%s' to '%s'", from, to);
             LOG.error(errorMessage + "\n" + e.getMessage(), e);
             throw new ServerException(errorMessage);
+        } finally {
+            invalidateCaches(to.getPath(), true);
         }
     }
 
@@ -491,21 +723,19 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     InputStream getContent(LocalVirtualFile virtualFile) throws ForbiddenException, ServerException {
         if (virtualFile.isFile()) {
             final PathLockFactory.PathLock lock = pathLockFactory.getLock(virtualFile.getPath(), false).acquire(WAIT_FOR_FILE_LOCK_TIMEOUT);
-            File spoolFile = null;
             try {
                 final File ioFile = virtualFile.toIoFile();
                 final long fileLength = ioFile.length();
                 if (fileLength <= MAX_BUFFER_SIZE) {
                     return new ByteArrayInputStream(Files.toByteArray(ioFile));
                 }
-                // Copy this file to be able release the file lock before leave this method.
-                spoolFile = File.createTempFile("spool_file", null);
-                Files.copy(ioFile, spoolFile);
-                return new DeleteOnCloseFileInputStream(spoolFile);
+                // Content is read after the file lock is released. While file has opened readers its content is replaced rather than
+                // overwritten by updates (see doUpdateContent), so readers keep consistent content.
+                final FileChannel channel = FileChannel.open(ioFile.toPath(), StandardOpenOption.READ);
+                final Path path = virtualFile.getPath();
+                contentReaders.add(path);
+                return new FileChannelInputStream(channel, () -> contentReaders.remove(path));
             } catch (IOException e) {
-                if (spoolFile != null) {
-                    FileCleaner.addFile(spoolFile);
-                }
                 String errorMessage = String.format("Unable get content of '%s'", virtualFile.getPath());
                 LOG.error(errorMessage + "\n" + e.getMessage(), e);
                 throw new ServerException(errorMessage);
@@ -538,12 +768,65 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
 
 
     private void doUpdateContent(LocalVirtualFile virtualFile, InputStream content) throws ServerException {
-        try (FileOutputStream fileOut = new FileOutputStream(virtualFile.toIoFile())) {
-            ByteStreams.copy(content, fileOut);
+        try {
+            if (contentReaders.count(virtualFile.getPath()) > 0 && !hasHardLinks(virtualFile.toIoFile())) {
+                replaceContent(virtualFile.toIoFile(), content);
+            } else {
+                try (FileOutputStream fileOut = new FileOutputStream(virtualFile.toIoFile())) {
+                    ByteStreams.copy(content, fileOut);
+                }
+            }
         } catch (IOException e) {
             String errorMessage = String.format("Unable set content of '%s'", virtualFile.getPath());
             LOG.error(errorMessage + "\n" + e.getMessage(), e);
             throw new ServerException(errorMessage);
+        } finally {
+            invalidateCaches(virtualFile.getPath(), false);
+        }
+    }
+
+    /**
+     * Writes new content to temporary file and moves it in place of {@code ioFile}, so opened readers of file keep old content.
+     *
+     * <p>Replaced file is a new file (new inode), so only its POSIX permissions are copied from the original one, while owner,
+     * ACLs and extended attributes of the original file are lost. Hard links to the original file would keep old content,
+     * that's why content of file that has hard links is never replaced but rewritten in place, see {@link #hasHardLinks(File)}.
+     * If temporary file can't be moved atomically, its content is copied in place of the original file.
+     */
+    private void replaceContent(File ioFile, InputStream content) throws IOException {
+        final File tempDir = new File(ioRoot, CONTENT_TEMP_DIR);
+        if (!(tempDir.exists() || tempDir.mkdirs())) {
+            throw new IOException(String.format("Unable create directory '%s'", tempDir));
+        }
+        final File tempFile = File.createTempFile("content_", null, tempDir);
+        try {
+            try (FileOutputStream fileOut = new FileOutputStream(tempFile)) {
+                ByteStreams.copy(content, fileOut);
+            }
+            try {
+                java.nio.file.Files.setPosixFilePermissions(tempFile.toPath(), java.nio.file.Files.getPosixFilePermissions(ioFile.toPath()));
+            } catch (UnsupportedOperationException ignored) {
+            }
+            try {
+                java.nio.file.Files.move(tempFile.toPath(), ioFile.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                // file is on another file store, readers may see the update
+                Files.copy(tempFile, ioFile);
+            }
+        } finally {
+            if (tempFile.exists() && !tempFile.delete()) {
+                FileCleaner.addFile(tempFile);
+            }
+        }
+    }
+
+    /** Checks whether file has more than one link, if file system doesn't tell number of links file is considered as having none. */
+    private static boolean hasHardLinks(File ioFile) {
+        try {
+            final Object links = java.nio.file.Files.getAttribute(ioFile.toPath(), "unix:nlink");
+            return links instanceof Integer && (Integer)links > 1;
+        } catch (UnsupportedOperationException | IllegalArgumentException | IOException e) {
+            return false;
         }
     }
 
@@ -589,7 +872,9 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             }
         }
 
-        if (!deleteRecursive(virtualFile.toIoFile())) {
+        final boolean deleted = deleteRecursive(virtualFile.toIoFile());
+        invalidateCaches(virtualFile.getPath(), true);
+        if (!deleted) {
             LOG.error("Unable delete file {}", virtualFile.toIoFile());
             throw new ServerException(String.format("Unable delete item '%s'", virtualFile.getPath()));
         }
@@ -608,6 +893,18 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
 
 
+    void zip(LocalVirtualFile folder, OutputStream zipOutput) throws ForbiddenException, ServerException {
+        if(archiverFactory == null)
+            throw new ServerException("VFS: Could not create zip archiver. Archiver Factory is not properly configured (is null)");
+
+        if (folder.isFolder()) {
+            compress(archiverFactory.createArchiver(folder, "zip"), zipOutput);
+        } else {
+            throw new ForbiddenException(String.format("Unable export to zip. Item '%s' is not a folder", folder.getPath()));
+        }
+    }
+
+
     void unzip(LocalVirtualFile parent, InputStream zipped, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
         if(archiverFactory == null)
@@ -633,6 +930,17 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         }
     }
 
+    void tar(LocalVirtualFile folder, OutputStream tarOutput) throws ForbiddenException, ServerException {
+        if(archiverFactory == null)
+            throw new ServerException("VFS: Could not create tar archiver. Archiver Factory is not properly configured (is null)");
+
+        if (folder.isFolder()) {
+            compress(archiverFactory.createArchiver(folder, "tar"), tarOutput);
+        } else {
+            throw new ForbiddenException(String.format("Unable export to tar archive. Item '%s' is not a folder", folder.getPath()));
+        }
+    }
+
     void untar(LocalVirtualFile parent, InputStream tarArchive, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
         if(archiverFactory == null)
@@ -662,6 +970,15 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         }
     }
 
+    private void compress(Archiver archiver, OutputStream output) throws ServerException {
+        try {
+            // output is owned by caller, e.g. it is entity stream of HTTP response, archiver closes stream it writes to
+            archiver.compress(new CloseShieldOutputStream(output), dotGitFilter());
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+    }
+
     private void extract(Archiver archiver, InputStream compressed, boolean overwrite, int stripNumber)
             throws ConflictException, ServerException, ForbiddenException {
         try {
@@ -878,6 +1195,7 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
             if (!virtualFile.toIoFile().setLastModified(System.currentTimeMillis())) {
                 LOG.warn("Unable to set timestamp to '{}'", virtualFile.toIoFile());
             }
+            invalidateCaches(virtualFile.getPath(), false);
         } catch (IOException e) {
             String errorMessage = String.format("Unable lock file '%s'", virtualFile.getPath());
             LOG.error(errorMessage + "\n" + e.getMessage(), e);
@@ -908,7 +1226,14 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         if (virtualFile.isFile()) {
             return emptyList();
         }
-        return new HashSumsCounter(virtualFile, Hashing.md5()).countHashSums();
+        return new ParallelHashSumsCounter(virtualFile, MD5, md5SumsCache, md5SumsPool, pathLockFactory).countHashSums();
+    }
+
+
+    void countMd5Sums(LocalVirtualFile virtualFile, Consumer<Pair<String, String>> consumer) throws ServerException {
+        if (virtualFile.isFolder()) {
+            new ParallelHashSumsCounter(virtualFile, MD5, md5SumsCache, md5SumsPool, pathLockFactory).countHashSums(consumer);
+        }
     }
 
 
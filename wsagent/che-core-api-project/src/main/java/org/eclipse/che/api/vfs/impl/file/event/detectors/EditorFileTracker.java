@@ -180,7 +180,8 @@ public class EditorFileTracker {
             hashRegistry.put(path + endpointId, newHash);
 
             FileStateUpdateDto params = newDto(FileStateUpdateDto.class).withPath(path).withType(MODIFIED).withHashCode(newHash);
-            transmitter.transmitOneToNone(endpointId, OUTGOING_METHOD, params);
+            // file may be modified many times in a row, e.g. by build, notification carries the current state of file only
+            transmitter.transmitIdempotentOneToNone(endpointId, OUTGOING_METHOD, params);
         };
     }
 
@@ -13,6 +13,7 @@ package org.eclipse.che.api.vfs.impl.memory;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
@@ -34,12 +35,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -228,6 +231,14 @@ public class MemoryVirtualFile implements VirtualFile {
         return new HashSumsCounter(this, Hashing.md5()).countHashSums();
     }
 
+    @Override
+    public void countMd5Sums(Consumer<Pair<String, String>> consumer) throws ServerException {
+        checkExistence();
+        if (isFolder()) {
+            new HashSumsCounter(this, Hashing.md5()).countHashSums(consumer);
+        }
+    }
+
     @Override
     public List<VirtualFile> getChildren(VirtualFileFilter filter) {
         checkExistence();
@@ -588,6 +599,17 @@ public class MemoryVirtualFile implements VirtualFile {
         }
     }
 
+    @Override
+    public void zip(OutputStream zipOutput) throws ForbiddenException, ServerException {
+        checkExistence();
+
+        if (isFolder()) {
+            compress(fileSystem.getArchiverFactory().createArchiver(this, "zip"), zipOutput);
+        } else {
+            throw new ForbiddenException(String.format("Unable export to zip. Item '%s' is not a folder", getPath()));
+        }
+    }
+
     @Override
     public void unzip(InputStream zipped, boolean overwrite, int stripNumber)
             throws ForbiddenException, ServerException, ConflictException {
@@ -612,6 +634,17 @@ public class MemoryVirtualFile implements VirtualFile {
         }
     }
 
+    @Override
+    public void tar(OutputStream tarOutput) throws ForbiddenException, ServerException {
+        checkExistence();
+
+        if (isFolder()) {
+            compress(fileSystem.getArchiverFactory().createArchiver(this, "tar"), tarOutput);
+        } else {
+            throw new ForbiddenException(String.format("Unable export to tar archive. Item '%s' is not a folder", getPath()));
+        }
+    }
+
     @Override
     public void untar(InputStream tarArchive, boolean overwrite, int stripNumber)
             throws ForbiddenException, ConflictException, ServerException {
@@ -635,6 +668,15 @@ public class MemoryVirtualFile implements VirtualFile {
         }
     }
 
+    private void compress(Archiver archiver, OutputStream output) throws ServerException {
+        try {
+            // output is owned by caller, archiver closes stream it writes to
+            archiver.compress(new CloseShieldOutputStream(output));
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+    }
+
     private void extract(Archiver archiver, InputStream compressed, boolean overwrite, int stripNumber)
             throws ConflictException, ServerException, ForbiddenException {
         try {
@@ -12,11 +12,13 @@ package org.eclipse.che.api.vfs.search;
 
 /** Container for parameters of query that executed by Searcher.*/
 public class QueryExpression {
-    private String name;
-    private String path;
-    private String text;
-    private int    skipCount;
-    private int    maxItems;
+    private String  name;
+    private String  path;
+    private String  text;
+    private int     skipCount;
+    private int     maxItems;
+    private boolean includePositions;
+    private String  cursor;
 
     /** Optional file path parameter. Only file with the specified path or children are included in result. */
     public String getPath() {
@@ -68,6 +70,33 @@ public class QueryExpression {
         return this;
     }
 
+    /**
+     * Optional opaque position in search result right after the last item of previous page. Searcher sets it in query expression for
+     * retrieving next page, see {@link SearchResult#getNextPageQueryExpression()}. When cursor is set next page is read directly from
+     * that position instead of skipping {@link #getSkipCount()} items, skip count is used only if cursor is expired.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    public QueryExpression setCursor(String cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+
+    /**
+     * If {@code true} then each item of search result contains line numbers, offsets and snippets of matches of {@link #getText()} in
+     * the file content.
+     */
+    public boolean isIncludePositions() {
+        return includePositions;
+    }
+
+    public QueryExpression setIncludePositions(boolean includePositions) {
+        this.includePositions = includePositions;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "QueryExpression{" +
@@ -76,6 +105,8 @@ public class QueryExpression {
                ", path='" + path + '\'' +
                ", skipCount=" + skipCount +
                ", maxItems=" + maxItems +
+               ", includePositions=" + includePositions +
+               ", cursor='" + cursor + '\'' +
                '}';
     }
 }
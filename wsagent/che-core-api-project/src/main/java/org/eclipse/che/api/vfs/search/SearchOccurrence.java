@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search;
+
+/**
+ * Single match of the search criteria in the content of file.
+ */
+public class SearchOccurrence {
+    private final int    lineNumber;
+    private final int    startOffset;
+    private final int    endOffset;
+    private final String phrase;
+    private final String lineContent;
+
+    public SearchOccurrence(int lineNumber, int startOffset, int endOffset, String phrase, String lineContent) {
+        this.lineNumber = lineNumber;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.phrase = phrase;
+        this.lineContent = lineContent;
+    }
+
+    /** Number of line with match, first line of file has number 1. */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /** Column at which match starts in the line, first column has number 0. */
+    public int getStartOffset() {
+        return startOffset;
+    }
+
+    /** Column at which match ends in the line, exclusive. */
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    /** Matched text. */
+    public String getPhrase() {
+        return phrase;
+    }
+
+    /** Snippet of the line with match. Long lines are truncated, so the snippet doesn't always start at the beginning of line. */
+    public String getLineContent() {
+        return lineContent;
+    }
+}
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.search.impl;
 
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.SingleInstanceLockFactory;
@@ -25,36 +27,72 @@ import java.io.IOException;
 import static org.eclipse.che.commons.lang.IoUtil.deleteRecursive;
 
 /**
- * Filesystem based LuceneSearcher which cleans index directory after call method {@link #close()}.
+ * Filesystem based LuceneSearcher. Non-persistent searcher cleans index directory after call method {@link #close()}. Persistent
+ * searcher keeps index directory, so index is reused and only synchronized with virtual filesystem when searcher is initialized
+ * next time.
  *
  * @author andrew00x
  */
 public class FSLuceneSearcher extends LuceneSearcher {
     private static final Logger LOG = LoggerFactory.getLogger(FSLuceneSearcher.class);
 
-    private final File indexDirectory;
+    private final File    indexDirectory;
+    private final boolean persistent;
 
     FSLuceneSearcher(File indexDirectory, VirtualFileFilter filter) {
         this(indexDirectory, filter, null);
     }
 
     FSLuceneSearcher(File indexDirectory, VirtualFileFilter filter, AbstractLuceneSearcherProvider.CloseCallback closeCallback) {
+        this(indexDirectory, filter, closeCallback, false);
+    }
+
+    FSLuceneSearcher(File indexDirectory,
+                     VirtualFileFilter filter,
+                     AbstractLuceneSearcherProvider.CloseCallback closeCallback,
+                     boolean persistent) {
         super(filter, closeCallback);
         this.indexDirectory = indexDirectory;
+        this.persistent = persistent;
+    }
+
+    public boolean isPersistent() {
+        return persistent;
     }
 
     @Override
     protected Directory makeDirectory() throws ServerException {
         try {
-            return FSDirectory.open(indexDirectory.toPath(), new SingleInstanceLockFactory());
+            Directory directory = FSDirectory.open(indexDirectory.toPath(), new SingleInstanceLockFactory());
+            if (persistent && !isIndexReadable(directory)) {
+                LOG.warn("Unable read index from directory '{}', index will be rebuilt", indexDirectory);
+                directory.close();
+                if (!deleteRecursive(indexDirectory)) {
+                    throw new ServerException(String.format("Unable clean index directory '%s'", indexDirectory));
+                }
+                directory = FSDirectory.open(indexDirectory.toPath(), new SingleInstanceLockFactory());
+            }
+            return directory;
         } catch (IOException e) {
             throw new ServerException(e);
         }
     }
 
+    private boolean isIndexReadable(Directory directory) {
+        try {
+            if (DirectoryReader.indexExists(directory)) {
+                SegmentInfos.readLatestCommit(directory);
+            }
+            return true;
+        } catch (IOException e) {
+            LOG.debug(e.getMessage(), e);
+            return false;
+        }
+    }
+
     @Override
     protected void afterClose() throws IOException {
-        if (!deleteRecursive(indexDirectory)) {
+        if (!persistent && !deleteRecursive(indexDirectory)) {
             LOG.warn("Unable delete index directory '{}', add it in FileCleaner", indexDirectory);
             FileCleaner.addFile(indexDirectory);
         }
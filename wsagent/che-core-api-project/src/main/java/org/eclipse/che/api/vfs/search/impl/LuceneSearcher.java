@@ -10,17 +10,26 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs.search.impl;
 
+import com.google.common.base.Throwables;
+import com.google.common.io.CharStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.Tokenizer;
 import org.apache.lucene.analysis.core.LowerCaseFilter;
 import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.MultiFields;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
@@ -31,21 +40,26 @@ import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherLifetimeManager;
 import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.IOUtils;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileFilters;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.search.MediaTypeFilter;
 import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchOccurrence;
 import org.eclipse.che.api.vfs.search.SearchResult;
 import org.eclipse.che.api.vfs.search.SearchResultEntry;
 import org.eclipse.che.api.vfs.search.Searcher;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,12 +67,29 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static java.util.Collections.emptyList;
 
 /**
  * Lucene based searcher.
@@ -66,17 +97,40 @@ import static com.google.common.collect.Lists.newArrayList;
  * @author andrew00x
  */
 public abstract class LuceneSearcher implements Searcher {
-    private static final Logger LOG          = LoggerFactory.getLogger(LuceneSearcher.class);
-    private static final int    RESULT_LIMIT = 1000;
-    private static final String PATH_FIELD   = "path";
-    private static final String NAME_FIELD   = "name";
-    private static final String TEXT_FIELD   = "text";
+    private static final Logger LOG            = LoggerFactory.getLogger(LuceneSearcher.class);
+    private static final int    RESULT_LIMIT   = 1000;
+    private static final String PATH_FIELD     = "path";
+    private static final String NAME_FIELD     = "name";
+    private static final String TEXT_FIELD     = "text";
+    private static final String MODIFIED_FIELD = "modified";
+    private static final String LENGTH_FIELD   = "length";
+    private static final String TRIGRAM_FIELD  = "trigram";
+    private static final String FORMAT_FIELD   = "format";
+    /** Version of document structure. Documents created with other version are re-indexed when index is reconciled. */
+    private static final int    INDEX_FORMAT   = 1;
+
+    private static final int INDEXING_QUEUE_SIZE   = 1000;
+    private static final int COMMIT_BATCH_SIZE     = 10000;
+    /** How long point-in-time view of index referenced by cursor of next page is kept. */
+    private static final int CURSOR_TTL_SECONDS    = 300;
+    /** Page size of search with positions when it isn't set in query, each file of page is read to find occurrences. */
+    private static final int OCCURRENCES_PAGE_SIZE = 100;
+    /**
+     * Content of files up to this length is read into memory once and shared by text and trigram fields,
+     * content of larger files is streamed to each field separately to bound memory used by parallel indexing.
+     */
+    private static final long MAX_BUFFERED_CONTENT_LENGTH = 1024 * 1024;
+
+    private static final Set<String> STAMP_FIELDS = newHashSet(PATH_FIELD, MODIFIED_FIELD, LENGTH_FIELD, FORMAT_FIELD);
 
     private final List<VirtualFileFilter>                      excludeFileIndexFilters;
     private final AbstractLuceneSearcherProvider.CloseCallback closeCallback;
 
-    private IndexWriter     luceneIndexWriter;
-    private SearcherManager searcherManager;
+    private IndexWriter             luceneIndexWriter;
+    private SearcherManager         searcherManager;
+    private SearcherLifetimeManager searcherLifetimeManager;
+    private VirtualFileSystem       virtualFileSystem;
+    private ExecutorService         indexingExecutor;
 
     private boolean closed = true;
 
@@ -109,11 +163,19 @@ public abstract class LuceneSearcher implements Searcher {
         return excludeFileIndexFilters.remove(indexFilter);
     }
 
+    /**
+     * Creates analyzer for all fields of document. Field with file content that is used for substring and regular expression searches is
+     * split in overlapping trigrams, other fields are split by whitespaces.
+     *
+     * @see TrigramQueryPlanner
+     */
     protected Analyzer makeAnalyzer() {
         return new Analyzer() {
             @Override
             protected TokenStreamComponents createComponents(String fieldName) {
-                Tokenizer tokenizer = new WhitespaceTokenizer();
+                Tokenizer tokenizer = TRIGRAM_FIELD.equals(fieldName)
+                                      ? new NGramTokenizer(TrigramQueryPlanner.GRAM_SIZE, TrigramQueryPlanner.GRAM_SIZE)
+                                      : new WhitespaceTokenizer();
                 TokenStream filter = new LowerCaseFilter(tokenizer);
                 return new TokenStreamComponents(tokenizer, filter);
             }
@@ -123,24 +185,28 @@ public abstract class LuceneSearcher implements Searcher {
     protected abstract Directory makeDirectory() throws ServerException;
 
     /**
-     * Init lucene index. Need call this method if index directory is clean. Scan all files in virtual filesystem and add to index.
+     * Init lucene index. Scan all files in virtual filesystem and synchronize index with them. If index directory is clean all files
+     * are added to index, otherwise only files that were added, modified or removed since index was last updated are processed.
      *
      * @param virtualFileSystem
      *         VirtualFileSystem
      * @throws ServerException
      *         if any virtual filesystem error occurs
+     * @see #reconcile(VirtualFile)
      */
     public void init(VirtualFileSystem virtualFileSystem) throws ServerException {
+        this.virtualFileSystem = virtualFileSystem;
         doInit();
-        addTree(virtualFileSystem.getRoot());
+        reconcile(virtualFileSystem.getRoot());
     }
 
     public void initAsynchronously(ExecutorService executor, VirtualFileSystem virtualFileSystem) throws ServerException {
+        this.virtualFileSystem = virtualFileSystem;
         doInit();
         if (!executor.isShutdown()) {
             executor.execute(() -> {
                 try {
-                    LuceneSearcher.this.addTree(virtualFileSystem.getRoot());
+                    LuceneSearcher.this.reconcile(virtualFileSystem.getRoot());
                 } catch (ServerException e) {
                     LOG.error(e.getMessage());
                 }
@@ -152,6 +218,14 @@ public abstract class LuceneSearcher implements Searcher {
         try {
             luceneIndexWriter = new IndexWriter(makeDirectory(), new IndexWriterConfig(makeAnalyzer()));
             searcherManager = new SearcherManager(luceneIndexWriter, true, new SearcherFactory());
+            searcherLifetimeManager = new SearcherLifetimeManager();
+            indexingExecutor = Executors.newFixedThreadPool(Math.max(1, getIndexingThreads()),
+                                                            new ThreadFactoryBuilder()
+                                                                    .setDaemon(true)
+                                                                    .setUncaughtExceptionHandler(
+                                                                            LoggingUncaughtExceptionHandler.getInstance())
+                                                                    .setNameFormat("LuceneIndexerThread-%d")
+                                                                    .build());
             closed = false;
         } catch (IOException e) {
             throw new ServerException(e);
@@ -160,8 +234,10 @@ public abstract class LuceneSearcher implements Searcher {
 
     public final synchronized void close() {
         if (!closed) {
+            // Workers which haven't started yet are cancelled, so nobody waits for them
+            indexingExecutor.shutdownNow().forEach(worker -> ((Future<?>)worker).cancel(false));
             try {
-                IOUtils.close(getIndexWriter(), getIndexWriter().getDirectory(), searcherManager);
+                IOUtils.close(getIndexWriter(), getIndexWriter().getDirectory(), searcherManager, searcherLifetimeManager);
                 afterClose();
             } catch (IOException e) {
                 LOG.error(e.getMessage(), e);
@@ -190,26 +266,44 @@ public abstract class LuceneSearcher implements Searcher {
         IndexSearcher luceneSearcher = null;
         try {
             final long startTime = System.currentTimeMillis();
-            searcherManager.maybeRefresh();
-            luceneSearcher = searcherManager.acquire();
+            searcherLifetimeManager.prune(new SearcherLifetimeManager.PruneByAge(CURSOR_TTL_SECONDS));
 
             Query luceneQuery = createLuceneQuery(query);
 
             ScoreDoc after = null;
+            final SearchCursor cursor = SearchCursor.parse(query.getCursor());
+            if (cursor != null) {
+                luceneSearcher = searcherLifetimeManager.acquire(cursor.getSearcherVersion());
+                if (luceneSearcher != null) {
+                    after = cursor.getLastScoreDoc();
+                }
+            }
             final int numSkipDocs = Math.max(0, query.getSkipCount());
-            if (numSkipDocs > 0) {
-                after = skipScoreDocs(luceneSearcher, luceneQuery, numSkipDocs);
+            if (luceneSearcher == null) {
+                searcherManager.maybeRefresh();
+                luceneSearcher = searcherManager.acquire();
+                if (numSkipDocs > 0) {
+                    after = skipScoreDocs(luceneSearcher, luceneQuery, numSkipDocs);
+                }
             }
 
-            final int numDocs = query.getMaxItems() > 0 ? Math.min(query.getMaxItems(), RESULT_LIMIT) : RESULT_LIMIT;
+            final SearchOccurrenceFinder occurrenceFinder = query.isIncludePositions() && query.getText() != null
+                                                            ? SearchOccurrenceFinder.forQuery(query.getText(), TEXT_FIELD)
+                                                            : null;
+            final int defaultPageSize = occurrenceFinder == null ? RESULT_LIMIT : OCCURRENCES_PAGE_SIZE;
+            final int numDocs = query.getMaxItems() > 0 ? Math.min(query.getMaxItems(), RESULT_LIMIT) : defaultPageSize;
             TopDocs topDocs = luceneSearcher.searchAfter(after, luceneQuery, numDocs);
             final int totalHitsNum = topDocs.totalHits;
 
             List<SearchResultEntry> results = newArrayList();
             for (int i = 0; i < topDocs.scoreDocs.length; i++) {
                 ScoreDoc scoreDoc = topDocs.scoreDocs[i];
-                String filePath = luceneSearcher.doc(scoreDoc.doc).getField(PATH_FIELD).stringValue();
-                results.add(new SearchResultEntry(filePath));
+                String filePath = luceneSearcher.doc(scoreDoc.doc, STAMP_FIELDS).getField(PATH_FIELD).stringValue();
+                if (occurrenceFinder == null) {
+                    results.add(new SearchResultEntry(filePath));
+                } else {
+                    results.add(new SearchResultEntry(filePath, findOccurrences(occurrenceFinder, filePath)));
+                }
             }
 
             final long elapsedTimeMillis = System.currentTimeMillis() - startTime;
@@ -217,7 +311,12 @@ public abstract class LuceneSearcher implements Searcher {
             boolean hasMoreToRetrieve = numSkipDocs + topDocs.scoreDocs.length + 1 < totalHitsNum;
             QueryExpression nextPageQueryExpression = null;
             if (hasMoreToRetrieve) {
-                nextPageQueryExpression = createNextPageQuery(query, numSkipDocs + topDocs.scoreDocs.length);
+                // Keep this searcher for a while, so next page is read from the same point in time right after the last hit
+                final long searcherVersion = searcherLifetimeManager.record(luceneSearcher);
+                final ScoreDoc lastScoreDoc = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+                nextPageQueryExpression = createNextPageQuery(query,
+                                                              numSkipDocs + topDocs.scoreDocs.length,
+                                                              new SearchCursor(searcherVersion, lastScoreDoc).toString());
             }
 
             return SearchResult.aSearchResult()
@@ -229,15 +328,33 @@ public abstract class LuceneSearcher implements Searcher {
         } catch (IOException | ParseException e) {
             throw new ServerException(e.getMessage(), e);
         } finally {
-            try {
-                searcherManager.release(luceneSearcher);
-            } catch (IOException e) {
-                LOG.error(e.getMessage());
+            if (luceneSearcher != null) {
+                try {
+                    searcherManager.release(luceneSearcher);
+                } catch (IOException e) {
+                    LOG.error(e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** Finds occurrences in the file, file which can't be read is returned without occurrences, so it doesn't fail whole search. */
+    private List<SearchOccurrence> findOccurrences(SearchOccurrenceFinder occurrenceFinder, String filePath) {
+        try {
+            final VirtualFile file = virtualFileSystem == null ? null : virtualFileSystem.getRoot().getChild(Path.of(filePath));
+            if (file == null || !file.isFile()) {
+                return emptyList();
+            }
+            try (Reader contentReader = new BufferedReader(new InputStreamReader(file.getContent()))) {
+                return occurrenceFinder.find(contentReader);
             }
+        } catch (IOException | ServerException | ForbiddenException e) {
+            LOG.warn("Unable to find occurrences in file {}. Cause: {}", filePath, e.getMessage());
+            return emptyList();
         }
     }
 
-    private Query createLuceneQuery(QueryExpression query) throws ParseException {
+    private Query createLuceneQuery(QueryExpression query) throws ParseException, IOException {
         final BooleanQuery luceneQuery = new BooleanQuery();
         final String name = query.getName();
         final String path = query.getPath();
@@ -251,9 +368,19 @@ public abstract class LuceneSearcher implements Searcher {
             luceneQuery.add(qParser.parse(name), BooleanClause.Occur.MUST);
         }
         if (text != null) {
-            QueryParser qParser = new QueryParser(TEXT_FIELD, makeAnalyzer());
-            qParser.setAllowLeadingWildcard(true);
-            luceneQuery.add(qParser.parse(text), BooleanClause.Occur.MUST);
+            final TrigramQueryPlanner planner = new TrigramQueryPlanner(TRIGRAM_FIELD, makeAnalyzer());
+            final Query substringQuery = planner.planSubstring(text);
+            if (substringQuery != null) {
+                luceneQuery.add(substringQuery, BooleanClause.Occur.MUST);
+            } else {
+                QueryParser qParser = new QueryParser(TEXT_FIELD, makeAnalyzer());
+                qParser.setAllowLeadingWildcard(true);
+                luceneQuery.add(qParser.parse(text), BooleanClause.Occur.MUST);
+                final Query regexpPrefilter = planner.planRegexpPrefilter(text);
+                if (regexpPrefilter != null) {
+                    luceneQuery.add(regexpPrefilter, BooleanClause.Occur.MUST);
+                }
+            }
         }
         return luceneQuery;
     }
@@ -279,12 +406,14 @@ public abstract class LuceneSearcher implements Searcher {
         return scoreDoc;
     }
 
-    private QueryExpression createNextPageQuery(QueryExpression originalQuery, int newSkipCount) {
+    private QueryExpression createNextPageQuery(QueryExpression originalQuery, int newSkipCount, String cursor) {
         return new QueryExpression().setText(originalQuery.getText())
                                     .setName(originalQuery.getName())
                                     .setPath(originalQuery.getPath())
                                     .setSkipCount(newSkipCount)
-                                    .setMaxItems(originalQuery.getMaxItems());
+                                    .setCursor(cursor)
+                                    .setMaxItems(originalQuery.getMaxItems())
+                                    .setIncludePositions(originalQuery.isIncludePositions());
     }
 
     @Override
@@ -302,24 +431,196 @@ public abstract class LuceneSearcher implements Searcher {
 
     protected void addTree(VirtualFile tree) throws ServerException {
         final long start = System.currentTimeMillis();
-        final LinkedList<VirtualFile> q = new LinkedList<>();
-        q.add(tree);
-        int indexedFiles = 0;
-        while (!q.isEmpty()) {
-            final VirtualFile folder = q.pop();
-            if (folder.exists()) {
-                for (VirtualFile child : folder.getChildren()) {
-                    if (child.isFolder()) {
-                        q.push(child);
-                    } else {
-                        addFile(child);
-                        indexedFiles++;
+        final int indexedFiles = indexTree(tree, new HashMap<>());
+        final long end = System.currentTimeMillis();
+        LOG.debug("Indexed {} files from {}, time: {} ms", indexedFiles, tree.getPath(), (end - start));
+    }
+
+    /**
+     * Synchronizes index with the files under the {@code root} folder. Each indexed document is stamped with modification date and
+     * length of the file, see {@link #createDocument(VirtualFile, Reader)}. File is (re)indexed if there is no document for it or if
+     * its stamp does not match, documents of files that do not exist any more are removed from index.
+     */
+    protected void reconcile(VirtualFile root) throws ServerException {
+        final long start = System.currentTimeMillis();
+        final Map<String, long[]> indexedStamps;
+        try {
+            indexedStamps = readIndexedStamps();
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+        final int indexedFiles = indexTree(root, indexedStamps);
+        try {
+            for (String removedPath : indexedStamps.keySet()) {
+                getIndexWriter().deleteDocuments(new Term(PATH_FIELD, removedPath));
+            }
+            getIndexWriter().commit();
+        } catch (OutOfMemoryError oome) {
+            close();
+            throw oome;
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        }
+        final long end = System.currentTimeMillis();
+        LOG.debug("Reconciled index with {}, indexed {} files, removed {} files, time: {} ms",
+                  root.getPath(), indexedFiles, indexedStamps.size(), (end - start));
+    }
+
+    /**
+     * Number of threads that read and index files when whole tree of files is added to index.
+     * By default it is equal to number of available processors. Threads are created once, when searcher is initialized,
+     * and are shared by all the trees which are indexed.
+     */
+    protected int getIndexingThreads() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Indexes files under the {@code tree} folder. Current thread walks the tree and passes files to the bounded queue, files are taken
+     * from the queue, read and added to index by {@link #getIndexingThreads()} worker threads. Changes are committed after each
+     * {@link #COMMIT_BATCH_SIZE} indexed files. Workers are run by the executor of this searcher which is shut down when searcher is
+     * closed.
+     *
+     * @param tree
+     *         root of the tree of files
+     * @param indexedStamps
+     *         stamps of files that are already in index, see {@link #readIndexedStamps()}. Files whose stamp matches are skipped.
+     *         Entries of all found files are removed from this map, so after the call it contains only files that don't exist any more.
+     * @return number of indexed files
+     */
+    private int indexTree(VirtualFile tree, Map<String, long[]> indexedStamps) throws ServerException {
+        final int threads = Math.max(1, getIndexingThreads());
+        final BlockingQueue<Optional<VirtualFile>> queue = new ArrayBlockingQueue<>(INDEXING_QUEUE_SIZE);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicInteger indexedFiles = new AtomicInteger();
+        final List<Future<?>> workers = new ArrayList<>(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                workers.add(indexingExecutor.submit(() -> indexQueuedFiles(queue, failure, indexedFiles)));
+            }
+        } catch (RejectedExecutionException e) {
+            stopIndexingWorkers(workers, queue);
+            throw new ServerException("Indexing of " + tree.getPath() + " was rejected, searcher is closed");
+        }
+
+        try {
+            final LinkedList<VirtualFile> q = new LinkedList<>();
+            q.add(tree);
+            while (!q.isEmpty() && failure.get() == null) {
+                final VirtualFile folder = q.pop();
+                if (folder.exists()) {
+                    for (VirtualFile child : folder.getChildren()) {
+                        if (child.isFolder()) {
+                            q.push(child);
+                        } else {
+                            final long[] stamp = indexedStamps.remove(child.getPath().toString());
+                            if (stamp == null || stamp[0] != child.getLastModificationDate() || stamp[1] != child.getLength()) {
+                                enqueue(queue, Optional.of(child));
+                            }
+                        }
                     }
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Indexing of " + tree.getPath() + " was interrupted");
+        } finally {
+            stopIndexingWorkers(workers, queue);
         }
-        final long end = System.currentTimeMillis();
-        LOG.debug("Indexed {} files from {}, time: {} ms", indexedFiles, tree.getPath(), (end - start));
+
+        final Throwable error = failure.get();
+        if (error != null) {
+            Throwables.propagateIfPossible(error, ServerException.class);
+            throw new ServerException(error.getMessage(), error);
+        }
+        return indexedFiles.get();
+    }
+
+    private void indexQueuedFiles(BlockingQueue<Optional<VirtualFile>> queue, AtomicReference<Throwable> failure, AtomicInteger indexedFiles) {
+        try {
+            Optional<VirtualFile> file;
+            while ((file = queue.take()).isPresent()) {
+                if (failure.get() != null) {
+                    // Keep draining queue so walker is never blocked, walker stops as soon as it sees failure
+                    continue;
+                }
+                try {
+                    addFile(file.get());
+                    if (indexedFiles.incrementAndGet() % COMMIT_BATCH_SIZE == 0) {
+                        getIndexWriter().commit();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Puts element to the indexing queue, fails if searcher is closed while queue is full, since there is nobody to take it. */
+    private void enqueue(BlockingQueue<Optional<VirtualFile>> queue, Optional<VirtualFile> element) throws InterruptedException,
+                                                                                                          ServerException {
+        while (!queue.offer(element, 1, TimeUnit.SECONDS)) {
+            if (indexingExecutor.isShutdown()) {
+                throw new ServerException("Searcher is closed");
+            }
+        }
+    }
+
+    /** Sends end-of-queue marker to each worker and waits for them. Workers are cancelled if current thread is interrupted. */
+    private void stopIndexingWorkers(List<Future<?>> workers, BlockingQueue<Optional<VirtualFile>> queue) {
+        try {
+            for (int i = 0; i < workers.size(); i++) {
+                enqueue(queue, Optional.empty());
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.forEach(worker -> worker.cancel(true));
+        } catch (ServerException | CancellationException e) {
+            // searcher is closed, workers are stopped by shutting down of executor
+            workers.forEach(worker -> worker.cancel(true));
+        } catch (ExecutionException e) {
+            // workers catch all the errors of indexing themselves
+            LOG.error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads paths of all indexed files together with their stamps. Stamp is array of modification date and length or {@code null} if
+     * document has no stamp or has different format, e.g. it was created by previous version of searcher.
+     */
+    private Map<String, long[]> readIndexedStamps() throws IOException {
+        final Map<String, long[]> stamps = new HashMap<>();
+        searcherManager.maybeRefresh();
+        final IndexSearcher luceneSearcher = searcherManager.acquire();
+        try {
+            final IndexReader reader = luceneSearcher.getIndexReader();
+            final Bits liveDocs = MultiFields.getLiveDocs(reader);
+            for (int i = 0; i < reader.maxDoc(); i++) {
+                if (liveDocs != null && !liveDocs.get(i)) {
+                    continue;
+                }
+                final Document doc = reader.document(i, STAMP_FIELDS);
+                final IndexableField path = doc.getField(PATH_FIELD);
+                if (path != null) {
+                    final IndexableField modified = doc.getField(MODIFIED_FIELD);
+                    final IndexableField length = doc.getField(LENGTH_FIELD);
+                    final IndexableField format = doc.getField(FORMAT_FIELD);
+                    final boolean stamped = modified != null && length != null
+                                            && format != null && format.numericValue().intValue() == INDEX_FORMAT;
+                    stamps.put(path.stringValue(), stamped
+                                                   ? new long[]{modified.numericValue().longValue(), length.numericValue().longValue()}
+                                                   : null);
+                }
+            }
+        } finally {
+            searcherManager.release(luceneSearcher);
+        }
+        return stamps;
     }
 
     protected void addFile(VirtualFile virtualFile) throws ServerException {
@@ -382,8 +683,25 @@ public abstract class LuceneSearcher implements Searcher {
         final Document doc = new Document();
         doc.add(new StringField(PATH_FIELD, virtualFile.getPath().toString(), Field.Store.YES));
         doc.add(new TextField(NAME_FIELD, virtualFile.getName(), Field.Store.YES));
+        doc.add(new StoredField(MODIFIED_FIELD, virtualFile.getLastModificationDate()));
+        doc.add(new StoredField(LENGTH_FIELD, virtualFile.getLength()));
+        doc.add(new StoredField(FORMAT_FIELD, INDEX_FORMAT));
         if (reader != null) {
-            doc.add(new TextField(TEXT_FIELD, reader));
+            if (virtualFile.getLength() <= MAX_BUFFERED_CONTENT_LENGTH) {
+                // Content is read once and both text and trigram fields are built from it
+                final String content;
+                try {
+                    content = CharStreams.toString(reader);
+                } catch (IOException e) {
+                    throw new ServerException(e.getMessage(), e);
+                }
+                doc.add(new TextField(TEXT_FIELD, content, Field.Store.NO));
+                doc.add(new TextField(TRIGRAM_FIELD, content, Field.Store.NO));
+            } else {
+                // Large content is streamed to each field, so indexing workers never hold it in memory
+                doc.add(new TextField(TEXT_FIELD, reader));
+                doc.add(new TextField(TRIGRAM_FIELD, new LazyContentReader(virtualFile)));
+            }
         }
         return doc;
     }
@@ -396,4 +714,37 @@ public abstract class LuceneSearcher implements Searcher {
         }
         return true;
     }
+
+    /**
+     * Opens content of file on the first read, so the file isn't opened if the field is never consumed.
+     * Reader is closed by the tokenizer of field when the field is indexed.
+     */
+    private static class LazyContentReader extends Reader {
+        private final VirtualFile virtualFile;
+
+        private Reader content;
+
+        LazyContentReader(VirtualFile virtualFile) {
+            this.virtualFile = virtualFile;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (content == null) {
+                try {
+                    content = new BufferedReader(new InputStreamReader(virtualFile.getContent()));
+                } catch (ForbiddenException | ServerException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+            return content.read(buffer, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+        }
+    }
 }
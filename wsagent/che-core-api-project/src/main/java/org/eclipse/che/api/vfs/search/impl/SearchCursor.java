@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Position in search result that is used for paging. Cursor refers to the version of index searcher that produced previous page and
+ * to the last hit of that page, so next page is retrieved with single {@code searchAfter} call over the same point-in-time view of index.
+ * String form of cursor is opaque for clients.
+ *
+ * @see LuceneSearcher
+ * @see org.apache.lucene.search.SearcherLifetimeManager
+ */
+final class SearchCursor {
+    private static final char SEPARATOR = '.';
+
+    private final long     searcherVersion;
+    private final ScoreDoc lastScoreDoc;
+
+    SearchCursor(long searcherVersion, ScoreDoc lastScoreDoc) {
+        this.searcherVersion = searcherVersion;
+        this.lastScoreDoc = lastScoreDoc;
+    }
+
+    /**
+     * Parses string form of cursor.
+     *
+     * @return cursor or {@code null} if {@code cursor} is {@code null} or malformed
+     */
+    static SearchCursor parse(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        final int first = cursor.indexOf(SEPARATOR);
+        final int second = cursor.indexOf(SEPARATOR, first + 1);
+        if (first <= 0 || second <= first + 1 || second == cursor.length() - 1) {
+            return null;
+        }
+        try {
+            final long version = Long.parseLong(cursor.substring(0, first), Character.MAX_RADIX);
+            final int doc = Integer.parseInt(cursor.substring(first + 1, second), Character.MAX_RADIX);
+            final float score = Float.intBitsToFloat(Integer.parseUnsignedInt(cursor.substring(second + 1), Character.MAX_RADIX));
+            return new SearchCursor(version, new ScoreDoc(doc, score));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    long getSearcherVersion() {
+        return searcherVersion;
+    }
+
+    ScoreDoc getLastScoreDoc() {
+        return lastScoreDoc;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(searcherVersion, Character.MAX_RADIX)
+               + SEPARATOR + Integer.toString(lastScoreDoc.doc, Character.MAX_RADIX)
+               + SEPARATOR + Integer.toUnsignedString(Float.floatToIntBits(lastScoreDoc.score), Character.MAX_RADIX);
+    }
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.apache.lucene.util.automaton.RegExp;
+import org.eclipse.che.api.vfs.search.SearchOccurrence;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds occurrences of the text query in the content of file that is already known to match the query. Searcher uses it for the
+ * files of returned page only, so clients get line numbers, offsets and snippets of matches without fetching content of files.
+ * <p>
+ * Content is matched in the same way as it is indexed: substring query {@code *literal*} matches literal anywhere in the line, other
+ * terms, wildcards and regular expressions match whitespace separated words, all comparisons are case insensitive.
+ *
+ * @see LuceneSearcher
+ */
+final class SearchOccurrenceFinder {
+    static final int MAX_OCCURRENCES    = 100;
+    static final int MAX_SNIPPET_LENGTH = 256;
+
+    private static final int SNIPPET_LEADING_CONTEXT = 64;
+
+    private final String                      substring;
+    private final Set<String>                 words;
+    private final List<CharacterRunAutomaton> wordPatterns;
+
+    private SearchOccurrenceFinder(String substring, Set<String> words, List<CharacterRunAutomaton> wordPatterns) {
+        this.substring = substring;
+        this.words = words;
+        this.wordPatterns = wordPatterns;
+    }
+
+    /**
+     * Creates finder for text query.
+     *
+     * @param text
+     *         text of query, see {@link org.eclipse.che.api.vfs.search.QueryExpression#getText()}
+     * @param field
+     *         name of field with file content
+     */
+    static SearchOccurrenceFinder forQuery(String text, String field) {
+        final String trimmed = text.trim();
+        if (trimmed.length() > 2 && trimmed.charAt(0) == '*' && trimmed.charAt(trimmed.length() - 1) == '*'
+            && trimmed.indexOf('*', 1) == trimmed.length() - 1 && trimmed.indexOf('?') == -1 && !containsWhitespace(trimmed)) {
+            return new SearchOccurrenceFinder(toLowerCase(trimmed.substring(1, trimmed.length() - 1)), null, null);
+        }
+        final Set<String> words = new HashSet<>();
+        final List<CharacterRunAutomaton> wordPatterns = new ArrayList<>();
+        for (String token : trimmed.split("\\s+")) {
+            if (token.isEmpty() || "AND".equals(token) || "OR".equals(token) || "NOT".equals(token) || "&&".equals(token)
+                || "||".equals(token) || token.charAt(0) == '-' || token.charAt(0) == '!') {
+                continue;
+            }
+            String term = stripSyntax(token);
+            final int fieldSeparator = term.indexOf(':');
+            if (fieldSeparator > 0 && term.charAt(0) != '/') {
+                if (!field.equals(term.substring(0, fieldSeparator))) {
+                    continue;
+                }
+                term = term.substring(fieldSeparator + 1);
+            }
+            if (term.isEmpty()) {
+                continue;
+            }
+            term = toLowerCase(term);
+            if (term.length() > 2 && term.charAt(0) == '/' && term.charAt(term.length() - 1) == '/') {
+                wordPatterns.add(new CharacterRunAutomaton(new RegExp(term.substring(1, term.length() - 1)).toAutomaton()));
+            } else if (term.indexOf('*') != -1 || term.indexOf('?') != -1) {
+                wordPatterns.add(new CharacterRunAutomaton(WildcardQuery.toAutomaton(new Term(field, term))));
+            } else {
+                words.add(term.replace("\\", ""));
+            }
+        }
+        return new SearchOccurrenceFinder(null, words, wordPatterns);
+    }
+
+    /** Reads content line by line and collects at most {@link #MAX_OCCURRENCES} occurrences. */
+    List<SearchOccurrence> find(Reader content) throws IOException {
+        final List<SearchOccurrence> occurrences = new ArrayList<>();
+        final BufferedReader reader = content instanceof BufferedReader ? (BufferedReader)content : new BufferedReader(content);
+        int lineNumber = 0;
+        String line;
+        while (occurrences.size() < MAX_OCCURRENCES && (line = reader.readLine()) != null) {
+            lineNumber++;
+            final String lowerCaseLine = toLowerCase(line);
+            if (substring != null) {
+                findSubstring(line, lowerCaseLine, lineNumber, occurrences);
+            } else {
+                findWords(line, lowerCaseLine, lineNumber, occurrences);
+            }
+        }
+        return occurrences;
+    }
+
+    private void findSubstring(String line, String lowerCaseLine, int lineNumber, List<SearchOccurrence> occurrences) {
+        if (substring.isEmpty()) {
+            return;
+        }
+        int start = lowerCaseLine.indexOf(substring);
+        while (start != -1 && occurrences.size() < MAX_OCCURRENCES) {
+            occurrences.add(newOccurrence(line, lineNumber, start, start + substring.length()));
+            start = lowerCaseLine.indexOf(substring, start + substring.length());
+        }
+    }
+
+    private void findWords(String line, String lowerCaseLine, int lineNumber, List<SearchOccurrence> occurrences) {
+        int i = 0;
+        final int length = line.length();
+        while (i < length && occurrences.size() < MAX_OCCURRENCES) {
+            while (i < length && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            final int start = i;
+            while (i < length && !Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (start < i && matchesWord(lowerCaseLine.substring(start, i))) {
+                occurrences.add(newOccurrence(line, lineNumber, start, i));
+            }
+        }
+    }
+
+    private boolean matchesWord(String word) {
+        if (words.contains(word)) {
+            return true;
+        }
+        for (CharacterRunAutomaton wordPattern : wordPatterns) {
+            if (wordPattern.run(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static SearchOccurrence newOccurrence(String line, int lineNumber, int start, int end) {
+        final String snippet;
+        if (line.length() <= MAX_SNIPPET_LENGTH) {
+            snippet = line;
+        } else {
+            final int snippetStart = Math.min(Math.max(0, start - SNIPPET_LEADING_CONTEXT), line.length() - MAX_SNIPPET_LENGTH);
+            snippet = line.substring(snippetStart, snippetStart + MAX_SNIPPET_LENGTH);
+        }
+        return new SearchOccurrence(lineNumber, start, end, line.substring(start, end), snippet);
+    }
+
+    private static String stripSyntax(String token) {
+        int start = 0;
+        int end = token.length();
+        while (start < end && (token.charAt(start) == '+' || token.charAt(start) == '(' || token.charAt(start) == '"')) {
+            start++;
+        }
+        while (end > start && (token.charAt(end - 1) == ')' || token.charAt(end - 1) == '"')) {
+            end--;
+        }
+        String term = token.substring(start, end);
+        if (!term.startsWith("/")) {
+            final int boost = term.indexOf('^');
+            if (boost != -1) {
+                term = term.substring(0, boost);
+            }
+            final int fuzzy = term.indexOf('~');
+            if (fuzzy != -1) {
+                term = term.substring(0, fuzzy);
+            }
+        }
+        return term;
+    }
+
+    /** Lower cases each character separately so offsets in result match offsets in original string. */
+    private static String toLowerCase(String str) {
+        final char[] chars = str.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static boolean containsWhitespace(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (Character.isWhitespace(str.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns substring and regular expression searches into queries over field that is indexed with trigrams of file content, so such
+ * searches are answered by intersecting few posting lists instead of scanning whole terms dictionary.
+ * <ul>
+ * <li>Substring query {@code *literal*} is rewritten to phrase query of trigrams of literal. Since every trigram of content is indexed
+ * at its own position such phrase query matches exactly the files that contain the literal, no further check is needed.</li>
+ * <li>For regular expression query {@code /regexp/} literals that must be present in any match are extracted and their phrase queries
+ * are used as pre-filter for original regular expression query, which checks the candidates.</li>
+ * </ul>
+ *
+ * @see LuceneSearcher
+ */
+final class TrigramQueryPlanner {
+    static final int GRAM_SIZE = 3;
+
+    private static final String REGEXP_SPECIAL_CHARS = ".[](){}*+?|\\^$\"<>#@~&";
+    private static final String QUERY_SPECIAL_CHARS  = "*?\\:\"()[]{}^~+-!/&|";
+
+    private final String   field;
+    private final Analyzer analyzer;
+
+    /**
+     * @param field
+     *         name of field that is indexed with trigrams
+     * @param analyzer
+     *         analyzer that is used for indexing of {@code field}
+     */
+    TrigramQueryPlanner(String field, Analyzer analyzer) {
+        this.field = field;
+        this.analyzer = analyzer;
+    }
+
+    /**
+     * Creates query that matches files which contain the literal if {@code text} is substring query in form {@code *literal*}.
+     *
+     * @return trigram query or {@code null} if {@code text} isn't simple substring query or literal is too short to be covered with
+     * trigrams
+     */
+    Query planSubstring(String text) throws IOException {
+        if (text.length() < GRAM_SIZE + 2 || text.charAt(0) != '*' || text.charAt(text.length() - 1) != '*') {
+            return null;
+        }
+        final String literal = text.substring(1, text.length() - 1);
+        for (int i = 0; i < literal.length(); i++) {
+            final char c = literal.charAt(i);
+            if (Character.isWhitespace(c) || QUERY_SPECIAL_CHARS.indexOf(c) != -1) {
+                return null;
+            }
+        }
+        return literalQuery(literal);
+    }
+
+    /**
+     * Creates pre-filter query for regular expression query in form {@code /regexp/}. Pre-filter matches all files that contain literals
+     * required by regular expression, it doesn't check regular expression itself.
+     *
+     * @return pre-filter query or {@code null} if {@code text} isn't regular expression query or no required literals long enough to
+     * be covered with trigrams found in it
+     */
+    Query planRegexpPrefilter(String text) throws IOException {
+        if (text.length() < 3 || text.charAt(0) != '/' || text.charAt(text.length() - 1) != '/') {
+            return null;
+        }
+        final BooleanQuery prefilter = new BooleanQuery();
+        for (String literal : requiredLiterals(text.substring(1, text.length() - 1))) {
+            final Query literalQuery = literalQuery(literal);
+            if (literalQuery != null) {
+                prefilter.add(literalQuery, BooleanClause.Occur.MUST);
+            }
+        }
+        return prefilter.clauses().isEmpty() ? null : prefilter;
+    }
+
+    /**
+     * Extracts literals that must be present in every string matched by regular expression. Extraction is conservative, expressions with
+     * alternatives give no literals and content of groups and character classes is ignored.
+     */
+    static List<String> requiredLiterals(String regexp) {
+        final List<String> literals = new ArrayList<>();
+        if (regexp.indexOf('|') != -1) {
+            return literals;
+        }
+        final StringBuilder literal = new StringBuilder();
+        int depth = 0;
+        for (int i = 0; i < regexp.length(); i++) {
+            final char c = regexp.charAt(i);
+            if (c == '\\' && i + 1 < regexp.length()) {
+                if (depth == 0) {
+                    literal.append(regexp.charAt(i + 1));
+                }
+                i++;
+            } else if (c == '(') {
+                depth++;
+                flushLiteral(literal, literals);
+            } else if (c == ')') {
+                depth = Math.max(0, depth - 1);
+            } else if (c == '[') {
+                flushLiteral(literal, literals);
+                final int end = regexp.indexOf(']', i + 1);
+                i = end == -1 ? regexp.length() : end;
+            } else if (c == '*' || c == '?' || c == '{') {
+                // previous character is optional or repeated unknown number of times
+                if (literal.length() > 0) {
+                    literal.setLength(literal.length() - 1);
+                }
+                flushLiteral(literal, literals);
+                if (c == '{') {
+                    final int end = regexp.indexOf('}', i + 1);
+                    i = end == -1 ? regexp.length() : end;
+                }
+            } else if (REGEXP_SPECIAL_CHARS.indexOf(c) != -1) {
+                flushLiteral(literal, literals);
+            } else if (depth == 0) {
+                literal.append(c);
+            }
+        }
+        flushLiteral(literal, literals);
+        return literals;
+    }
+
+    private static void flushLiteral(StringBuilder literal, List<String> literals) {
+        if (literal.length() >= GRAM_SIZE) {
+            literals.add(literal.toString());
+        }
+        literal.setLength(0);
+    }
+
+    /**
+     * Creates phrase query of trigrams of {@code literal}. Only trigrams that cover the literal without overlapping, plus the last one,
+     * are used since they are enough to pin down the literal and keep number of intersected posting lists small.
+     */
+    private Query literalQuery(String literal) throws IOException {
+        final List<String> grams = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(field, literal)) {
+            final CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                grams.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        }
+        if (grams.isEmpty()) {
+            return null;
+        }
+        final PhraseQuery phraseQuery = new PhraseQuery();
+        final int last = grams.size() - 1;
+        for (int position = 0; position < last; position += GRAM_SIZE) {
+            phraseQuery.add(new Term(field, grams.get(position)), position);
+        }
+        phraseQuery.add(new Term(field, grams.get(last)), last);
+        return phraseQuery;
+    }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Reads content of file through {@link FileChannel}. Stream reads only bytes that file has when stream is created.
+ * Skipping just moves read position, and the rest of content may be written to another stream with
+ * {@link #transferTo(OutputStream, long)} that uses {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+ * so content doesn't need to be copied through java heap when target stream is backed by channel.
+ */
+public final class FileChannelInputStream extends InputStream {
+    private final FileChannel channel;
+    private final Runnable    closeCallback;
+    private final long        size;
+
+    private long    position;
+    private long    mark;
+    private boolean closed;
+
+    /**
+     * @param channel
+     *         channel to read content from
+     * @param closeCallback
+     *         callback that is called once when stream is closed
+     */
+    public FileChannelInputStream(FileChannel channel, Runnable closeCallback) throws IOException {
+        this.channel = channel;
+        this.closeCallback = closeCallback;
+        this.size = channel.size();
+    }
+
+    /** Returns number of bytes of content the stream reads, i.e. size of file when stream is created. */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        final long remaining = size - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        final int read = channel.read(ByteBuffer.wrap(b, off, (int)Math.min(len, remaining)), position);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long skipped = Math.max(0, Math.min(n, size - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int)Math.min(Integer.MAX_VALUE, size - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        mark = position;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        position = mark;
+    }
+
+    /**
+     * Writes up to {@code count} bytes starting from current position of this stream to {@code out}.
+     *
+     * @return number of written bytes
+     */
+    public long transferTo(OutputStream out, long count) throws IOException {
+        final WritableByteChannel target = Channels.newChannel(out);
+        final long end = position + Math.min(count, size - position);
+        final long start = position;
+        while (position < end) {
+            final long transferred = channel.transferTo(position, end - position, target);
+            if (transferred == 0) {
+                // file is truncated by someone else
+                break;
+            }
+            position += transferred;
+        }
+        return position - start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            channel.close();
+        } finally {
+            closeCallback.run();
+        }
+    }
+}
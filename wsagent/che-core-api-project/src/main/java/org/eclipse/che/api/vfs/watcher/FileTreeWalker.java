@@ -20,31 +20,51 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
+import java.nio.file.DirectoryStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 
-import static java.nio.file.FileVisitResult.CONTINUE;
-import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
-import static java.nio.file.Files.exists;
-import static java.nio.file.Files.walkFileTree;
-import static java.util.stream.Collectors.toSet;
+import static com.google.common.collect.Sets.newConcurrentHashSet;
+import static java.lang.Thread.MIN_PRIORITY;
+import static java.lang.Thread.currentThread;
+import static java.nio.file.Files.newDirectoryStream;
+import static java.nio.file.Files.readAttributes;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.che.api.vfs.watcher.FileWatcherUtils.isExcluded;
 
 /**
  * Walks a file system tree, register addition, update and removal of file system items.
  * On events runs corresponding consumers that can be registered in DI configuration modules.
+ * <p>
+ * Every directory of the tree is registered in {@link FileWatcherService}, so on each run only
+ * directories that were reported as changed are re-read. Full sweep of the tree is performed
+ * on the first run and then once per {@code che.fs.tree_walker.full_sweep_period_sec} seconds
+ * to catch up with changes that watch service missed, if the period is zero full sweep is
+ * performed on every run.
+ * <p>
+ * Watch service needs one watch per directory, if it fails to register a directory, e.g. when
+ * {@code fs.inotify.max_user_watches} limit is reached, all the watches of the walker are released
+ * and the whole tree is swept on every run.
  */
 @Singleton
 public class FileTreeWalker {
     private static final Logger LOG = LoggerFactory.getLogger(FileTreeWalker.class);
 
-    private final File root;
+    private final Path               root;
+    private final FileWatcherService service;
+    private final long               fullSweepPeriod;
 
     private final Set<Consumer<Path>> directoryUpdateConsumers;
     private final Set<Consumer<Path>> directoryCreateConsumers;
@@ -56,11 +76,16 @@ public class FileTreeWalker {
     private final Set<Consumer<Path>> fileDeleteConsumers;
     private final Set<PathMatcher>    fileExcludes;
 
-    private final Map<Path, Long> files       = new HashMap<>();
-    private final Map<Path, Long> directories = new HashMap<>();
+    private final Set<Path> changedDirectories = newConcurrentHashSet();
+
+    private DirectoryState rootState;
+    private long           lastFullSweep;
+    private boolean        watchingFailed;
 
     @Inject
     public FileTreeWalker(@Named("che.user.workspaces.storage") File root,
+                          FileWatcherService service,
+                          @Named("che.fs.tree_walker.full_sweep_period_sec") long fullSweepPeriod,
 
                           @Named("che.fs.directory.update") Set<Consumer<Path>> directoryUpdateConsumers,
                           @Named("che.fs.directory.create") Set<Consumer<Path>> directoryCreateConsumers,
@@ -71,7 +96,9 @@ public class FileTreeWalker {
                           @Named("che.fs.file.create") Set<Consumer<Path>> fileCreateConsumers,
                           @Named("che.fs.file.delete") Set<Consumer<Path>> fileDeleteConsumers,
                           @Named("che.fs.file.excludes") Set<PathMatcher> fileExcludes) {
-        this.root = root;
+        this.root = root.toPath().normalize().toAbsolutePath();
+        this.service = service;
+        this.fullSweepPeriod = SECONDS.toMillis(fullSweepPeriod);
 
         this.directoryUpdateConsumers = directoryUpdateConsumers;
         this.directoryCreateConsumers = directoryCreateConsumers;
@@ -83,68 +110,251 @@ public class FileTreeWalker {
 
         this.directoryExcludes = directoryExcludes;
         this.fileExcludes = fileExcludes;
+
+        service.addDirectoryListener(changedDirectories::add);
     }
 
     @ScheduleRate(period = 10)
     void walk() {
         try {
-            LOG.debug("Tree walk started");
-
-            Set<Path> deletedFiles = files.keySet().stream().filter(it -> !exists(it)).collect(toSet());
-            fileDeleteConsumers.forEach(deletedFiles::forEach);
-            files.keySet().removeAll(deletedFiles);
-
-            Set<Path> deletedDirectories = directories.keySet().stream().filter(it -> !exists(it)).collect(toSet());
-            directoryDeleteConsumers.forEach(deletedDirectories::forEach);
-            directories.keySet().removeAll(deletedDirectories);
-
-            walkFileTree(root.toPath(), new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                    for (PathMatcher matcher : directoryExcludes) {
-                        if (matcher.matches(dir)) {
-                            return SKIP_SUBTREE;
-                        }
-                    }
+            long now = System.currentTimeMillis();
+            if (rootState == null || watchingFailed || now - lastFullSweep >= fullSweepPeriod) {
+                lastFullSweep = now;
+                sweep();
+            } else {
+                walkChangedDirectories();
+            }
+        } catch (Exception e) {
+            LOG.error("Error while walking file tree", e);
+        }
+    }
 
-                    updateFsTreeAndAcceptConsumables(directories, directoryUpdateConsumers, directoryCreateConsumers, dir, attrs);
+    /**
+     * Re-reads the whole tree with lowered thread priority.
+     */
+    private void sweep() throws IOException {
+        LOG.debug("Tree sweep started");
 
-                    return CONTINUE;
-                }
+        Thread thread = currentThread();
+        int priority = thread.getPriority();
+        thread.setPriority(MIN_PRIORITY);
+        try {
+            changedDirectories.clear();
+
+            if (isExcluded(directoryExcludes, root)) {
+                return;
+            }
+
+            if (rootState == null) {
+                rootState = new DirectoryState(readAttributes(root, BasicFileAttributes.class).lastModifiedTime().toMillis());
+                register(root);
+                accept(directoryCreateConsumers, root);
+            }
+
+            synchronize(root, rootState, true);
+
+            if (watchingFailed) {
+                changedDirectories.clear();
+            }
+        } finally {
+            thread.setPriority(priority);
+        }
+
+        LOG.debug("Tree sweep finished");
+    }
+
+    private void walkChangedDirectories() throws IOException {
+        Iterator<Path> iterator = changedDirectories.iterator();
+        while (iterator.hasNext()) {
+            Path dir = iterator.next();
+            iterator.remove();
+
+            DirectoryState state = find(dir);
+            if (state != null) {
+                LOG.debug("Walking changed directory '{}'", dir);
+                synchronize(dir, state, false);
+            }
+        }
+    }
+
+    private DirectoryState find(Path dir) {
+        if (!dir.startsWith(root)) {
+            return null;
+        }
+        DirectoryState state = rootState;
+        if (dir.equals(root)) {
+            return state;
+        }
+        for (Path name : root.relativize(dir)) {
+            state = state.directories.get(name.toString());
+            if (state == null) {
+                return null;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Compares actual content of directory with its known state, runs consumers for every
+     * difference and updates the state. Subdirectories that are new are always walked
+     * entirely, known subdirectories are walked only if {@code recursive} is {@code true}.
+     */
+    private void synchronize(Path dir, DirectoryState state, boolean recursive) throws IOException {
+        SortedMap<String, Long> actualFiles = new TreeMap<>();
+        Map<String, Long> actualDirectories = new HashMap<>();
+        try {
+            long lastModified = readAttributes(dir, BasicFileAttributes.class, NOFOLLOW_LINKS).lastModifiedTime().toMillis();
+            if (state.lastModified != lastModified) {
+                state.lastModified = lastModified;
+                accept(directoryUpdateConsumers, dir);
+            }
+
+            try (DirectoryStream<Path> entries = newDirectoryStream(dir)) {
+                for (Path entry : entries) {
+                    BasicFileAttributes attrs;
+                    try {
+                        attrs = readAttributes(entry, BasicFileAttributes.class, NOFOLLOW_LINKS);
+                    } catch (NoSuchFileException e) {
+                        continue;
+                    }
 
-                @Override
-                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-                    for (PathMatcher matcher : fileExcludes) {
-                        if (matcher.matches(file)) {
-                            return CONTINUE;
+                    if (attrs.isDirectory()) {
+                        if (!isExcluded(directoryExcludes, entry)) {
+                            actualDirectories.put(entry.getFileName().toString(), attrs.lastModifiedTime().toMillis());
                         }
+                    } else if (!isExcluded(fileExcludes, entry)) {
+                        actualFiles.put(entry.getFileName().toString(), attrs.lastModifiedTime().toMillis());
                     }
+                }
+            }
+        } catch (NoSuchFileException | NotDirectoryException e) {
+            // removal is going to be registered while walking parent directory
+            return;
+        }
 
-                    updateFsTreeAndAcceptConsumables(files, fileUpdateConsumers, fileCreateConsumers, file, attrs);
+        synchronizeFiles(dir, state, actualFiles);
 
-                    return CONTINUE;
-                }
-            });
-            LOG.debug("Tree walk finished");
-        } catch (Exception e) {
-            LOG.error("Error while walking file tree", e);
+        Iterator<Entry<String, DirectoryState>> known = state.directories.entrySet().iterator();
+        while (known.hasNext()) {
+            Entry<String, DirectoryState> entry = known.next();
+            if (!actualDirectories.containsKey(entry.getKey())) {
+                known.remove();
+                remove(dir.resolve(entry.getKey()), entry.getValue());
+            }
+        }
+
+        for (Entry<String, Long> entry : actualDirectories.entrySet()) {
+            Path path = dir.resolve(entry.getKey());
+            long lastModified = entry.getValue();
+            DirectoryState child = state.directories.get(entry.getKey());
+
+            if (child == null) {
+                child = new DirectoryState(lastModified);
+                register(path);
+                state.directories.put(entry.getKey().intern(), child);
+                accept(directoryCreateConsumers, path);
+                synchronize(path, child, true);
+            } else if (recursive) {
+                synchronize(path, child, true);
+            } else if (child.lastModified != lastModified) {
+                child.lastModified = lastModified;
+                accept(directoryUpdateConsumers, path);
+            }
         }
     }
 
-    private void updateFsTreeAndAcceptConsumables(Map<Path, Long> items, Set<Consumer<Path>> updateConsumer,
-                                                  Set<Consumer<Path>> createConsumer,
-                                                  Path path, BasicFileAttributes attrs) {
-        Long lastModifiedActual = attrs.lastModifiedTime().toMillis();
+    /**
+     * Merges sorted actual files of directory with sorted known ones.
+     */
+    private void synchronizeFiles(Path dir, DirectoryState state, SortedMap<String, Long> actualFiles) {
+        String[] knownNames = state.fileNames;
+        long[] knownModified = state.fileModified;
+        String[] names = new String[actualFiles.size()];
+        long[] modified = new long[actualFiles.size()];
+
+        int i = 0;
+        int j = 0;
+        for (Entry<String, Long> entry : actualFiles.entrySet()) {
+            String name = entry.getKey();
+            long lastModified = entry.getValue();
 
-        if (items.containsKey(path)) {
-            Long lastModifiedStored = items.get(path);
-            if (!lastModifiedActual.equals(lastModifiedStored)) {
-                updateConsumer.forEach(it -> it.accept(path));
-                items.put(path, lastModifiedActual);
+            while (j < knownNames.length && knownNames[j].compareTo(name) < 0) {
+                accept(fileDeleteConsumers, dir.resolve(knownNames[j++]));
+            }
+
+            if (j < knownNames.length && knownNames[j].equals(name)) {
+                names[i] = knownNames[j];
+                if (knownModified[j] != lastModified) {
+                    accept(fileUpdateConsumers, dir.resolve(name));
+                }
+                j++;
+            } else {
+                names[i] = name.intern();
+                accept(fileCreateConsumers, dir.resolve(name));
             }
-        } else {
-            createConsumer.forEach(it -> it.accept(path));
-            items.put(path, lastModifiedActual);
+            modified[i++] = lastModified;
+        }
+
+        while (j < knownNames.length) {
+            accept(fileDeleteConsumers, dir.resolve(knownNames[j++]));
+        }
+
+        state.fileNames = names;
+        state.fileModified = modified;
+    }
+
+    private void remove(Path dir, DirectoryState state) {
+        for (String name : state.fileNames) {
+            accept(fileDeleteConsumers, dir.resolve(name));
+        }
+        state.directories.forEach((name, child) -> remove(dir.resolve(name), child));
+
+        if (!watchingFailed) {
+            service.unRegister(dir);
+        }
+        accept(directoryDeleteConsumers, dir);
+    }
+
+    private void register(Path dir) {
+        if (watchingFailed || service.register(dir)) {
+            return;
+        }
+        LOG.warn("Unable to watch directory '{}', probably limit of watches is reached, see fs.inotify.max_user_watches. " +
+                 "Switching to sweep of the whole tree every run", dir);
+        watchingFailed = true;
+        if (rootState != null) {
+            unRegisterAll(root, rootState);
+        }
+    }
+
+    /**
+     * Releases watches of known directories, so they are available for other consumers of watch service.
+     */
+    private void unRegisterAll(Path dir, DirectoryState state) {
+        state.directories.forEach((name, child) -> unRegisterAll(dir.resolve(name), child));
+        service.unRegister(dir);
+    }
+
+    private static void accept(Set<Consumer<Path>> consumers, Path path) {
+        consumers.forEach(it -> it.accept(path));
+    }
+
+    /**
+     * Known state of a directory. Names of files are interned and kept sorted along with
+     * modification dates in plain arrays, so state of big trees takes little memory.
+     */
+    private static final class DirectoryState {
+        private static final String[] NO_NAMES    = new String[0];
+        private static final long[]   NO_MODIFIED = new long[0];
+
+        final Map<String, DirectoryState> directories = new HashMap<>();
+
+        long     lastModified;
+        String[] fileNames    = NO_NAMES;
+        long[]   fileModified = NO_MODIFIED;
+
+        DirectoryState(long lastModified) {
+            this.lastModified = lastModified;
         }
     }
 }
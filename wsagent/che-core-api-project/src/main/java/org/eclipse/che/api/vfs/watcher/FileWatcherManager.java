@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.function.Consumer;
 
+import static org.eclipse.che.api.vfs.watcher.FileWatcherUtils.toInternalPath;
 import static org.eclipse.che.api.vfs.watcher.FileWatcherUtils.toNormalPath;
 
 /**
@@ -162,4 +163,18 @@ public class FileWatcherManager {
 
         fileWatcherByPathMatcher.unwatch(id);
     }
+
+    /**
+     * Adds listener that is notified with path of a watched directory when
+     * any of its entries is created, modified or deleted. Path is passed in
+     * absolute form in internal virtual file system format. Listeners are
+     * notified even when file watching system is suspended, they are meant
+     * for invalidation of caches of file system state.
+     *
+     * @param listener
+     *         consumer of internal path of changed directory
+     */
+    public void addDirectoryListener(Consumer<String> listener) {
+        service.addDirectoryListener(it -> listener.accept(toInternalPath(root, it)));
+    }
 }
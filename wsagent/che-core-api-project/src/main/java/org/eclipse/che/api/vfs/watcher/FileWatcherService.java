@@ -32,13 +32,13 @@ import java.nio.file.WatchEvent.Modifier;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Predicate;
+import java.util.function.Consumer;
 
 import static java.lang.Thread.currentThread;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
@@ -66,8 +66,11 @@ public class FileWatcherService {
     private final AtomicBoolean running   = new AtomicBoolean();
 
     private final Map<WatchKey, Path> keys          = new ConcurrentHashMap<>();
+    private final Map<Path, WatchKey> keysByPath    = new ConcurrentHashMap<>();
     private final Map<Path, Integer>  registrations = new ConcurrentHashMap<>();
 
+    private final Set<Consumer<Path>> directoryListeners = new CopyOnWriteArraySet<>();
+
     private final Set<PathMatcher>        excludes;
     private final FileWatcherEventHandler handler;
     private final WatchService            service;
@@ -181,10 +184,13 @@ public class FileWatcherService {
      *
      * @param dir
      *         directory
+     * @return {@code true} if directory is being watched, {@code false} if
+     * watch service failed to register it, e.g. when limit of inotify watches
+     * ({@code fs.inotify.max_user_watches}) is reached
      */
-    public void register(Path dir) {
+    public boolean register(Path dir) {
         LOG.debug("Registering directory '{}'", dir);
-        if (keys.values().contains(dir)) {
+        if (registrations.containsKey(dir)) {
             int previous = registrations.get(dir);
             LOG.debug("Directory is already being watched, increasing watch counter, previous value: {}", previous);
             registrations.put(dir, previous + 1);
@@ -193,11 +199,14 @@ public class FileWatcherService {
                 LOG.debug("Starting watching directory '{}'", dir);
                 WatchKey watchKey = dir.register(service, eventKinds, eventModifiers);
                 keys.put(watchKey, dir);
+                keysByPath.put(dir, watchKey);
                 registrations.put(dir, 1);
             } catch (IOException e) {
-                LOG.error("Can't register dir {} in file watch service", dir, e);
+                LOG.warn("Can't register dir {} in file watch service: {}", dir, e.getMessage());
+                return false;
             }
         }
+        return true;
     }
 
     /**
@@ -212,21 +221,38 @@ public class FileWatcherService {
     void unRegister(Path dir) {
         LOG.debug("Canceling directory '{}' registration", dir);
 
-        int previous = registrations.get(dir);
-        if (previous == 1) {
+        Integer previous = registrations.get(dir);
+        if (previous == null) {
+            LOG.debug("Directory '{}' is not being watched", dir);
+        } else if (previous == 1) {
             LOG.debug("Stopping watching directory '{}'", dir);
             registrations.remove(dir);
 
-            Predicate<Entry<WatchKey, Path>> equalsDir = it -> it.getValue().equals(dir);
-
-            keys.entrySet().stream().filter(equalsDir).map(Entry::getKey).forEach(WatchKey::cancel);
-            keys.entrySet().removeIf(equalsDir);
+            WatchKey watchKey = keysByPath.remove(dir);
+            if (watchKey != null) {
+                watchKey.cancel();
+                keys.remove(watchKey);
+            }
         } else {
             LOG.debug("Directory is being watched by someone else, decreasing watch counter, previous value: {}", previous);
             registrations.put(dir, previous - 1);
         }
     }
 
+    /**
+     * Adds listener that is notified with a watched directory each time any
+     * events related to its entries are received. Unlike the event handler
+     * listeners are notified even if the service is suspended or events are
+     * overflowed, so they can rely on notifications to find out which
+     * directories must be re-read.
+     *
+     * @param listener
+     *         consumer of changed directory
+     */
+    void addDirectoryListener(Consumer<Path> listener) {
+        directoryListeners.add(listener);
+    }
+
     /**
      * Resumes service after it was in suspended state. If method is called
      * when the service is already not in a suspended state nothing happens.
@@ -257,6 +283,10 @@ public class FileWatcherService {
                 WatchKey watchKey = service.take();
                 Path dir = keys.get(watchKey);
 
+                if (dir != null) {
+                    notifyDirectoryListeners(dir);
+                }
+
                 if (suspended.get()) {
                     resetAndRemove(watchKey, dir);
 
@@ -295,11 +325,24 @@ public class FileWatcherService {
         }
     }
 
+    private void notifyDirectoryListeners(Path dir) {
+        for (Consumer<Path> listener : directoryListeners) {
+            try {
+                listener.accept(dir);
+            } catch (RuntimeException e) {
+                LOG.error("Directory listener failed on '{}'", dir, e);
+            }
+        }
+    }
+
     private void resetAndRemove(WatchKey watchKey, Path dir) {
         if (!watchKey.reset()) {
-            registrations.remove(dir);
-
             keys.remove(watchKey);
+
+            if (dir != null) {
+                registrations.remove(dir);
+                keysByPath.remove(dir, watchKey);
+            }
         }
     }
 }
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.vfs.Path;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of {@link PathTrie}.
+ */
+public class PathTrieTest {
+
+    private PathTrie<String> trie;
+
+    @BeforeMethod
+    public void setUp() {
+        trie = new PathTrie<>();
+        trie.put(Path.of("/a"), "/a");
+        trie.put(Path.of("/a/b/c"), "/a/b/c");
+        trie.put(Path.of("/a/b/c/d"), "/a/b/c/d");
+        trie.put(Path.of("/x"), "/x");
+    }
+
+    @Test
+    public void shouldGetValueOfExactPath() {
+        assertEquals(trie.get(Path.of("/a/b/c")), "/a/b/c");
+        assertNull(trie.get(Path.of("/a/b")));
+        assertNull(trie.get(Path.of("/a/b/c/d/e")));
+    }
+
+    @Test
+    public void shouldGetValueOfNearestAncestor() {
+        assertEquals(trie.getNearest(Path.of("/a/b/c")), "/a/b/c");
+        assertEquals(trie.getNearest(Path.of("/a/b/file.txt")), "/a");
+        assertEquals(trie.getNearest(Path.of("/a/b/c/d/e/f")), "/a/b/c/d");
+        assertNull(trie.getNearest(Path.of("/y/z")));
+    }
+
+    @Test
+    public void shouldGetValuesOfAllDescendants() {
+        final List<String> descendants = trie.getDescendants(Path.of("/a"));
+
+        assertEquals(new HashSet<>(descendants), new HashSet<>(asList("/a/b/c", "/a/b/c/d")));
+        assertEquals(new HashSet<>(trie.getDescendants(Path.ROOT)), new HashSet<>(asList("/a", "/a/b/c", "/a/b/c/d", "/x")));
+        assertTrue(trie.getDescendants(Path.of("/x")).isEmpty());
+        assertTrue(trie.getDescendants(Path.of("/unknown")).isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveValueAndKeepValuesOfDescendants() {
+        assertEquals(trie.remove(Path.of("/a/b/c")), "/a/b/c");
+
+        assertNull(trie.get(Path.of("/a/b/c")));
+        assertEquals(trie.getNearest(Path.of("/a/b/c/file.txt")), "/a");
+        assertEquals(trie.getDescendants(Path.of("/a")), asList("/a/b/c/d"));
+        assertNull(trie.remove(Path.of("/a/b")));
+    }
+}
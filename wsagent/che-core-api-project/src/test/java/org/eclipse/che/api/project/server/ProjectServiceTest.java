@@ -10,7 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
@@ -25,6 +27,7 @@ import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
 import org.eclipse.che.api.core.rest.HttpJsonResponse;
 import org.eclipse.che.api.core.rest.shared.dto.Link;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
+import org.eclipse.che.api.core.util.PagingUtil;
 import org.eclipse.che.api.core.util.ValueHolder;
 import org.eclipse.che.api.project.server.handlers.CreateProjectHandler;
 import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
@@ -112,6 +115,7 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singletonList;
 import static javax.ws.rs.HttpMethod.DELETE;
 import static javax.ws.rs.HttpMethod.GET;
@@ -280,6 +284,7 @@ public class ProjectServiceTest {
         dependencies.addInstance(ProjectHandlerRegistry.class, phRegistry);
         dependencies.addInstance(EventService.class, eventService);
         dependencies.addInstance(ProjectServiceLinksInjector.class, projectServiceLinksInjector);
+        dependencies.addInstance(ProjectTreeCache.class, new ProjectTreeCache(fileWatcherManager, vfsProvider));
 
         ResourceBinder resources = new ResourceBinderImpl();
         ProviderBinder providers = ProviderBinder.getInstance();
@@ -898,6 +903,52 @@ public class ProjectServiceTest {
         assertEquals(new String(writer.getBody()), myContent);
     }
 
+    @Test
+    public void testGetFileContentRange() throws Exception {
+        String myContent = "to be or not to be";
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", myContent.getBytes(Charset.defaultCharset()));
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=3-4"));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 206, "Error: " + response.getEntity());
+        assertEquals(response.getHttpHeaders().getFirst("Content-Range"), "bytes 3-4/18");
+        assertEquals(new String(writer.getBody()), "be");
+    }
+
+    @Test
+    public void testGetFileContentRangeOfFileChangedAfterItsLengthIsCached() throws Exception {
+        VirtualFile file = pm.getProject("my_project").getBaseFolder()
+                             .createFile("test.txt", "to be or not to be".getBytes(Charset.defaultCharset()))
+                             .getVirtualFile();
+        assertEquals(file.getLength(), 18);
+        Files.write("to be or not to be, that is the question".getBytes(Charset.defaultCharset()), file.toIoFile());
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=20-"));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 206, "Error: " + response.getEntity());
+        assertEquals(response.getHttpHeaders().getFirst("Content-Range"), "bytes 20-39/40");
+        assertEquals(response.getHttpHeaders().getFirst("Content-Length"), "20");
+        assertEquals(new String(writer.getBody()), "that is the question");
+    }
+
+    @Test
+    public void testGetFileContentUnsatisfiableRange() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", "to be".getBytes(Charset.defaultCharset()));
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("Range", singletonList("bytes=10-"));
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/file/my_project/test.txt",
+                                                      "http://localhost:8080/api", headers, null, null);
+        assertEquals(response.getStatus(), 416);
+        assertEquals(response.getHttpHeaders().getFirst("Content-Range"), "bytes */5");
+    }
+
     @Test
     public void testUpdateFileContent() throws Exception {
         String myContent = "<test>hello</test>";
@@ -1536,6 +1587,21 @@ public class ProjectServiceTest {
         assertEquals(response.getContentType().toString(), ExtMediaType.APPLICATION_ZIP);
     }
 
+    @Test
+    public void testGetHashSums() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        myProject.getBaseFolder().createFolder("a/b").createFile("test.txt", "hello".getBytes(Charset.defaultCharset()));
+        myProject.getBaseFolder().createFile("test.txt", "world".getBytes(Charset.defaultCharset()));
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/hashsums/my_project",
+                                                      "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        Set<String> hashSums = new HashSet<>(Arrays.asList(new String(writer.getBody(), UTF_8).split("\n")));
+        assertTrue(hashSums.toString(), hashSums.contains(Hashing.md5().hashString("hello", UTF_8) + " a/b/test.txt"));
+        assertTrue(hashSums.toString(), hashSums.contains(Hashing.md5().hashString("world", UTF_8) + " test.txt"));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testGetChildren() throws Exception {
@@ -1734,6 +1800,56 @@ public class ProjectServiceTest {
     }
 
 
+    @Test
+    public void testGetCompactTree() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b/c");
+        a.createFolder("x").createFile("test.txt", "test".getBytes(Charset.defaultCharset()));
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/compact-tree/my_project/a?depth=2&includeFiles=true",
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        String tree = new String((byte[])response.getEntity(), UTF_8);
+        Assert.assertTrue(tree.startsWith("{\"name\":\"a\",\"path\":\"/my_project/a\",\"folder\":true,\"children\":["));
+        Assert.assertTrue(tree.contains("{\"name\":\"b\",\"folder\":true,\"children\":[{\"name\":\"c\",\"folder\":true}]}"));
+        Assert.assertTrue(tree.contains("{\"name\":\"x\",\"folder\":true,\"children\":[{\"name\":\"test.txt\"}]}"));
+        Assert.assertFalse(tree.contains("href"));
+        Object eTag = response.getHttpHeaders().getFirst("ETag");
+        assertNotNull(eTag);
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("If-None-Match", singletonList(eTag.toString()));
+        response = launcher.service(GET,
+                                    "http://localhost:8080/api/project/compact-tree/my_project/a?depth=2&includeFiles=true",
+                                    "http://localhost:8080/api", headers, null, null);
+        assertEquals(response.getStatus(), 304);
+    }
+
+    @Test
+    public void testGetCompactTreeAfterItIsChangedThroughService() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFolder("a/b");
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/compact-tree/my_project/a?depth=2&includeFiles=true",
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        Object eTag = response.getHttpHeaders().getFirst("ETag");
+
+        response = launcher.service(POST,
+                                    "http://localhost:8080/api/project/file/my_project/a/b?name=test.txt",
+                                    "http://localhost:8080/api", null, "test".getBytes(Charset.defaultCharset()), null);
+        assertEquals(response.getStatus(), 201, "Error: " + response.getEntity());
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("If-None-Match", singletonList(eTag.toString()));
+        response = launcher.service(GET,
+                                    "http://localhost:8080/api/project/compact-tree/my_project/a?depth=2&includeFiles=true",
+                                    "http://localhost:8080/api", headers, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        String tree = new String((byte[])response.getEntity(), UTF_8);
+        Assert.assertTrue(tree.contains("{\"name\":\"b\",\"folder\":true,\"children\":[{\"name\":\"test.txt\"}]}"));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testSearchByName() throws Exception {
@@ -1983,6 +2099,47 @@ public class ProjectServiceTest {
         Assert.assertTrue(result.get(0).getPath().equals("/my_project/c/test.txt"));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testSearchPagesWithCursorInLinkHeader() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        for (int i = 0; i < 6; i++) {
+            myProject.getBaseFolder().createFolder("f" + i).createFile("page.txt", "page".getBytes(Charset.defaultCharset()));
+        }
+        Set<String> paths = new HashSet<>();
+
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/search/my_project?name=page.txt&maxItems=2",
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<ItemReference> result = (List<ItemReference>)response.getEntity();
+        assertEquals(result.size(), 2);
+        result.forEach(item -> paths.add(item.getPath()));
+        Map<String, String> links = PagingUtil.parseLinkHeader((String)response.getHttpHeaders().getFirst("Link"));
+        String next = links.get("next");
+        assertNotNull(next);
+        Assert.assertTrue(next.contains("skipCount=2"));
+        Assert.assertTrue(next.contains("cursor="));
+        Assert.assertFalse(links.get("first").contains("cursor="));
+
+        response = launcher.service(GET, next, "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        result = (List<ItemReference>)response.getEntity();
+        assertEquals(result.size(), 2);
+        result.forEach(item -> paths.add(item.getPath()));
+        next = PagingUtil.parseLinkHeader((String)response.getHttpHeaders().getFirst("Link")).get("next");
+        assertNotNull(next);
+        Assert.assertTrue(next.contains("skipCount=4"));
+
+        response = launcher.service(GET, next, "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        result = (List<ItemReference>)response.getEntity();
+        assertEquals(result.size(), 2);
+        result.forEach(item -> paths.add(item.getPath()));
+        Assert.assertNull(response.getHttpHeaders().getFirst("Link"));
+        assertEquals(paths.size(), 6);
+    }
+
     private void validateFileLinks(ItemReference item) {
         Link link = item.getLink("delete");
         assertNotNull(link);
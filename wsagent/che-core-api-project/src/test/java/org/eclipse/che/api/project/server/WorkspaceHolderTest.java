@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.project.ProjectConfig;
+import org.eclipse.che.api.core.rest.HttpJsonRequest;
+import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
+import org.eclipse.che.api.core.rest.HttpJsonResponse;
+import org.eclipse.che.api.workspace.server.WorkspaceService;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigChangesDto;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.commons.test.mockito.answer.SelfReturningAnswer;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static javax.ws.rs.core.UriBuilder.fromUri;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link WorkspaceHolder}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class WorkspaceHolderTest {
+
+    private static final String API_ENDPOINT = "http://localhost:8080/api";
+    private static final String WORKSPACE_ID = "workspace123";
+
+    @Mock
+    private HttpJsonRequestFactory requestFactory;
+    @Mock
+    private HttpJsonResponse       response;
+
+    private HttpJsonRequest request;
+
+    private WorkspaceHolder workspaceHolder;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        request = mock(HttpJsonRequest.class, new SelfReturningAnswer());
+        when(request.request()).thenReturn(response);
+        when(response.asDto(WorkspaceDto.class)).thenReturn(newDto(WorkspaceDto.class));
+        when(requestFactory.fromUrl(anyString())).thenReturn(request);
+        workspaceHolder = new WorkspaceHolder(API_ENDPOINT, requestFactory, WORKSPACE_ID, null);
+    }
+
+    @Test
+    public void shouldSendAllChangesOfProjectsWithSingleRequest() throws Exception {
+        final ProjectConfig added = new NewProjectConfigImpl("/added", "added", "blank", null);
+        final ProjectConfig updated = new NewProjectConfigImpl("/updated", "updated", "blank", null);
+        final ProjectConfig removed = new NewProjectConfigImpl("/removed", "removed", "blank", null);
+
+        workspaceHolder.applyChanges(singletonList(added), singletonList(updated), singletonList(removed));
+
+        final String url = fromUri(API_ENDPOINT).path(WorkspaceService.class)
+                                                .path(WorkspaceService.class, "updateProjects")
+                                                .build(WORKSPACE_ID)
+                                                .toString();
+        verify(requestFactory).fromUrl(url);
+        verify(request).usePostMethod();
+        final ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(request).setBody(captor.capture());
+        final ProjectConfigChangesDto changes = (ProjectConfigChangesDto)captor.getValue();
+        assertEquals(changes.getUpdated().stream().map(ProjectConfigDto::getPath).collect(toList()),
+                     asList("/added", "/updated"));
+        assertEquals(changes.getRemoved(), singletonList("/removed"));
+    }
+
+    @Test
+    public void shouldSendOnlyRemovedPathsWhenProjectsAreOnlyRemoved() throws Exception {
+        final ProjectConfig removed = new NewProjectConfigImpl("/removed", "removed", "blank", null);
+
+        workspaceHolder.applyChanges(emptyList(), emptyList(), singletonList(removed));
+
+        final ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(request).setBody(captor.capture());
+        final ProjectConfigChangesDto changes = (ProjectConfigChangesDto)captor.getValue();
+        assertEquals(changes.getUpdated(), emptyList());
+        assertEquals(changes.getRemoved(), singletonList("/removed"));
+    }
+
+    @Test(expectedExceptions = ServerException.class)
+    public void shouldThrowServerExceptionWhenChangesAreNotApplied() throws Exception {
+        when(request.request()).thenThrow(new IOException("connection refused"));
+
+        workspaceHolder.applyChanges(emptyList(), emptyList(),
+                                     singletonList(new NewProjectConfigImpl("/removed", "removed", "blank", null)));
+    }
+}
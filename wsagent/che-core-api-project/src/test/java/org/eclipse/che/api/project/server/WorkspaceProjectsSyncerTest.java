@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.project.ProjectConfig;
+import org.eclipse.che.api.core.model.project.SourceStorage;
+import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link WorkspaceProjectsSyncer}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class WorkspaceProjectsSyncerTest {
+
+    @Mock
+    private ProjectRegistry projectRegistry;
+
+    private RecordingSyncer syncer;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        syncer = new RecordingSyncer();
+    }
+
+    @Test
+    public void shouldApplyAddedUpdatedAndRemovedProjectsAtOnce() throws Exception {
+        syncer.remote.add(config("/unchanged", "unchanged project"));
+        syncer.remote.add(config("/updated", "old description"));
+        syncer.remote.add(config("/removed", "removed project"));
+        final RegisteredProject unchanged = project("/unchanged", "unchanged project");
+        final RegisteredProject updated = project("/updated", "new description");
+        final RegisteredProject added = project("/added", "added project");
+        when(projectRegistry.getProjects()).thenReturn(asList(unchanged, updated, added));
+        when(projectRegistry.getProject("/unchanged")).thenReturn(unchanged);
+        when(projectRegistry.getProject("/updated")).thenReturn(updated);
+
+        syncer.sync(projectRegistry);
+
+        assertEquals(syncer.applied, 1);
+        assertEquals(paths(syncer.added), singletonList("/added"));
+        assertEquals(paths(syncer.updated), singletonList("/updated"));
+        assertEquals(syncer.updated.get(0).getDescription(), "new description");
+        assertEquals(paths(syncer.removed), singletonList("/removed"));
+        verify(unchanged).setSync();
+        verify(updated).setSync();
+        verify(added).setSync();
+    }
+
+    @Test
+    public void shouldNotApplyChangesWhenProjectsAreNotChanged() throws Exception {
+        syncer.remote.add(config("/project", "description"));
+        final RegisteredProject project = project("/project", "description");
+        when(projectRegistry.getProjects()).thenReturn(singletonList(project));
+        when(projectRegistry.getProject("/project")).thenReturn(project);
+
+        syncer.sync(projectRegistry);
+
+        assertEquals(syncer.applied, 0);
+        verify(project).setSync();
+    }
+
+    @Test
+    public void shouldSkipSyncedAndDetectedProjects() throws Exception {
+        final RegisteredProject synced = project("/synced", "synced project");
+        when(synced.isSynced()).thenReturn(true);
+        final RegisteredProject detected = project("/detected", "detected project");
+        when(detected.isDetected()).thenReturn(true);
+        when(projectRegistry.getProjects()).thenReturn(asList(synced, detected));
+
+        syncer.sync(projectRegistry);
+
+        assertEquals(syncer.applied, 0);
+        verify(synced, never()).setSync();
+        verify(detected, never()).setSync();
+    }
+
+    @Test
+    public void shouldNotMarkProjectsSyncedWhenChangesAreNotApplied() throws Exception {
+        final RegisteredProject added = project("/added", "added project");
+        when(projectRegistry.getProjects()).thenReturn(singletonList(added));
+        syncer.failure = new ServerException("failed");
+
+        try {
+            syncer.sync(projectRegistry);
+            fail("ServerException expected");
+        } catch (ServerException ignored) {
+        }
+
+        verify(added, never()).setSync();
+    }
+
+    @Test
+    public void shouldApplyChangesOneByOneByDefault() throws Exception {
+        final List<String> calls = new ArrayList<>();
+        final WorkspaceProjectsSyncer syncer = new WsAgentTestBase.TestWorkspaceHolder() {
+            @Override
+            protected void addProject(ProjectConfig project) {
+                calls.add("add " + project.getPath());
+            }
+
+            @Override
+            protected void updateProject(ProjectConfig project) {
+                calls.add("update " + project.getPath());
+            }
+
+            @Override
+            protected void removeProject(ProjectConfig project) {
+                calls.add("remove " + project.getPath());
+            }
+        };
+
+        syncer.applyChanges(singletonList(config("/added", null)),
+                            singletonList(config("/updated", null)),
+                            singletonList(config("/removed", null)));
+
+        assertEquals(calls, asList("remove /removed", "update /updated", "add /added"));
+    }
+
+    @Test
+    public void shouldConsiderProjectsWithEqualConfigurationsTheSame() {
+        assertTrue(WorkspaceProjectsSyncer.isSame(config("/project", "description"), config("/project", "description")));
+    }
+
+    @Test
+    public void shouldConsiderMissedDescriptionAndSourceEqualToEmptyOnes() {
+        final ProjectConfig local = new NewProjectConfigImpl("/project", "blank", null, "project", null, null, null, null);
+        final ProjectConfig remote = new NewProjectConfigImpl("/project", "blank", null, "project", "", null, null,
+                                                              newDto(SourceStorageDto.class).withType("")
+                                                                                            .withLocation(""));
+
+        assertTrue(WorkspaceProjectsSyncer.isSame(local, remote));
+    }
+
+    @Test
+    public void shouldConsiderProjectsWithDifferentConfigurationsNotTheSame() {
+        final ProjectConfig base = config("/project", "description");
+
+        assertFalse(WorkspaceProjectsSyncer.isSame(config("/project", "other"), base));
+        assertFalse(WorkspaceProjectsSyncer.isSame(new NewProjectConfigImpl("/project", "maven", base.getMixins(), base.getName(),
+                                                                            base.getDescription(), base.getAttributes(),
+                                                                            null, base.getSource()), base));
+        assertFalse(WorkspaceProjectsSyncer.isSame(new NewProjectConfigImpl("/project", base.getType(), singletonList("git"),
+                                                                            base.getName(), base.getDescription(),
+                                                                            base.getAttributes(), null, base.getSource()), base));
+        assertFalse(WorkspaceProjectsSyncer.isSame(new NewProjectConfigImpl("/project", base.getType(), base.getMixins(),
+                                                                            base.getName(), base.getDescription(),
+                                                                            singletonMap("key", singletonList("other")),
+                                                                            null, base.getSource()), base));
+        assertFalse(WorkspaceProjectsSyncer.isSame(new NewProjectConfigImpl("/project", base.getType(), base.getMixins(),
+                                                                            base.getName(), base.getDescription(),
+                                                                            base.getAttributes(), null,
+                                                                            source("git", "https://other")), base));
+        assertFalse(WorkspaceProjectsSyncer.isSame(new NewProjectConfigImpl("/project", base.getType(), base.getMixins(),
+                                                                            base.getName(), base.getDescription(),
+                                                                            base.getAttributes(), null, null), base));
+    }
+
+    private static ProjectConfig config(String path, String description) {
+        final Map<String, List<String>> attributes = new HashMap<>();
+        attributes.put("key", singletonList("value"));
+        return new NewProjectConfigImpl(path,
+                                        "blank",
+                                        new ArrayList<>(),
+                                        path.substring(1),
+                                        description,
+                                        attributes,
+                                        null,
+                                        source("git", "https://host" + path));
+    }
+
+    private static RegisteredProject project(String path, String description) {
+        final ProjectConfig config = config(path, description);
+        final RegisteredProject project = mock(RegisteredProject.class);
+        when(project.getPath()).thenReturn(config.getPath());
+        when(project.getType()).thenReturn(config.getType());
+        when(project.getMixins()).thenReturn(config.getMixins());
+        when(project.getName()).thenReturn(config.getName());
+        when(project.getDescription()).thenReturn(config.getDescription());
+        when(project.getPersistableAttributes()).thenReturn(config.getAttributes());
+        when(project.getSource()).thenReturn(config.getSource());
+        return project;
+    }
+
+    private static SourceStorage source(String type, String location) {
+        return newDto(SourceStorageDto.class).withType(type)
+                                             .withLocation(location)
+                                             .withParameters(Collections.emptyMap());
+    }
+
+    private static List<String> paths(List<ProjectConfig> projects) {
+        return projects.stream().map(ProjectConfig::getPath).collect(toList());
+    }
+
+    private static class RecordingSyncer extends WsAgentTestBase.TestWorkspaceHolder {
+        final List<ProjectConfig> remote = new ArrayList<>();
+
+        int                 applied;
+        List<ProjectConfig> added;
+        List<ProjectConfig> updated;
+        List<ProjectConfig> removed;
+        ServerException     failure;
+
+        RecordingSyncer() throws ServerException {
+        }
+
+        @Override
+        public List<? extends ProjectConfig> getProjects() {
+            return remote;
+        }
+
+        @Override
+        protected void applyChanges(List<ProjectConfig> added,
+                                    List<ProjectConfig> updated,
+                                    List<ProjectConfig> removed) throws ServerException {
+            applied++;
+            this.added = added;
+            this.updated = updated;
+            this.removed = removed;
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
+
+import org.eclipse.che.commons.lang.Pair;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newConcurrentHashSet;
+import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.io.Files.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParallelHashSumsCounterTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ForkJoinPool    pool;
+    private PathLockFactory lockFactory;
+
+    @Before
+    public void setUp() throws Exception {
+        pool = new ForkJoinPool(2);
+        lockFactory = new PathLockFactory(16);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void countsHashSums() throws Exception {
+        VirtualFile fileAB = mockFile("/a/file", "file1".getBytes());
+        VirtualFile fileBA = mockFile("/a/b/file", "file2".getBytes());
+        VirtualFile folderB = mockFolder("/a/b", fileBA);
+        VirtualFile folderA = mockFolder("/a", folderB, fileAB);
+        Set<Pair<String, String>> expected = newHashSet(Pair.of(countMd5Sum("file1".getBytes()), "file"),
+                                                        Pair.of(countMd5Sum("file2".getBytes()), "b/file"));
+
+        Set<Pair<String, String>> hashSums =
+                newHashSet(new ParallelHashSumsCounter(folderA, "MD5", new HashSumsCache(10), pool, lockFactory).countHashSums());
+
+        assertEquals(expected, hashSums);
+    }
+
+    @Test
+    public void passesHashSumsToConsumer() throws Exception {
+        VirtualFile file = mockFile("/a/file", "file1".getBytes());
+        VirtualFile folder = mockFolder("/a", file);
+        Set<Pair<String, String>> hashSums = newConcurrentHashSet();
+
+        new ParallelHashSumsCounter(folder, "MD5", new HashSumsCache(10), pool, lockFactory).countHashSums(hashSums::add);
+
+        assertEquals(newHashSet(Pair.of(countMd5Sum("file1".getBytes()), "file")), hashSums);
+    }
+
+    @Test
+    public void readsFileOnlyWhenItIsNotLockedExclusively() throws Exception {
+        VirtualFile file = mockFile("/a/file", "file1".getBytes());
+        VirtualFile folder = mockFolder("/a", file);
+        PathLockFactory.PathLock lock = lockFactory.getLock(file.getPath(), true).acquire();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Pair<String, String>>> hashSums =
+                    executor.submit(() -> new ParallelHashSumsCounter(folder, "MD5", new HashSumsCache(10), pool, lockFactory)
+                                                  .countHashSums());
+            Thread.sleep(500);
+            assertFalse(hashSums.isDone());
+
+            lock.release();
+            assertEquals(newArrayList(Pair.of(countMd5Sum("file1".getBytes()), "file")), hashSums.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rehashesOnlyChangedFiles() throws Exception {
+        VirtualFile file = mockFile("/a/file", "file1".getBytes());
+        VirtualFile folder = mockFolder("/a", file);
+        HashSumsCache cache = new HashSumsCache(10);
+        long lastModified = System.currentTimeMillis() - 60000;
+        file.toIoFile().setLastModified(lastModified);
+        new ParallelHashSumsCounter(folder, "MD5", cache, pool, lockFactory).countHashSums();
+
+        write("file2".getBytes(), file.toIoFile());
+        file.toIoFile().setLastModified(lastModified);
+        assertEquals(newArrayList(Pair.of(countMd5Sum("file1".getBytes()), "file")),
+                     new ParallelHashSumsCounter(folder, "MD5", cache, pool, lockFactory).countHashSums());
+
+        file.toIoFile().setLastModified(lastModified + 1000);
+        assertEquals(newArrayList(Pair.of(countMd5Sum("file2".getBytes()), "file")),
+                     new ParallelHashSumsCounter(folder, "MD5", cache, pool, lockFactory).countHashSums());
+    }
+
+    private String countMd5Sum(byte[] bytes) throws Exception {
+        return ByteSource.wrap(bytes).hash(Hashing.md5()).toString();
+    }
+
+    private VirtualFile mockFile(String path, byte[] content) throws Exception {
+        File ioFile = new File(temporaryFolder.getRoot(), path);
+        ioFile.getParentFile().mkdirs();
+        write(content, ioFile);
+        VirtualFile file = mock(VirtualFile.class);
+        when(file.isFile()).thenReturn(true);
+        when(file.getPath()).thenReturn(Path.of(path));
+        when(file.toIoFile()).thenReturn(ioFile);
+        return file;
+    }
+
+    private VirtualFile mockFolder(String path, VirtualFile... children) throws Exception {
+        VirtualFile folder = mock(VirtualFile.class);
+        when(folder.isFolder()).thenReturn(true);
+        when(folder.getPath()).thenReturn(Path.of(path));
+        when(folder.getChildren()).thenReturn(newArrayList(children));
+        return folder;
+    }
+}
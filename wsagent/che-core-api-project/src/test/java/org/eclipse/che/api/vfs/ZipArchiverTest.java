@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.vfs;
 
+import com.google.common.base.Strings;
 import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.api.core.ConflictException;
@@ -105,6 +106,29 @@ public class ZipArchiverTest {
         assertThatZipArchiveContainsAllEntries(new ByteArrayInputStream(compressedFolder.toByteArray()), entries);
     }
 
+    @Test
+    public void compressesOnlyFilesWhichContentIsNotAlreadyCompressed() throws Exception {
+        VirtualFile folder = vfsRoot.createFolder("folder");
+        String content = Strings.repeat(TEST_CONTENT, 1000);
+        folder.createFile("image.png", content);
+        folder.createFile("text.txt", content);
+        ByteArrayOutputStream compressedFolder = new ByteArrayOutputStream();
+
+        new ZipArchiver(folder).compress(compressedFolder);
+
+        Map<String, Long> compressedSizes = newHashMap();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(compressedFolder.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                // compressed size is known when entry is read
+                ByteStreams.toByteArray(zip);
+                compressedSizes.put(entry.getName(), entry.getCompressedSize());
+            }
+        }
+        assertTrue(compressedSizes.get("image.png") >= content.length());
+        assertTrue(compressedSizes.get("text.txt") < content.length() / 10);
+    }
+
     @Test
     public void extractsArchiveToFolder() throws Exception {
         byte[] archive = createTestZipArchive();
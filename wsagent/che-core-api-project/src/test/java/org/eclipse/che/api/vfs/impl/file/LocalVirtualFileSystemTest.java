@@ -13,6 +13,8 @@ package org.eclipse.che.api.vfs.impl.file;
 import org.eclipse.che.api.core.util.FileCleaner;
 import org.eclipse.che.api.vfs.AbstractVirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.ArchiverFactory;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.commons.lang.IoUtil;
@@ -22,7 +24,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -64,4 +70,47 @@ public class LocalVirtualFileSystemTest {
         fileSystem.close();
         verify(searcher).close();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void seesItemsCreatedOutsideOfFileSystemAfterCachesInvalidated() throws Exception {
+        assertTrue(testDirectory.mkdirs() || testDirectory.isDirectory());
+        assertTrue(fileSystem.getRoot().getChildren().isEmpty());
+        File ioFile = new File(testDirectory, "external.txt");
+        assertTrue(ioFile.createNewFile());
+
+        fileSystem.invalidateCaches(Path.of("/external.txt"), false);
+
+        List<VirtualFile> children = fileSystem.getRoot().getChildren();
+        assertEquals(1, children.size());
+        assertEquals("external.txt", children.get(0).getName());
+        assertTrue(children.get(0).isFile());
+    }
+
+    @Test
+    public void doesNotSeeRemovedFolderContentAfterCachesInvalidatedRecursively() throws Exception {
+        VirtualFile file = fileSystem.getRoot().createFolder("a/b").createFile("c.txt", "content");
+        assertTrue(file.exists());
+
+        IoUtil.deleteRecursive(new File(testDirectory, "a"));
+        fileSystem.invalidateCaches(Path.of("/a"), true);
+
+        assertFalse(file.exists());
+        assertTrue(fileSystem.getRoot().getChildren().isEmpty());
+    }
+
+    @Test
+    public void keepsCachedStateOfFolderWithSamePrefixWhenCachesInvalidatedRecursively() throws Exception {
+        VirtualFile file = fileSystem.getRoot().createFolder("a/b").createFile("c.txt", "content");
+        VirtualFile otherFile = fileSystem.getRoot().createFolder("ab").createFile("c.txt", "content");
+        assertTrue(file.exists());
+        assertTrue(otherFile.exists());
+
+        IoUtil.deleteRecursive(new File(testDirectory, "a"));
+        IoUtil.deleteRecursive(new File(testDirectory, "ab"));
+        fileSystem.invalidateCaches(Path.of("/a"), true);
+
+        assertFalse(file.exists());
+        // cached state of '/ab' is dropped only by its own invalidation or when it expires
+        assertTrue(otherFile.exists());
+    }
+}
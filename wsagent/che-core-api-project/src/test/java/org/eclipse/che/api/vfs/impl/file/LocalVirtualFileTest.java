@@ -25,7 +25,9 @@ import org.eclipse.che.api.vfs.ArchiverFactory;
 import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.TarArchiver;
 import org.eclipse.che.api.vfs.VirtualFileVisitor;
+import org.eclipse.che.api.vfs.ZipArchiver;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.commons.lang.IoUtil;
@@ -45,6 +47,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -54,13 +57,16 @@ import java.util.Set;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -399,6 +405,40 @@ public class LocalVirtualFileTest {
         assertEquals(DEFAULT_CONTENT, new String(bytes));
     }
 
+    @Test
+    public void keepsContentOfOpenedStreamWhenFileIsUpdated() throws Exception {
+        VirtualFile root = getRoot();
+        byte[] largeContent = new byte[LocalVirtualFileSystem.MAX_BUFFER_SIZE + 1];
+        Arrays.fill(largeContent, (byte)'a');
+        VirtualFile file = root.createFile(generateFileName(), largeContent);
+
+        byte[] bytes;
+        try (InputStream content = file.getContent()) {
+            file.updateContent("updated content".getBytes());
+            bytes = ByteStreams.toByteArray(content);
+        }
+
+        assertionHelper.assertThatIoFileHasContent(file.getPath(), "updated content".getBytes());
+        assertArrayEquals(largeContent, bytes);
+    }
+
+    @Test
+    public void updatesContentOfHardLinkedFileInPlaceWhenItIsOpened() throws Exception {
+        VirtualFile root = getRoot();
+        byte[] largeContent = new byte[LocalVirtualFileSystem.MAX_BUFFER_SIZE + 1];
+        Arrays.fill(largeContent, (byte)'a');
+        VirtualFile file = root.createFile(generateFileName(), largeContent);
+        File link = new File(testDirectory, generateFileName());
+        java.nio.file.Files.createLink(link.toPath(), new File(testDirectory, file.getPath().toString()).toPath());
+
+        try (InputStream ignored = file.getContent()) {
+            file.updateContent("updated content".getBytes());
+        }
+
+        assertionHelper.assertThatIoFileHasContent(file.getPath(), "updated content".getBytes());
+        assertArrayEquals("updated content".getBytes(), java.nio.file.Files.readAllBytes(link.toPath()));
+    }
+
     @Test
     public void getsContentAsBytes() throws Exception {
         VirtualFile root = getRoot();
@@ -1394,10 +1434,21 @@ public class LocalVirtualFileTest {
         VirtualFile folder = getRoot().createFolder(generateFolderName());
         Archiver archiver = mock(Archiver.class);
         when(archiverFactory.createArchiver(eq(folder), eq("zip"))).thenReturn(archiver);
-        folder.zip();
+        folder.zip(new ByteArrayOutputStream());
         verify(archiver).compress(any(OutputStream.class), any(VirtualFileFilter.class));
     }
 
+    @Test
+    public void doesNotCloseOutputWhenCompressesFolderToZipArchive() throws Exception {
+        VirtualFile folder = getRoot().createFolder(generateFolderName());
+        folder.createFile(generateFileName(), DEFAULT_CONTENT);
+        when(archiverFactory.createArchiver(eq(folder), eq("zip"))).thenReturn(new ZipArchiver(folder));
+        OutputStream output = mock(OutputStream.class);
+        folder.zip(output);
+        verify(output, atLeastOnce()).write(any(byte[].class), anyInt(), anyInt());
+        verify(output, never()).close();
+    }
+
     @Test
     public void failsZipFile() throws Exception {
         VirtualFile root = getRoot();
@@ -1405,7 +1456,7 @@ public class LocalVirtualFileTest {
 
         thrown.expect(ForbiddenException.class);
 
-        file.zip();
+        file.zip(new ByteArrayOutputStream());
     }
 
     @Test
@@ -1434,6 +1485,17 @@ public class LocalVirtualFileTest {
         verify(archiver).compress(any(OutputStream.class), any(VirtualFileFilter.class));
     }
 
+    @Test
+    public void compressFolderToTarArchiveInOutput() throws Exception {
+        VirtualFile folder = getRoot().createFolder(generateFolderName());
+        folder.createFile(generateFileName(), DEFAULT_CONTENT);
+        when(archiverFactory.createArchiver(eq(folder), eq("tar"))).thenReturn(new TarArchiver(folder));
+        OutputStream output = mock(OutputStream.class);
+        folder.tar(output);
+        verify(output, atLeastOnce()).write(any(byte[].class), anyInt(), anyInt());
+        verify(output, never()).close();
+    }
+
     @Test
     public void failsTarFile() throws Exception {
         VirtualFile root = getRoot();
@@ -34,6 +34,7 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collections;
@@ -1305,7 +1306,7 @@ public class MemoryVirtualFileTest {
         VirtualFile folder = getRoot().createFolder(generateFolderName());
         Archiver archiver = mock(Archiver.class);
         when(archiverFactory.createArchiver(eq(folder), eq("zip"))).thenReturn(archiver);
-        folder.zip();
+        folder.zip(new ByteArrayOutputStream());
         verify(archiver).compress(any(OutputStream.class));
     }
 
@@ -1316,7 +1317,7 @@ public class MemoryVirtualFileTest {
 
         thrown.expect(ForbiddenException.class);
 
-        file.zip();
+        file.zip(new ByteArrayOutputStream());
     }
 
     @Test
@@ -12,13 +12,17 @@ package org.eclipse.che.api.vfs.search.impl;
 
 import com.google.common.base.Optional;
 
+import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.vfs.ArchiverFactory;
+import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.impl.memory.MemoryVirtualFileSystem;
 import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchOccurrence;
 import org.eclipse.che.api.vfs.search.SearchResult;
+import org.eclipse.che.api.vfs.search.SearchResultEntry;
 import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.commons.lang.NameGenerator;
 import org.mockito.ArgumentMatcher;
@@ -34,11 +38,14 @@ import java.util.List;
 import static com.google.common.collect.Lists.newArrayList;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("Duplicates")
@@ -179,6 +186,106 @@ public class FSLuceneSearcherTest {
         assertEquals(newArrayList("/folder/xxx.txt"), paths);
     }
 
+    @Test
+    public void searchesBySubstringIgnoringCase() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[0]);
+        folder.createFile("zzz.txt", TEST_CONTENT[3]);
+        searcher.init(virtualFileSystem);
+
+        List<String> paths = searcher.search(new QueryExpression().setText("*FLIGHT*")).getFilePaths();
+        assertEquals(newArrayList("/folder/xxx.txt"), paths);
+    }
+
+    @Test
+    public void searchesByRegexp() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[0]);
+        folder.createFile("zzz.txt", TEST_CONTENT[3]);
+        searcher.init(virtualFileSystem);
+
+        List<String> paths = searcher.search(new QueryExpression().setText("/mile.*s/")).getFilePaths();
+        assertEquals(newArrayList("/folder/xxx.txt"), paths);
+        paths = searcher.search(new QueryExpression().setText("/mile.*x/")).getFilePaths();
+        assertTrue(paths.isEmpty());
+    }
+
+    @Test
+    public void includesPositionsOfMatchesInSearchResult() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[1] + "\n" + TEST_CONTENT[0]);
+        searcher.init(virtualFileSystem);
+
+        SearchResult result = searcher.search(new QueryExpression().setText("*Flight*").setIncludePositions(true));
+
+        assertEquals(newArrayList("/folder/xxx.txt"), result.getFilePaths());
+        List<SearchOccurrence> occurrences = result.getResults().get(0).getOccurrences();
+        assertEquals(1, occurrences.size());
+        SearchOccurrence occurrence = occurrences.get(0);
+        assertEquals(2, occurrence.getLineNumber());
+        assertEquals(TEST_CONTENT[0].indexOf("flight"), occurrence.getStartOffset());
+        assertEquals(TEST_CONTENT[0].indexOf("flight") + 6, occurrence.getEndOffset());
+        assertEquals("flight", occurrence.getPhrase());
+        assertEquals(TEST_CONTENT[0], occurrence.getLineContent());
+    }
+
+    @Test
+    public void doesNotIncludePositionsOfMatchesInSearchResultWhenTheyAreNotRequested() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[0]);
+        searcher.init(virtualFileSystem);
+
+        SearchResult result = searcher.search(new QueryExpression().setText("spaceflight"));
+
+        assertTrue(result.getResults().get(0).getOccurrences().isEmpty());
+    }
+
+    @Test
+    public void skipsFileWhichCannotBeReadWhenIncludesPositionsOfMatches() throws Exception {
+        VirtualFileSystem virtualFileSystem = spy(virtualFileSystem());
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        folder.createFile("xxx.txt", TEST_CONTENT[0]);
+        folder.createFile("zzz.txt", TEST_CONTENT[0]);
+        searcher.init(virtualFileSystem);
+
+        VirtualFile unreadableFile = mock(VirtualFile.class);
+        when(unreadableFile.isFile()).thenReturn(true);
+        when(unreadableFile.getContent()).thenThrow(new ForbiddenException("Access denied"));
+        VirtualFile root = spy(virtualFileSystem.getRoot());
+        doReturn(unreadableFile).when(root).getChild(Path.of("/folder/xxx.txt"));
+        doReturn(root).when(virtualFileSystem).getRoot();
+
+        SearchResult result = searcher.search(new QueryExpression().setText("spaceflight").setIncludePositions(true));
+
+        assertEquals(result.getResults().size(), 2);
+        for (SearchResultEntry entry : result.getResults()) {
+            if ("/folder/xxx.txt".equals(entry.getFilePath())) {
+                assertTrue(entry.getOccurrences().isEmpty());
+            } else {
+                assertEquals(entry.getOccurrences().size(), 1);
+            }
+        }
+    }
+
+    @Test
+    public void limitsPageOfSearchWithPositionsWhenPageSizeIsNotSet() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        for (int i = 0; i < 150; i++) {
+            virtualFileSystem.getRoot().createFile(String.format("file%03d", i), TEST_CONTENT[0]);
+        }
+        searcher.init(virtualFileSystem);
+
+        SearchResult result = searcher.search(new QueryExpression().setText("spaceflight").setIncludePositions(true));
+
+        assertEquals(result.getResults().size(), 100);
+        assertEquals(result.getTotalHits(), 150);
+        assertTrue(result.getNextPageQueryExpression().isPresent());
+    }
+
     @Test
     public void searchesByTextAndFileName() throws Exception {
         VirtualFileSystem virtualFileSystem = virtualFileSystem();
@@ -336,6 +443,90 @@ public class FSLuceneSearcherTest {
         assertTrue(Collections.disjoint(firstPage.getFilePaths(), lastPage.getFilePaths()));
     }
 
+    @Test
+    public void generatesCursorForRetrievingNextPageOfResults() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        for (int i = 0; i < 100; i++) {
+            virtualFileSystem.getRoot().createFile(String.format("file%02d", i), TEST_CONTENT[i % TEST_CONTENT.length]);
+        }
+        searcher.init(virtualFileSystem);
+
+        SearchResult firstPage = searcher.search(new QueryExpression().setText("spaceflight").setMaxItems(8));
+        QueryExpression nextPageQueryExpression = firstPage.getNextPageQueryExpression().get();
+        assertNotNull(nextPageQueryExpression.getCursor());
+
+        // index is changed after first page is retrieved, but next page is read from the same view of index
+        virtualFileSystem.getRoot().createFile("file_new", TEST_CONTENT[0]);
+        searcher.add(virtualFileSystem.getRoot().getChild(Path.of("file_new")));
+
+        SearchResult secondPage = searcher.search(nextPageQueryExpression.setMaxItems(100));
+        assertEquals(17, secondPage.getFilePaths().size());
+        assertTrue(Collections.disjoint(firstPage.getFilePaths(), secondPage.getFilePaths()));
+    }
+
+    @Test
+    public void retrievesNextPageWithSkipCountWhenCursorIsNotValid() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        for (int i = 0; i < 100; i++) {
+            virtualFileSystem.getRoot().createFile(String.format("file%02d", i), TEST_CONTENT[i % TEST_CONTENT.length]);
+        }
+        searcher.init(virtualFileSystem);
+
+        SearchResult firstPage = searcher.search(new QueryExpression().setText("spaceflight").setMaxItems(8));
+        QueryExpression nextPageQueryExpression = firstPage.getNextPageQueryExpression().get().setCursor("unknown").setMaxItems(100);
+
+        SearchResult secondPage = searcher.search(nextPageQueryExpression);
+        assertEquals(17, secondPage.getFilePaths().size());
+        assertTrue(Collections.disjoint(firstPage.getFilePaths(), secondPage.getFilePaths()));
+    }
+
+    @Test
+    public void keepsIndexDirectoryWhenPersistentSearcherClosed() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        virtualFileSystem.getRoot().createFolder("folder").createFile("xxx.txt", TEST_CONTENT[2]);
+        FSLuceneSearcher persistentSearcher = new FSLuceneSearcher(indexDirectory, filter, closeCallback, true);
+        persistentSearcher.init(virtualFileSystem);
+
+        persistentSearcher.close();
+
+        assertTrue(indexDirectory.exists());
+        assertTrue(indexDirectory.list().length > 0);
+    }
+
+    @Test
+    public void reconcilesPersistentIndexWithFileSystemOnInit() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        VirtualFile folder = virtualFileSystem.getRoot().createFolder("folder");
+        VirtualFile unchanged = folder.createFile("xxx.txt", TEST_CONTENT[2]);
+        VirtualFile modified = folder.createFile("yyy.txt", TEST_CONTENT[2]);
+        VirtualFile removed = folder.createFile("zzz.txt", TEST_CONTENT[2]);
+        FSLuceneSearcher persistentSearcher = new FSLuceneSearcher(indexDirectory, filter, closeCallback, true);
+        persistentSearcher.init(virtualFileSystem);
+        persistentSearcher.close();
+
+        modified.updateContent(TEST_CONTENT[1]);
+        removed.delete();
+        folder.createFile("aaa.txt", TEST_CONTENT[2]);
+
+        persistentSearcher = new FSLuceneSearcher(indexDirectory, filter, closeCallback, true);
+        try {
+            persistentSearcher.init(virtualFileSystem);
+
+            List<String> paths = persistentSearcher.search(new QueryExpression().setText("be")).getFilePaths();
+            assertEquals(newArrayList("/folder/aaa.txt", unchanged.getPath().toString()), sorted(paths));
+            paths = persistentSearcher.search(new QueryExpression().setText("should")).getFilePaths();
+            assertEquals(newArrayList(modified.getPath().toString()), paths);
+        } finally {
+            persistentSearcher.close();
+        }
+    }
+
+    private static List<String> sorted(List<String> list) {
+        List<String> copy = newArrayList(list);
+        Collections.sort(copy);
+        return copy;
+    }
+
     private VirtualFileSystem virtualFileSystem() throws Exception {
         return new MemoryVirtualFileSystem(mock(ArchiverFactory.class), null);
     }
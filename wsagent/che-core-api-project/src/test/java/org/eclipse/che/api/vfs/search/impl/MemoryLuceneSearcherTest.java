@@ -34,6 +34,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -214,6 +215,55 @@ public class MemoryLuceneSearcherTest {
         verify(closeCallback).onClose();
     }
 
+    @Test
+    public void reusesIndexingThreadsAndStopsThemWhenSearcherClosed() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        virtualFileSystem.getRoot().createFolder("folder").createFile("xxx.txt", TEST_CONTENT[2]);
+        searcher.init(virtualFileSystem);
+        final long threadsAfterInit = countIndexingThreads();
+
+        for (int i = 0; i < 5; i++) {
+            searcher.add(virtualFileSystem.getRoot());
+        }
+        assertEquals(threadsAfterInit, countIndexingThreads());
+
+        searcher.close();
+        for (int i = 0; i < 50 && countIndexingThreads() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, countIndexingThreads());
+    }
+
+    @Test
+    public void readsContentOfFileOnceWhenAddsItInIndex() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        searcher.init(virtualFileSystem);
+        VirtualFile file = spy(virtualFileSystem.getRoot().createFolder("aaa").createFile("aaa.txt", TEST_CONTENT[1]));
+
+        searcher.add(file);
+
+        verify(file).getContent();
+        assertEquals(newArrayList("/aaa/aaa.txt"), searcher.search(new QueryExpression().setText("should")).getFilePaths());
+        assertEquals(newArrayList("/aaa/aaa.txt"), searcher.search(new QueryExpression().setText("*hink*")).getFilePaths());
+    }
+
+    @Test
+    public void streamsContentOfLargeFileToIndex() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        searcher.init(virtualFileSystem);
+        StringBuilder content = new StringBuilder();
+        while (content.length() <= 1024 * 1024) {
+            content.append(TEST_CONTENT[0]).append('\n');
+        }
+        content.append(TEST_CONTENT[1]);
+        VirtualFile file = virtualFileSystem.getRoot().createFolder("aaa").createFile("aaa.txt", content.toString());
+
+        searcher.add(file);
+
+        assertEquals(newArrayList("/aaa/aaa.txt"), searcher.search(new QueryExpression().setText("should")).getFilePaths());
+        assertEquals(newArrayList("/aaa/aaa.txt"), searcher.search(new QueryExpression().setText("*hink*")).getFilePaths());
+    }
+
     @Test
     public void excludesFilesFromIndexWithFilter() throws Exception {
         VirtualFileSystem virtualFileSystem = virtualFileSystem();
@@ -284,6 +334,14 @@ public class MemoryLuceneSearcherTest {
         assertTrue(Collections.disjoint(firstPage.getFilePaths(), lastPage.getFilePaths()));
     }
 
+    private static long countIndexingThreads() {
+        return Thread.getAllStackTraces()
+                     .keySet()
+                     .stream()
+                     .filter(thread -> thread.isAlive() && thread.getName().startsWith("LuceneIndexerThread"))
+                     .count();
+    }
+
     private VirtualFileSystem virtualFileSystem() throws Exception {
         return new MemoryVirtualFileSystem(mock(ArchiverFactory.class), null);
     }
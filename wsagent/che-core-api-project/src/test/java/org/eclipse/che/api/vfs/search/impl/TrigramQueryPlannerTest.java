@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search.impl;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.testng.Assert.assertEquals;
+
+public class TrigramQueryPlannerTest {
+    @DataProvider
+    public Object[][] regexps() {
+        return new Object[][]{
+                {"spaceflight", newArrayList("spaceflight")},
+                {"space.*flight", newArrayList("space", "flight")},
+                {"spaces?flight", newArrayList("space", "flight")},
+                {"mile[s]?stones{1,2}", newArrayList("mile", "stone")},
+                {"ab(cdef)?ghi", newArrayList("ghi")},
+                {"apollo\\.set", newArrayList("apollo.set")},
+                {"apollo|gemini", Collections.<String>emptyList()},
+                {"a.b.c", Collections.<String>emptyList()}
+        };
+    }
+
+    @Test(dataProvider = "regexps")
+    public void extractsRequiredLiteralsFromRegexp(String regexp, List<String> expectedLiterals) throws Exception {
+        assertEquals(TrigramQueryPlanner.requiredLiterals(regexp), expectedLiterals);
+    }
+}
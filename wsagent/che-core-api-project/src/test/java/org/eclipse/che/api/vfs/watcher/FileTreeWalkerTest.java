@@ -16,6 +16,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -29,13 +30,16 @@ import java.util.function.Consumer;
 import static java.io.File.createTempFile;
 import static java.lang.Thread.sleep;
 import static org.apache.commons.io.FileUtils.write;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for {@link FileTreeWalker}
  */
-@SuppressWarnings({"WeakerAccess", "ResultOfMethodCallIgnored"})
+@SuppressWarnings({"WeakerAccess", "ResultOfMethodCallIgnored", "unchecked"})
 @RunWith(MockitoJUnitRunner.class)
 public class FileTreeWalkerTest {
     static final int FS_LATENCY_DELAY = 1_000;
@@ -72,17 +76,27 @@ public class FileTreeWalkerTest {
     @Mock
     Consumer<Path> directoryDeleteConsumerMock;
 
+    @Mock
+    FileWatcherService fileWatcherService;
+
     @Before
     public void setUp() throws Exception {
-        fileTreeWalker = new FileTreeWalker(rootFolder.getRoot(),
-                                            directoryUpdateConsumers,
-                                            directoryCreateConsumers,
-                                            directoryDeleteConsumers,
-                                            directoryExcludes,
-                                            fileUpdateConsumers,
-                                            fileCreateConsumers,
-                                            fileDeleteConsumers,
-                                            fileExcludes);
+        when(fileWatcherService.register(any(Path.class))).thenReturn(true);
+        fileTreeWalker = createFileTreeWalker(0);
+    }
+
+    FileTreeWalker createFileTreeWalker(long fullSweepPeriod) {
+        return new FileTreeWalker(rootFolder.getRoot(),
+                                  fileWatcherService,
+                                  fullSweepPeriod,
+                                  directoryUpdateConsumers,
+                                  directoryCreateConsumers,
+                                  directoryDeleteConsumers,
+                                  directoryExcludes,
+                                  fileUpdateConsumers,
+                                  fileCreateConsumers,
+                                  fileDeleteConsumers,
+                                  fileExcludes);
     }
 
     @After
@@ -198,4 +212,60 @@ public class FileTreeWalkerTest {
         fileTreeWalker.walk();
         verify(directoryCreatedConsumerMock, never()).accept(file.toPath());
     }
+
+    @Test
+    public void shouldWalkOnlyChangedDirectoriesBetweenFullSweeps() throws Exception {
+        ArgumentCaptor<Consumer<Path>> listener = ArgumentCaptor.forClass((Class)Consumer.class);
+        fileTreeWalker = createFileTreeWalker(3600);
+        verify(fileWatcherService, times(2)).addDirectoryListener(listener.capture());
+        fileCreateConsumers.add(fileCreatedConsumerMock);
+
+        File folder = rootFolder.newFolder(TEST_FOLDER_NAME);
+        fileTreeWalker.walk();
+        verify(fileWatcherService).register(folder.toPath());
+
+        File file = new File(folder, TEST_FILE_NAME);
+        write(file, TEST_FILE_CONTENT);
+        fileTreeWalker.walk();
+        verify(fileCreatedConsumerMock, never()).accept(file.toPath());
+
+        listener.getValue().accept(folder.toPath());
+        fileTreeWalker.walk();
+        verify(fileCreatedConsumerMock).accept(file.toPath());
+    }
+
+    @Test
+    public void shouldStopWatchingDeletedDirectory() throws Exception {
+        directoryDeleteConsumers.add(directoryDeleteConsumerMock);
+        fileDeleteConsumers.add(fileDeleteConsumerMock);
+
+        File folder = rootFolder.newFolder(TEST_FOLDER_NAME);
+        File file = new File(folder, TEST_FILE_NAME);
+        write(file, TEST_FILE_CONTENT);
+        fileTreeWalker.walk();
+
+        file.delete();
+        folder.delete();
+        fileTreeWalker.walk();
+
+        verify(fileDeleteConsumerMock).accept(file.toPath());
+        verify(directoryDeleteConsumerMock).accept(folder.toPath());
+        verify(fileWatcherService).unRegister(folder.toPath());
+    }
+
+    @Test
+    public void shouldSweepWholeTreeOnEveryRunWhenDirectoryCannotBeWatched() throws Exception {
+        fileTreeWalker = createFileTreeWalker(3600);
+        fileCreateConsumers.add(fileCreatedConsumerMock);
+
+        File folder = rootFolder.newFolder(TEST_FOLDER_NAME);
+        when(fileWatcherService.register(folder.toPath())).thenReturn(false);
+        fileTreeWalker.walk();
+        verify(fileWatcherService).unRegister(rootFolder.getRoot().toPath().normalize().toAbsolutePath());
+
+        File file = new File(folder, TEST_FILE_NAME);
+        write(file, TEST_FILE_CONTENT);
+        fileTreeWalker.walk();
+        verify(fileCreatedConsumerMock).accept(file.toPath());
+    }
 }
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.shared;
+
+import org.eclipse.che.api.core.model.workspace.Workspace;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+
+/**
+ * Lightweight view of the {@link Workspace} which contains only the data
+ * needed for listing workspaces, e.g. neither configuration nor runtime.
+ */
+public interface WorkspaceSummary {
+
+    /** Returns the identifier of the workspace. */
+    String getId();
+
+    /** Returns the name of the workspace, the same as {@code workspace.config.name}. */
+    String getName();
+
+    /** Returns the namespace of the workspace. */
+    String getNamespace();
+
+    /**
+     * Returns the status of the workspace.
+     * The workspace which doesn't have runtime is {@link WorkspaceStatus#STOPPED}.
+     */
+    WorkspaceStatus getStatus();
+
+    /**
+     * Returns the time of the last workspace update in milliseconds,
+     * or the time of workspace creation if the workspace has never been updated.
+     * Returns 0 if neither of them is known.
+     */
+    long getUpdated();
+}
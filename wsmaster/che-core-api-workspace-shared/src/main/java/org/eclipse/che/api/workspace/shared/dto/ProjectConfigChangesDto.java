@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+import java.util.List;
+
+/**
+ * Set of changes of workspace projects that is applied at once.
+ * Removals are applied before updates.
+ */
+@DTO
+public interface ProjectConfigChangesDto {
+
+    /** Projects to add or to replace, project is matched by its path. */
+    List<ProjectConfigDto> getUpdated();
+
+    void setUpdated(List<ProjectConfigDto> updated);
+
+    ProjectConfigChangesDto withUpdated(List<ProjectConfigDto> updated);
+
+    /** Paths of projects to remove. */
+    List<String> getRemoved();
+
+    void setRemoved(List<String> removed);
+
+    ProjectConfigChangesDto withRemoved(List<String> removed);
+}
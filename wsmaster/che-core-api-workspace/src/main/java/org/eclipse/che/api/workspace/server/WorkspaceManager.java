@@ -18,6 +18,7 @@ import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.workspace.Workspace;
@@ -33,6 +34,7 @@ import org.eclipse.che.api.machine.server.spi.SnapshotDao;
 import org.eclipse.che.api.workspace.server.event.WorkspaceCreatedEvent;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType;
 import org.eclipse.che.commons.annotation.Nullable;
@@ -316,6 +318,64 @@ public class WorkspaceManager {
         return workspaces;
     }
 
+    /**
+     * Gets a page of summaries of workspaces which user can read.
+     *
+     * <p>Unlike {@link #getWorkspaces(String, boolean)} neither configurations
+     * nor runtimes are loaded, use {@link #getWorkspace(String)} to get them on demand.
+     * Returned summaries have either {@link WorkspaceStatus#STOPPED} status
+     * or status defined by their runtime instances(if those exist).
+     *
+     * @param user
+     *         the id of the user
+     * @param maxItems
+     *         the maximum number of summaries to return
+     * @param skipCount
+     *         the number of summaries to skip
+     * @return the page of workspace summaries
+     * @throws NullPointerException
+     *         when {@code user} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is non-positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any server error occurs while getting summaries with {@link WorkspaceDao#getSummaries(String, int, long)}
+     */
+    public Page<WorkspaceSummaryImpl> getWorkspaceSummaries(String user, int maxItems, long skipCount) throws ServerException {
+        requireNonNull(user, "Required non-null user id");
+        final Page<WorkspaceSummaryImpl> summaries = workspaceDao.getSummaries(user, maxItems, skipCount);
+        injectStatus(summaries);
+        return summaries;
+    }
+
+    /**
+     * Gets a page of summaries of workspaces which have given namespace.
+     *
+     * <p>Unlike {@link #getByNamespace(String, boolean)} neither configurations
+     * nor runtimes are loaded, use {@link #getWorkspace(String)} to get them on demand.
+     * Returned summaries have either {@link WorkspaceStatus#STOPPED} status
+     * or status defined by their runtime instances(if those exist).
+     *
+     * @param namespace
+     *         the namespace to find workspaces
+     * @param maxItems
+     *         the maximum number of summaries to return
+     * @param skipCount
+     *         the number of summaries to skip
+     * @return the page of workspace summaries
+     * @throws NullPointerException
+     *         when {@code namespace} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is non-positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any server error occurs while getting summaries with {@link WorkspaceDao#getSummariesByNamespace(String, int, long)}
+     */
+    public Page<WorkspaceSummaryImpl> getSummariesByNamespace(String namespace, int maxItems, long skipCount) throws ServerException {
+        requireNonNull(namespace, "Required non-null namespace");
+        final Page<WorkspaceSummaryImpl> summaries = workspaceDao.getSummariesByNamespace(namespace, maxItems, skipCount);
+        injectStatus(summaries);
+        return summaries;
+    }
+
     /**
      * Updates an existing workspace with a new configuration.
      *
@@ -938,6 +998,12 @@ public class WorkspaceManager {
         }
     }
 
+    private void injectStatus(Page<WorkspaceSummaryImpl> summaries) {
+        for (WorkspaceSummaryImpl summary : summaries.getItems()) {
+            summary.setStatus(runtimes.getStatus(summary.getId()));
+        }
+    }
+
     /** Adds attributes that are not originally stored in workspace but should be published. */
     private void addExtraAttributes(WorkspaceImpl workspace) throws SnapshotException {
         // snapshotted_at
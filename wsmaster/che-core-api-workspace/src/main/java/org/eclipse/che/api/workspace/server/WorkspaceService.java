@@ -26,6 +26,7 @@ import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.rest.Service;
@@ -37,11 +38,14 @@ import org.eclipse.che.api.machine.shared.dto.SnapshotDto;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentRecipeDto;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigChangesDto;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceSummaryDto;
 import org.eclipse.che.api.workspace.shared.dto.WsAgentHealthStateDto;
 import org.eclipse.che.commons.env.EnvironmentContext;
 
@@ -60,8 +64,11 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
 import static java.lang.String.format;
@@ -246,6 +253,64 @@ public class WorkspaceService extends Service {
                                .collect(toList());
     }
 
+    @GET
+    @Path("/summary")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get summaries of workspaces which user can read",
+                  notes = "Summaries don't contain workspace configurations, " +
+                          "the configuration of a particular workspace can be fetched by its id",
+                  response = WorkspaceSummaryDto.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "The summaries successfully fetched"),
+                   @ApiResponse(code = 400, message = "Paging parameters are not valid"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred during summaries fetching")})
+    public Response getSummaries(@ApiParam("The number of the items to skip")
+                                 @DefaultValue("0")
+                                 @QueryParam("skipCount")
+                                 Integer skipCount,
+                                 @ApiParam("The limit of the items in the response, default is 30")
+                                 @DefaultValue("30")
+                                 @QueryParam("maxItems")
+                                 Integer maxItems) throws ServerException, BadRequestException {
+        checkPagingParameters(maxItems, skipCount);
+        final Page<WorkspaceSummaryImpl> page =
+                workspaceManager.getWorkspaceSummaries(EnvironmentContext.getCurrent().getSubject().getUserId(), maxItems, skipCount);
+        return Response.ok()
+                       .entity(page.getItems(DtoConverter::asDto))
+                       .header("Link", createLinkHeader(page))
+                       .build();
+    }
+
+    @GET
+    @Path("/summary/namespace/{namespace:.*}")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get summaries of workspaces by given namespace",
+                  notes = "Summaries don't contain workspace configurations, " +
+                          "the configuration of a particular workspace can be fetched by its id",
+                  response = WorkspaceSummaryDto.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "The summaries successfully fetched"),
+                   @ApiResponse(code = 400, message = "Paging parameters are not valid"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred during summaries fetching")})
+    public Response getSummariesByNamespace(@ApiParam("The namespace")
+                                            @PathParam("namespace")
+                                            String namespace,
+                                            @ApiParam("The number of the items to skip")
+                                            @DefaultValue("0")
+                                            @QueryParam("skipCount")
+                                            Integer skipCount,
+                                            @ApiParam("The limit of the items in the response, default is 30")
+                                            @DefaultValue("30")
+                                            @QueryParam("maxItems")
+                                            Integer maxItems) throws ServerException, BadRequestException {
+        checkPagingParameters(maxItems, skipCount);
+        final Page<WorkspaceSummaryImpl> page = workspaceManager.getSummariesByNamespace(namespace, maxItems, skipCount);
+        return Response.ok()
+                       .entity(page.getItems(DtoConverter::asDto))
+                       .header("Link", createLinkHeader(page))
+                       .build();
+    }
+
     @PUT
     @Path("/{id}")
     @Consumes(APPLICATION_JSON)
@@ -692,6 +757,53 @@ public class WorkspaceService extends Service {
         }
     }
 
+    @POST
+    @Path("/{id}/projects")
+    @Consumes(APPLICATION_JSON)
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Apply set of project changes to the workspace",
+                  notes = "Removes and adds or replaces workspace projects with single update of the workspace. " +
+                          "This operation can be performed only by the workspace owner")
+    @ApiResponses({@ApiResponse(code = 200, message = "The projects successfully updated"),
+                   @ApiResponse(code = 400, message = "Missed required parameters, parameters are not valid"),
+                   @ApiResponse(code = 403, message = "The user does not have access to update the projects"),
+                   @ApiResponse(code = 404, message = "The workspace not found"),
+                   @ApiResponse(code = 409, message = "Any conflict error occurs"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred")})
+    public WorkspaceDto updateProjects(@ApiParam("The workspace id")
+                                       @PathParam("id")
+                                       String id,
+                                       @ApiParam(value = "The project changes", required = true)
+                                       ProjectConfigChangesDto changes) throws ServerException,
+                                                                               BadRequestException,
+                                                                               NotFoundException,
+                                                                               ConflictException,
+                                                                               ForbiddenException {
+        requiredNotNull(changes, "Project changes");
+        final WorkspaceImpl workspace = workspaceManager.getWorkspace(id);
+        final List<ProjectConfigImpl> projects = workspace.getConfig().getProjects();
+        final Set<String> removed = new HashSet<>();
+        for (String path : changes.getRemoved()) {
+            removed.add(path.startsWith("/") ? path : '/' + path);
+        }
+        final List<ProjectConfigImpl> updated = new ArrayList<>(changes.getUpdated().size());
+        for (ProjectConfigDto update : changes.getUpdated()) {
+            final ProjectConfigImpl project = new ProjectConfigImpl(update);
+            if (project.getPath() != null && !project.getPath().startsWith("/")) {
+                project.setPath('/' + project.getPath());
+            }
+            removed.add(project.getPath());
+            updated.add(project);
+        }
+        final boolean modified = projects.removeIf(project -> removed.contains(project.getPath()));
+        if (!modified && updated.isEmpty()) {
+            return linksInjector.injectLinks(asDto(workspace), getServiceContext());
+        }
+        projects.addAll(updated);
+        validator.validateConfig(workspace.getConfig());
+        return linksInjector.injectLinks(asDto(workspaceManager.updateWorkspace(id, workspace)), getServiceContext());
+    }
+
     @GET
     @Path("/{id}/check")
     @Produces(APPLICATION_JSON)
@@ -763,6 +875,15 @@ public class WorkspaceService extends Service {
         }
     }
 
+    private void checkPagingParameters(Integer maxItems, Integer skipCount) throws BadRequestException {
+        if (maxItems == null || maxItems <= 0) {
+            throw new BadRequestException("The number of items to return must be positive");
+        }
+        if (skipCount == null || skipCount < 0) {
+            throw new BadRequestException("The number of items to skip can't be negative");
+        }
+    }
+
     /*
      * Validate composite key.
      *
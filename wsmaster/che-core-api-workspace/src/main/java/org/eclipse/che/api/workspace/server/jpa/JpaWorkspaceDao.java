@@ -15,6 +15,7 @@ import com.google.inject.persist.Transactional;
 import org.eclipse.che.account.event.BeforeAccountRemovedEvent;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
@@ -22,6 +23,7 @@ import org.eclipse.che.api.workspace.server.event.BeforeWorkspaceRemovedEvent;
 import org.eclipse.che.api.workspace.server.event.WorkspaceRemovedEvent;
 import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.core.db.cascade.CascadeEventSubscriber;
 import org.eclipse.che.core.db.jpa.DuplicateKeyException;
@@ -33,14 +35,20 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
+import javax.persistence.TypedQuery;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.che.api.workspace.server.WorkspaceManager.CREATED_ATTRIBUTE_NAME;
+import static org.eclipse.che.api.workspace.server.WorkspaceManager.UPDATED_ATTRIBUTE_NAME;
 
 /**
  * JPA based implementation of {@link WorkspaceDao}.
@@ -183,6 +191,77 @@ public class JpaWorkspaceDao implements WorkspaceDao {
         }
     }
 
+    @Override
+    @Transactional
+    public Page<WorkspaceSummaryImpl> getSummaries(String userId, int maxItems, long skipCount) throws ServerException {
+        checkPagingArguments(maxItems, skipCount);
+        try {
+            final EntityManager manager = managerProvider.get();
+            final TypedQuery<WorkspaceSummaryImpl> query = manager.createNamedQuery("Workspace.getSummaries", WorkspaceSummaryImpl.class);
+            final long totalCount = manager.createNamedQuery("Workspace.getTotalCount", Long.class).getSingleResult();
+            return new Page<>(getSummaries(query, maxItems, skipCount), skipCount, maxItems, totalCount);
+        } catch (RuntimeException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Page<WorkspaceSummaryImpl> getSummariesByNamespace(String namespace, int maxItems, long skipCount) throws ServerException {
+        requireNonNull(namespace, "Required non-null namespace");
+        checkPagingArguments(maxItems, skipCount);
+        try {
+            final EntityManager manager = managerProvider.get();
+            final TypedQuery<WorkspaceSummaryImpl> query = manager.createNamedQuery("Workspace.getSummariesByNamespace",
+                                                                                    WorkspaceSummaryImpl.class)
+                                                                  .setParameter("namespace", namespace);
+            final long totalCount = manager.createNamedQuery("Workspace.getNamespaceCount", Long.class)
+                                           .setParameter("namespace", namespace)
+                                           .getSingleResult();
+            return new Page<>(getSummaries(query, maxItems, skipCount), skipCount, maxItems, totalCount);
+        } catch (RuntimeException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+    }
+
+    /**
+     * Fetches a page of summaries and then the time attributes of all of them with a single query,
+     * so neither workspace configurations nor other attributes are loaded.
+     */
+    private List<WorkspaceSummaryImpl> getSummaries(TypedQuery<WorkspaceSummaryImpl> query, int maxItems, long skipCount) {
+        final List<WorkspaceSummaryImpl> summaries = query.setMaxResults(maxItems)
+                                                          .setFirstResult((int)skipCount)
+                                                          .getResultList();
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        final Map<String, WorkspaceSummaryImpl> byId = new HashMap<>();
+        summaries.forEach(summary -> byId.put(summary.getId(), summary));
+        final List<Object[]> attributes = managerProvider.get()
+                                                         .createNamedQuery("Workspace.getAttributes", Object[].class)
+                                                         .setParameter("ids", byId.keySet())
+                                                         .setParameter("names", asList(CREATED_ATTRIBUTE_NAME, UPDATED_ATTRIBUTE_NAME))
+                                                         .getResultList();
+        for (Object[] attribute : attributes) {
+            final WorkspaceSummaryImpl summary = byId.get((String)attribute[0]);
+            // updated attribute wins over the created one
+            if (summary != null && (summary.getUpdated() == 0 || UPDATED_ATTRIBUTE_NAME.equals(attribute[1]))) {
+                try {
+                    summary.setUpdated(Long.parseLong((String)attribute[2]));
+                } catch (NumberFormatException ignored) {
+                    // attribute is not a time, leave the summary as is
+                }
+            }
+        }
+        return summaries;
+    }
+
+    private static void checkPagingArguments(int maxItems, long skipCount) {
+        checkArgument(maxItems > 0, "The number of items to return must be positive.");
+        checkArgument(skipCount >= 0 && skipCount <= Integer.MAX_VALUE,
+                      "The number of items to skip can't be negative or greater than " + Integer.MAX_VALUE);
+    }
+
     @Transactional
     protected void doCreate(WorkspaceImpl workspace) {
         if (workspace.getConfig() != null) {
@@ -61,7 +61,25 @@ import java.util.Objects;
                 @NamedQuery(name = "Workspace.getAll",
                             query = "SELECT w FROM Workspace w"),
                 @NamedQuery(name = "Workspace.getByTemporary",
-                            query = "SELECT w FROM Workspace w WHERE w.isTemporary = :temporary")
+                            query = "SELECT w FROM Workspace w WHERE w.isTemporary = :temporary"),
+                @NamedQuery(name = "Workspace.getSummaries",
+                            query = "SELECT NEW org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl(w.id, w.name, w.account.name) " +
+                                    "FROM Workspace w " +
+                                    "ORDER BY w.id"),
+                @NamedQuery(name = "Workspace.getSummariesByNamespace",
+                            query = "SELECT NEW org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl(w.id, w.name, w.account.name) " +
+                                    "FROM Workspace w " +
+                                    "WHERE w.account.name = :namespace " +
+                                    "ORDER BY w.id"),
+                @NamedQuery(name = "Workspace.getTotalCount",
+                            query = "SELECT COUNT(w) FROM Workspace w"),
+                @NamedQuery(name = "Workspace.getNamespaceCount",
+                            query = "SELECT COUNT(w) FROM Workspace w WHERE w.account.name = :namespace"),
+                @NamedQuery(name = "Workspace.getAttributes",
+                            query = "SELECT w.id, KEY(attr), VALUE(attr) " +
+                                    "FROM Workspace w " +
+                                    "JOIN w.attributes attr " +
+                                    "WHERE w.id IN :ids AND KEY(attr) IN :names")
 
         }
 )
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2017 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server.model.impl;
+
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.workspace.shared.WorkspaceSummary;
+
+import java.util.Objects;
+
+/**
+ * Data object for {@link WorkspaceSummary}.
+ *
+ * <p>It is not an entity, instances are created by JPQL constructor
+ * expressions, so fetching of summaries doesn't load workspace configurations.
+ */
+public class WorkspaceSummaryImpl implements WorkspaceSummary {
+
+    private String          id;
+    private String          name;
+    private String          namespace;
+    private WorkspaceStatus status;
+    private long            updated;
+
+    public WorkspaceSummaryImpl(String id, String name, String namespace) {
+        this.id = id;
+        this.name = name;
+        this.namespace = namespace;
+    }
+
+    public WorkspaceSummaryImpl(WorkspaceSummary summary) {
+        this(summary.getId(), summary.getName(), summary.getNamespace());
+        this.status = summary.getStatus();
+        this.updated = summary.getUpdated();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getNamespace() {
+        return namespace;
+    }
+
+    @Override
+    public WorkspaceStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(WorkspaceStatus status) {
+        this.status = status;
+    }
+
+    @Override
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WorkspaceSummaryImpl)) {
+            return false;
+        }
+        final WorkspaceSummaryImpl that = (WorkspaceSummaryImpl)obj;
+        return updated == that.updated
+               && Objects.equals(id, that.id)
+               && Objects.equals(name, that.name)
+               && Objects.equals(namespace, that.namespace)
+               && Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + Objects.hashCode(id);
+        hash = 31 * hash + Objects.hashCode(name);
+        hash = 31 * hash + Objects.hashCode(namespace);
+        hash = 31 * hash + Objects.hashCode(status);
+        hash = 31 * hash + Long.hashCode(updated);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkspaceSummaryImpl{" +
+               "id='" + id + '\'' +
+               ", name='" + name + '\'' +
+               ", namespace='" + namespace + '\'' +
+               ", status=" + status +
+               ", updated=" + updated +
+               '}';
+    }
+}
@@ -12,8 +12,10 @@ package org.eclipse.che.api.workspace.server.spi;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 
 import java.util.List;
 
@@ -159,4 +161,46 @@ public interface WorkspaceDao {
      *         when {@code maxItems} or {@code skipCount} is negative
      */
     List<WorkspaceImpl> getWorkspaces(boolean isTemporary, int skipCount, int maxItems) throws ServerException;
+
+    /**
+     * Gets summaries of workspaces which user can read.
+     *
+     * <p>Summaries are fetched without loading workspace configurations,
+     * status of returned summaries is not set.
+     *
+     * @param userId
+     *         id of user
+     * @param maxItems
+     *         the maximum number of summaries to return
+     * @param skipCount
+     *         the number of summaries to skip
+     * @return page of workspace summaries ordered by workspace id
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is non-positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any other error occurs during summaries fetching
+     */
+    Page<WorkspaceSummaryImpl> getSummaries(String userId, int maxItems, long skipCount) throws ServerException;
+
+    /**
+     * Gets summaries of workspaces in given namespace.
+     *
+     * <p>Summaries are fetched without loading workspace configurations,
+     * status of returned summaries is not set.
+     *
+     * @param namespace
+     *         workspace namespace
+     * @param maxItems
+     *         the maximum number of summaries to return
+     * @param skipCount
+     *         the number of summaries to skip
+     * @return page of workspace summaries ordered by workspace id
+     * @throws NullPointerException
+     *         when {@code namespace} is null
+     * @throws IllegalArgumentException
+     *         when {@code maxItems} is non-positive or {@code skipCount} is negative
+     * @throws ServerException
+     *         when any other error occurs during summaries fetching
+     */
+    Page<WorkspaceSummaryImpl> getSummariesByNamespace(String namespace, int maxItems, long skipCount) throws ServerException;
 }
@@ -16,6 +16,7 @@ import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.workspace.ExtendedMachine;
@@ -37,6 +38,7 @@ import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.api.workspace.shared.Constants;
 import org.eclipse.che.commons.env.EnvironmentContext;
@@ -943,6 +945,34 @@ public class WorkspaceManagerTest {
         assertEquals(workspaces.get(0).getAttributes().get(SNAPSHOTTED_AT_ATTRIBUTE_NAME), "12345");
     }
 
+    @Test
+    public void shouldGetWorkspaceSummariesWithStatusesAndWithoutLoadingWorkspaces() throws Exception {
+        final WorkspaceSummaryImpl running = new WorkspaceSummaryImpl("ws1", "name1", NAMESPACE);
+        final WorkspaceSummaryImpl stopped = new WorkspaceSummaryImpl("ws2", "name2", NAMESPACE);
+        when(workspaceDao.getSummaries(USER_ID, 2, 0)).thenReturn(new Page<>(asList(running, stopped), 0, 2, 2));
+        when(runtimes.getStatus("ws1")).thenReturn(RUNNING);
+        when(runtimes.getStatus("ws2")).thenReturn(STOPPED);
+
+        final Page<WorkspaceSummaryImpl> result = workspaceManager.getWorkspaceSummaries(USER_ID, 2, 0);
+
+        assertEquals(result.getItems().get(0).getStatus(), RUNNING);
+        assertEquals(result.getItems().get(1).getStatus(), STOPPED);
+        verify(workspaceDao, never()).getWorkspaces(anyString());
+        verify(snapshotDao, never()).findSnapshots(anyString());
+    }
+
+    @Test
+    public void shouldGetWorkspaceSummariesByNamespace() throws Exception {
+        final WorkspaceSummaryImpl summary = new WorkspaceSummaryImpl("ws1", "name1", NAMESPACE);
+        when(workspaceDao.getSummariesByNamespace(NAMESPACE, 30, 0)).thenReturn(new Page<>(singletonList(summary), 0, 30, 1));
+        when(runtimes.getStatus("ws1")).thenReturn(RUNNING);
+
+        final Page<WorkspaceSummaryImpl> result = workspaceManager.getSummariesByNamespace(NAMESPACE, 30, 0);
+
+        assertEquals(result.getItems().size(), 1);
+        assertEquals(result.getItems().get(0).getStatus(), RUNNING);
+    }
+
     @Test
     public void snapshottedAtAttributeIncludedToWorkspaceWhenStartingById() throws Exception {
         WorkspaceImpl workspace = createAndMockWorkspace();
@@ -20,6 +20,7 @@ import com.jayway.restassured.response.Response;
 import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.agent.server.WsAgentHealthChecker;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
@@ -43,14 +44,18 @@ import org.eclipse.che.api.machine.shared.dto.SnapshotDto;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentRecipeImpl;
 import org.eclipse.che.api.workspace.server.model.impl.ExtendedMachineImpl;
+import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.shared.dto.EnvironmentDto;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigChangesDto;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
+import org.eclipse.che.api.workspace.shared.dto.WorkspaceSummaryDto;
 import org.eclipse.che.api.workspace.shared.dto.WsAgentHealthStateDto;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.SubjectImpl;
@@ -114,6 +119,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
@@ -359,6 +365,57 @@ public class WorkspaceServiceTest {
                      asList(workspace1, workspace2));
     }
 
+    @Test
+    public void shouldGetWorkspaceSummaries() throws Exception {
+        final WorkspaceSummaryImpl summary1 = new WorkspaceSummaryImpl("ws1", "name1", NAMESPACE);
+        summary1.setStatus(RUNNING);
+        summary1.setUpdated(100);
+        final WorkspaceSummaryImpl summary2 = new WorkspaceSummaryImpl("ws2", "name2", NAMESPACE);
+        summary2.setStatus(WorkspaceStatus.STOPPED);
+        when(wsManager.getWorkspaceSummaries(USER_ID, 2, 2)).thenReturn(new Page<>(asList(summary1, summary2), 2, 2, 5));
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace/summary?skipCount=2&maxItems=2");
+
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(unwrapDtoList(response, WorkspaceSummaryDto.class).stream()
+                                                                       .map(WorkspaceSummaryImpl::new)
+                                                                       .collect(toList()),
+                     asList(summary1, summary2));
+        assertNotNull(response.getHeader("Link"));
+        verify(wsManager, never()).getWorkspaces(anyString(), anyBoolean());
+    }
+
+    @Test
+    public void shouldGetWorkspaceSummariesByNamespace() throws Exception {
+        final WorkspaceSummaryImpl summary = new WorkspaceSummaryImpl("ws1", "name1", NAMESPACE);
+        summary.setStatus(WorkspaceStatus.STOPPED);
+        when(wsManager.getSummariesByNamespace(NAMESPACE, 30, 0)).thenReturn(new Page<>(singletonList(summary), 0, 30, 1));
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace/summary/namespace/" + NAMESPACE);
+
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(unwrapDtoList(response, WorkspaceSummaryDto.class).stream()
+                                                                       .map(WorkspaceSummaryImpl::new)
+                                                                       .collect(toList()),
+                     singletonList(summary));
+    }
+
+    @Test
+    public void shouldRespondBadRequestWhenGettingSummariesWithNonPositiveLimit() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace/summary?maxItems=0");
+
+        assertEquals(response.getStatusCode(), 400);
+    }
+
     @Test
     public void shouldGetWorkspacesByStatus() throws Exception {
         final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
@@ -805,6 +862,79 @@ public class WorkspaceServiceTest {
         verify(wsManager).updateWorkspace(any(), any());
     }
 
+    @Test
+    public void shouldApplyProjectChangesWithSingleWorkspaceUpdate() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto());
+        when(wsManager.getWorkspace(workspace.getId())).thenReturn(workspace);
+        when(wsManager.updateWorkspace(any(), any())).thenReturn(workspace);
+        final String removedPath = workspace.getConfig().getProjects().iterator().next().getPath();
+        final ProjectConfigDto added = createProjectDto().withPath("/added");
+        final ProjectConfigChangesDto changes = newDto(ProjectConfigChangesDto.class).withUpdated(singletonList(added))
+                                                                                     .withRemoved(singletonList(removedPath));
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .contentType("application/json")
+                                         .body(changes)
+                                         .when()
+                                         .post(SECURE_PATH + "/workspace/" + workspace.getId() + "/projects");
+
+        assertEquals(response.getStatusCode(), 200);
+        final List<String> paths = workspace.getConfig()
+                                            .getProjects()
+                                            .stream()
+                                            .map(ProjectConfig::getPath)
+                                            .collect(Collectors.toList());
+        assertFalse(paths.contains(removedPath));
+        assertTrue(paths.contains("/added"));
+        verify(validator).validateConfig(workspace.getConfig());
+        verify(wsManager).updateWorkspace(any(), any());
+    }
+
+    @Test
+    public void shouldReplaceProjectWhichPathIsUpdatedWithoutLeadingSlash() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto());
+        when(wsManager.getWorkspace(workspace.getId())).thenReturn(workspace);
+        when(wsManager.updateWorkspace(any(), any())).thenReturn(workspace);
+        final int projectsCount = workspace.getConfig().getProjects().size();
+        final String path = workspace.getConfig().getProjects().iterator().next().getPath();
+        final ProjectConfigDto update = createProjectDto().withPath(path.substring(1))
+                                                          .withDescription("updated");
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .contentType("application/json")
+                                         .body(newDto(ProjectConfigChangesDto.class).withUpdated(singletonList(update)))
+                                         .when()
+                                         .post(SECURE_PATH + "/workspace/" + workspace.getId() + "/projects");
+
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(workspace.getConfig().getProjects().size(), projectsCount);
+        final List<ProjectConfigImpl> replaced = workspace.getConfig()
+                                                          .getProjects()
+                                                          .stream()
+                                                          .filter(project -> project.getPath().equals(path))
+                                                          .collect(Collectors.toList());
+        assertEquals(replaced.size(), 1);
+        assertEquals(replaced.get(0).getDescription(), "updated");
+    }
+
+    @Test
+    public void shouldNotUpdateWorkspaceWhenProjectChangesAreEmpty() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto());
+        when(wsManager.getWorkspace(workspace.getId())).thenReturn(workspace);
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .contentType("application/json")
+                                         .body(newDto(ProjectConfigChangesDto.class).withRemoved(singletonList("/unknown")))
+                                         .when()
+                                         .post(SECURE_PATH + "/workspace/" + workspace.getId() + "/projects");
+
+        assertEquals(response.getStatusCode(), 200);
+        verify(wsManager, never()).updateWorkspace(any(), any());
+    }
+
     @Test
     public void testWorkspaceLinks() throws Exception {
         // given
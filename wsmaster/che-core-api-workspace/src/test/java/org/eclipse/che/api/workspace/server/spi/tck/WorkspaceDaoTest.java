@@ -16,6 +16,7 @@ import com.google.common.collect.ImmutableMap;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.machine.server.model.impl.CommandImpl;
@@ -29,6 +30,7 @@ import org.eclipse.che.api.workspace.server.model.impl.ServerConf2Impl;
 import org.eclipse.che.api.workspace.server.model.impl.SourceStorageImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceSummaryImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
 import org.eclipse.che.commons.test.tck.TckListener;
 import org.eclipse.che.commons.test.tck.repository.TckRepository;
@@ -54,6 +56,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.che.api.workspace.server.WorkspaceManager.CREATED_ATTRIBUTE_NAME;
+import static org.eclipse.che.api.workspace.server.WorkspaceManager.UPDATED_ATTRIBUTE_NAME;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
@@ -247,6 +251,54 @@ public class WorkspaceDaoTest {
         workspaceDao.getWorkspaces(true, -2, 0);
     }
 
+    @Test
+    public void shouldGetSummariesPage() throws Exception {
+        final Page<WorkspaceSummaryImpl> page = workspaceDao.getSummaries("user", 2, 1);
+
+        assertEquals(page.getTotalItemsCount(), COUNT_OF_WORKSPACES);
+        assertEquals(page.getItems(), asList(asSummary(workspaces[1]), asSummary(workspaces[2])));
+    }
+
+    @Test
+    public void shouldGetSummariesByNamespace() throws Exception {
+        final Page<WorkspaceSummaryImpl> page = workspaceDao.getSummariesByNamespace(workspaces[2].getNamespace(), 30, 0);
+
+        assertEquals(page.getTotalItemsCount(), 2);
+        assertEquals(page.getItems(), asList(asSummary(workspaces[2]), asSummary(workspaces[3])));
+    }
+
+    @Test
+    public void shouldFillSummariesUpdateTimeFromWorkspaceAttributes() throws Exception {
+        final WorkspaceImpl updated = workspaces[0];
+        updated.getAttributes().put(CREATED_ATTRIBUTE_NAME, "100");
+        updated.getAttributes().put(UPDATED_ATTRIBUTE_NAME, "200");
+        workspaceDao.update(updated);
+        final WorkspaceImpl created = workspaces[1];
+        created.getAttributes().put(CREATED_ATTRIBUTE_NAME, "300");
+        workspaceDao.update(created);
+
+        final List<WorkspaceSummaryImpl> summaries = workspaceDao.getSummariesByNamespace(updated.getNamespace(), 30, 0).getItems();
+
+        assertEquals(summaries.size(), 2);
+        assertEquals(summaries.get(0).getUpdated(), 200);
+        assertEquals(summaries.get(1).getUpdated(), 300);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionOnNonPositiveSummariesLimit() throws Exception {
+        workspaceDao.getSummaries("user", 0, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionOnNegativeSummariesSkipCount() throws Exception {
+        workspaceDao.getSummariesByNamespace(workspaces[0].getNamespace(), 30, -1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowNpeWhenGettingSummariesByNullNamespace() throws Exception {
+        workspaceDao.getSummariesByNamespace(null, 30, 0);
+    }
+
     @Test
     public void shouldPublicRemoveWorkspaceEventAfterRemoveWorkspace() throws Exception {
         final boolean[] isNotified = new boolean[] {false};
@@ -567,6 +619,10 @@ public class WorkspaceDaoTest {
         return wCfg;
     }
 
+    private static WorkspaceSummaryImpl asSummary(WorkspaceImpl workspace) {
+        return new WorkspaceSummaryImpl(workspace.getId(), workspace.getConfig().getName(), workspace.getNamespace());
+    }
+
     public static WorkspaceImpl createWorkspace(String id, AccountImpl account, String name) {
         final WorkspaceConfigImpl wCfg = createWorkspaceConfig(name);
         // Workspace